@@ -293,6 +293,20 @@ public final class SessionHandler {
         }
     }
 
+    /**
+     * @param roomId
+     * @param sinceVersion
+     * @return null if the changes couldn't be fetched
+     */
+    public static TableChangesView getTableChanges(UUID roomId, long sinceVersion) {
+        try {
+            return session.getTableChanges(roomId, sinceVersion);
+        } catch (MageRemoteException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
     public static List<String> getServerMessages() {
         return session.getServerMessages();
     }
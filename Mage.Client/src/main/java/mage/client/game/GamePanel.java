@@ -119,6 +119,7 @@ public final class GamePanel extends javax.swing.JPanel {
     private boolean handCardsOfOpponentAvailable = false;
 
     private Map<String, Card> loadedCards = new HashMap<>();
+    private final GameViewDeltaDecoder gameViewDecoder = new GameViewDeltaDecoder();
 
     private int storedHeight;
     private Map<String, HoverButton> hoverButtons;
@@ -633,6 +634,23 @@ public final class GamePanel extends javax.swing.JPanel {
         this.pnlBattlefield.add(bottomPanel, panelC);
     }
 
+    /**
+     * Restores the game view of a game update. Has to be called in the order
+     * the updates were received, so it's called from the callback thread
+     * before the update is handed over to the EDT.
+     *
+     * @param update
+     * @return the game view or null if the update could not be applied (a
+     * full view is requested from the server)
+     */
+    public GameView applyGameViewDelta(GameViewDelta update) {
+        GameView gameView = gameViewDecoder.decode(update);
+        if (gameView == null && gameViewDecoder.isResyncNeeded()) {
+            SessionHandler.sendPlayerAction(PlayerAction.REQUEST_GAME_VIEW_RESYNC, gameId, null);
+        }
+        return gameView;
+    }
+
     public synchronized void updateGame(GameView game) {
         updateGame(game, null);
     }
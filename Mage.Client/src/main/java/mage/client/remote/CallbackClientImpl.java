@@ -71,6 +71,10 @@ public class CallbackClientImpl implements CallbackClient {
     public synchronized void processCallback(final ClientCallback callback) {
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
         callback.setData(CompressUtil.decompress(callback.getData()));
+        if (callback.getData() instanceof GameViewDelta) {
+            GamePanel panel = MageFrame.getGame(callback.getObjectId());
+            callback.setData(panel != null ? panel.applyGameViewDelta((GameViewDelta) callback.getData()) : null);
+        }
         SwingUtilities.invokeLater(() -> {
             try {
                 logger.debug(callback.getMessageId() + " -- " + callback.getMethod());
@@ -175,7 +179,7 @@ public class CallbackClientImpl implements CallbackClient {
                     }
                     case REPLAY_UPDATE: {
                         GamePanel panel = MageFrame.getGame(callback.getObjectId());
-                        if (panel != null) {
+                        if (panel != null && callback.getData() != null) {
                             panel.updateGame((GameView) callback.getData());
                         }
                         break;
@@ -273,7 +277,7 @@ public class CallbackClientImpl implements CallbackClient {
                     }
                     case GAME_UPDATE: {
                         GamePanel panel = MageFrame.getGame(callback.getObjectId());
-                        if (panel != null) {
+                        if (panel != null && callback.getData() != null) {
                             panel.updateGame((GameView) callback.getData());
                         }
                         break;
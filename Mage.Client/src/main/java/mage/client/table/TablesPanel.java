@@ -68,6 +68,7 @@ import mage.players.PlayerType;
 import mage.remote.MageRemoteException;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
+import mage.view.TableChangesView;
 import mage.view.TableView;
 import mage.view.UserRequestMessage;
 import org.apache.log4j.Logger;
@@ -1506,6 +1507,10 @@ class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
     private static final Logger logger = Logger.getLogger(UpdateTablesTask.class);
 
     private int count = 0;
+    // tables of the room, only the changes since the last version are fetched
+    private final Map<UUID, TableView> tables = new HashMap<>();
+    private java.util.List<UUID> tableIds = new ArrayList<>();
+    private long version = 0;
 
     UpdateTablesTask(UUID roomId, TablesPanel panel) {
 
@@ -1516,9 +1521,30 @@ class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
     @Override
     protected Void doInBackground() throws Exception {
         while (!isCancelled()) {
-            Collection<TableView> tables = SessionHandler.getTables(roomId);
-            if (tables != null) {
-                this.publish(tables);
+            TableChangesView changes = SessionHandler.getTableChanges(roomId, version);
+            if (changes != null) {
+                if (changes.isComplete()) {
+                    tables.clear();
+                }
+                for (TableView table : changes.getChangedTables()) {
+                    tables.put(table.getTableId(), table);
+                }
+                for (UUID tableId : changes.getRemovedTables()) {
+                    tables.remove(tableId);
+                }
+                version = changes.getVersion();
+                // a changed table may have moved, so the list follows the order of the server
+                if (changes.getTableIds() != null) {
+                    tableIds = changes.getTableIds();
+                }
+                java.util.List<TableView> sortedTables = new ArrayList<>(tables.size());
+                for (UUID tableId : tableIds) {
+                    TableView table = tables.get(tableId);
+                    if (table != null) {
+                        sortedTables.add(table);
+                    }
+                }
+                this.publish(sortedTables);
             }
             TimeUnit.SECONDS.sleep(3);
         }
@@ -114,6 +114,8 @@ public interface MageServer {
 
     List<TableView> getTables(UUID roomId) throws MageException;
 
+    TableChangesView getTableChanges(UUID roomId, long sinceVersion) throws MageException;
+
     //chat methods
     void sendChatMessage(UUID chatId, String userName, String message) throws MageException;
 
@@ -57,6 +57,7 @@ public class Connection {
     private boolean forceDBComparison;
     private String userIdStr;
     private int socketWriteTimeout;
+    private Transport transportType = Transport.BISOCKET;
 
     private UserData userData;
 
@@ -82,7 +83,7 @@ public class Connection {
 
     @Override
     public int hashCode() {
-        return (transport + host + Integer.toString(port) + proxyType.toString()).hashCode();
+        return (transportType.toString() + host + Integer.toString(port) + proxyType.toString()).hashCode();
     }
 
     @Override
@@ -121,6 +122,43 @@ public class Connection {
         this.proxyType = proxyType;
     }
 
+    public Transport getTransport() {
+        return transportType;
+    }
+
+    public void setTransport(Transport transportType) {
+        this.transportType = transportType;
+    }
+
+    /**
+     * Network transport between client and server, both sides have to use the
+     * same one.
+     */
+    public enum Transport {
+
+        BISOCKET("bisocket"), NIO("nio");
+
+        private final String text;
+
+        Transport(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+
+        public static Transport valueByText(String value) {
+            for (Transport type : values()) {
+                if (type.text.equals(value)) {
+                    return type;
+                }
+            }
+            return BISOCKET;
+        }
+    }
+
     public enum ProxyType {
 
         SOCKS("Socks"), HTTP("HTTP"), NONE("None");
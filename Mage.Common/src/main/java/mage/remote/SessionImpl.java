@@ -50,6 +50,7 @@ import mage.interfaces.ServerState;
 import mage.interfaces.callback.ClientCallback;
 import mage.players.PlayerType;
 import mage.players.net.UserData;
+import mage.remote.nio.NioClient;
 import mage.utils.CompressUtil;
 import mage.view.*;
 import org.apache.log4j.Logger;
@@ -77,6 +78,7 @@ public class SessionImpl implements Session {
     private String sessionId;
     private MageServer server;
     private Client callbackClient;
+    private NioClient nioClient;
     private CallbackHandler callbackHandler;
     private ServerState serverState;
     private SessionState sessionState = SessionState.DISCONNECTED;
@@ -170,7 +172,7 @@ public class SessionImpl implements Session {
 
     @Override
     public synchronized boolean register(final Connection connection) {
-        return establishJBossRemotingConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
+        return establishConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
             @Override
             public boolean run() throws Throwable {
                 logger.info("Trying to register as " + getUserName() + " to XMAGE server at " + connection.getHost() + ':' + connection.getPort());
@@ -186,7 +188,7 @@ public class SessionImpl implements Session {
 
     @Override
     public synchronized boolean emailAuthToken(final Connection connection) {
-        return establishJBossRemotingConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
+        return establishConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
             @Override
             public boolean run() throws Throwable {
                 logger.info("Trying to ask for an auth token to " + getEmail() + " to XMAGE server at " + connection.getHost() + ':' + connection.getPort());
@@ -201,7 +203,7 @@ public class SessionImpl implements Session {
 
     @Override
     public synchronized boolean resetPassword(final Connection connection) {
-        return establishJBossRemotingConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
+        return establishConnection(connection) && handleRemotingTaskExceptions(new RemotingTask() {
             @Override
             public boolean run() throws Throwable {
                 logger.info("Trying reset the password in XMAGE server at " + connection.getHost() + ':' + connection.getPort());
@@ -216,7 +218,7 @@ public class SessionImpl implements Session {
 
     @Override
     public synchronized boolean connect(final Connection connection) {
-        return establishJBossRemotingConnection(connection)
+        return establishConnection(connection)
                 && handleRemotingTaskExceptions(new RemotingTask() {
                     @Override
                     public boolean run() throws Throwable {
@@ -257,7 +259,7 @@ public class SessionImpl implements Session {
         return true;
     }
 
-    private boolean establishJBossRemotingConnection(final Connection connection) {
+    private boolean establishConnection(final Connection connection) {
         if (isConnected()) {
             disconnect(true);
         }
@@ -289,6 +291,10 @@ public class SessionImpl implements Session {
                         Authenticator.setDefault(new MageAuthenticator(connection.getProxyUsername(), connection.getProxyPassword()));
                         break;
                 }
+                if (connection.getTransport() == Connection.Transport.NIO) {
+                    return establishNioConnection(connection);
+                }
+                nioClient = null;
                 InvokerLocator clientLocator = new InvokerLocator(connection.getURI());
 
                 Map<String, String> metadata = new HashMap<>();
@@ -416,6 +422,16 @@ public class SessionImpl implements Session {
         return false;
     }
 
+    private boolean establishNioConnection(Connection connection) throws IOException {
+        callbackClient = null;
+        nioClient = new NioClient(new NioClientListener());
+        sessionId = nioClient.connect(connection.getHost(), connection.getPort(), connection.getSocketWriteTimeout());
+        server = nioClient.createProxy(MageServer.class);
+        sessionState = SessionState.CONNECTED;
+        logger.info("Connected to MAGE server at " + connection.getHost() + ':' + connection.getPort() + " (nio)");
+        return true;
+    }
+
     private void updateDatabase(boolean forceDBComparison, ServerState serverState) {
         long cardDBVersion = CardRepository.instance.getContentVersionFromDB();
         if (forceDBComparison || serverState.getCardsContentVersion() > cardDBVersion) {
@@ -485,9 +501,13 @@ public class SessionImpl implements Session {
         }
 
         try {
-            callbackClient.removeListener(callbackHandler);
-            callbackClient.disconnect();
-            TransporterClient.destroyTransporterClient(server);
+            if (nioClient != null) {
+                nioClient.disconnect();
+            } else {
+                callbackClient.removeListener(callbackHandler);
+                callbackClient.disconnect();
+                TransporterClient.destroyTransporterClient(server);
+            }
         } catch (Throwable ex) {
             logger.fatal("Error disconnecting ...", ex);
         }
@@ -541,8 +561,25 @@ public class SessionImpl implements Session {
         }
     }
 
+    class NioClientListener implements NioClient.Listener {
+
+        @Override
+        public void processCallback(ClientCallback callback) {
+            client.processCallback(callback);
+        }
+
+        @Override
+        public void connectionLost(Throwable cause) {
+            logger.info("connection to server lost - " + cause.getMessage(), cause);
+            reconnect(cause);
+        }
+    }
+
     @Override
     public boolean isConnected() {
+        if (nioClient != null) {
+            return nioClient.isConnected();
+        }
         if (callbackClient == null) {
             return false;
         }
@@ -736,6 +773,21 @@ public class SessionImpl implements Session {
         return new ArrayList<>();
     }
 
+    @Override
+    public TableChangesView getTableChanges(UUID roomId, long sinceVersion) throws MageRemoteException {
+        try {
+            if (isConnected()) {
+                return server.getTableChanges(roomId, sinceVersion);
+            }
+        } catch (MageException ex) {
+            handleMageException(ex);
+            throw new MageRemoteException();
+        } catch (Throwable t) {
+            handleThrowable(t);
+        }
+        return null;
+    }
+
     @Override
     public Collection<MatchView> getFinishedMatches(UUID roomId) throws MageRemoteException {
         try {
@@ -34,6 +34,7 @@ import java.util.UUID;
 import mage.remote.MageRemoteException;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
+import mage.view.TableChangesView;
 import mage.view.TableView;
 import mage.view.UserView;
 
@@ -52,6 +53,14 @@ public interface ServerState {
 
     Collection<TableView> getTables(UUID roomId) throws MageRemoteException;
 
+    /**
+     * @param roomId
+     * @param sinceVersion version of the last changes, 0 for all tables
+     * @return null if not connected
+     * @throws MageRemoteException
+     */
+    TableChangesView getTableChanges(UUID roomId, long sinceVersion) throws MageRemoteException;
+
     Collection<MatchView> getFinishedMatches(UUID roomId) throws MageRemoteException;
 
     String getVersionInfo();
@@ -0,0 +1,254 @@
+package mage.remote.nio;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import mage.interfaces.callback.ClientCallback;
+import mage.remote.MageRemoteException;
+import org.apache.log4j.Logger;
+
+/**
+ * Client side of the NIO transport: one socket for the requests, the responses
+ * and the callbacks of the session.
+ *
+ * The client only has one connection, so it uses blocking I/O with a reader
+ * thread. The callbacks are handed to the listener in the order they were sent
+ * by the server.
+ */
+public class NioClient {
+
+    private static final Logger logger = Logger.getLogger(NioClient.class);
+
+    public interface Listener {
+
+        void processCallback(ClientCallback callback);
+
+        void connectionLost(Throwable cause);
+    }
+
+    private final Listener listener;
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private final AtomicLong nextRequestId = new AtomicLong();
+    private final ConcurrentHashMap<Long, CompletableFuture<NioResponse>> pendingRequests = new ConcurrentHashMap<>();
+
+    private Socket socket;
+    private DataInputStream in;
+    private DataOutputStream out;
+    private long lastSent; // guarded by out
+    private ExecutorService callbackExecutor;
+    private ScheduledExecutorService heartbeatExecutor;
+
+    public NioClient(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @param host
+     * @param port
+     * @param timeout connect timeout in milliseconds
+     * @return the session id assigned by the server
+     * @throws IOException
+     */
+    public synchronized String connect(String host, int port, int timeout) throws IOException {
+        socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(host, port), timeout);
+            socket.setSoTimeout(NioProtocol.IDLE_TIMEOUT);
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            Object handshake = readMessage();
+            if (!(handshake instanceof NioHandshake)) {
+                throw new IOException("Unexpected first message of the server: " + handshake.getClass().getName());
+            }
+            lastSent = System.currentTimeMillis();
+            connected.set(true);
+            callbackExecutor = Executors.newSingleThreadExecutor(daemonThreads("NIO CALLBACK"));
+            heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreads("NIO HEARTBEAT"));
+            heartbeatExecutor.scheduleWithFixedDelay(this::sendHeartbeat,
+                    NioProtocol.HEARTBEAT_INTERVAL, NioProtocol.HEARTBEAT_INTERVAL, TimeUnit.MILLISECONDS);
+            daemonThreads("NIO READER").newThread(this::readMessages).start();
+            return ((NioHandshake) handshake).getSessionId();
+        } catch (IOException ex) {
+            socket.close();
+            throw ex;
+        }
+    }
+
+    public boolean isConnected() {
+        return connected.get();
+    }
+
+    public void disconnect() {
+        close(new IOException("Connection closed"));
+    }
+
+    /**
+     * @param <T>
+     * @param serverInterface
+     * @return proxy that invokes the methods of the interface on the server
+     */
+    public <T> T createProxy(Class<T> serverInterface) {
+        return serverInterface.cast(Proxy.newProxyInstance(serverInterface.getClassLoader(),
+                new Class<?>[]{serverInterface}, this::invoke));
+    }
+
+    private Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "NIO proxy of " + proxy.getClass().getInterfaces()[0].getName();
+            }
+        }
+        long requestId = nextRequestId.incrementAndGet();
+        CompletableFuture<NioResponse> future = new CompletableFuture<>();
+        pendingRequests.put(requestId, future);
+        NioResponse response;
+        try {
+            if (!connected.get()) {
+                throw new IOException("Not connected");
+            }
+            send(NioProtocol.encodeFrame(new NioRequest(requestId, NioProtocol.getMethodKey(method), args)));
+            response = future.get(NioProtocol.REQUEST_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        } catch (TimeoutException ex) {
+            logger.warn("No response of the server for " + method.getName() + " within " + NioProtocol.REQUEST_TIMEOUT + " ms");
+            throw new MageRemoteException();
+        } finally {
+            pendingRequests.remove(requestId);
+        }
+        if (response.getException() != null) {
+            throw response.getException();
+        }
+        return response.getResult();
+    }
+
+    private void send(ByteBuffer frame) throws IOException {
+        try {
+            synchronized (out) {
+                out.write(frame.array(), frame.arrayOffset() + frame.position(), frame.remaining());
+                out.flush();
+                lastSent = System.currentTimeMillis();
+            }
+        } catch (IOException ex) {
+            connectionLost(ex);
+            throw ex;
+        }
+    }
+
+    private void sendHeartbeat() {
+        try {
+            synchronized (out) {
+                if (System.currentTimeMillis() - lastSent >= NioProtocol.HEARTBEAT_INTERVAL) {
+                    out.writeInt(0);
+                    out.flush();
+                    lastSent = System.currentTimeMillis();
+                }
+            }
+        } catch (IOException ex) {
+            connectionLost(ex);
+        }
+    }
+
+    private Object readMessage() throws IOException {
+        while (true) {
+            int length = in.readInt();
+            if (length == 0) {
+                // heartbeat
+                continue;
+            }
+            if (length < 0 || length > NioProtocol.MAX_FRAME_SIZE) {
+                throw new IOException("Invalid frame length " + length);
+            }
+            byte[] data = new byte[length];
+            in.readFully(data);
+            return NioProtocol.decodeMessage(data);
+        }
+    }
+
+    private void readMessages() {
+        try {
+            while (connected.get()) {
+                Object message = readMessage();
+                if (message instanceof NioResponse) {
+                    NioResponse response = (NioResponse) message;
+                    CompletableFuture<NioResponse> future = pendingRequests.remove(response.getRequestId());
+                    if (future != null) {
+                        future.complete(response);
+                    }
+                } else if (message instanceof ClientCallback) {
+                    ClientCallback callback = (ClientCallback) message;
+                    callbackExecutor.execute(() -> {
+                        try {
+                            listener.processCallback(callback);
+                        } catch (Exception ex) {
+                            logger.error("Error processing callback " + callback.getMethod(), ex);
+                        }
+                    });
+                } else {
+                    logger.warn("Unexpected message of the server: " + message.getClass().getName());
+                }
+            }
+        } catch (IOException ex) {
+            connectionLost(ex);
+        }
+    }
+
+    private void connectionLost(IOException cause) {
+        if (close(cause)) {
+            listener.connectionLost(cause);
+        }
+    }
+
+    /**
+     * @param cause
+     * @return true if the connection was open
+     */
+    private boolean close(IOException cause) {
+        if (!connected.compareAndSet(true, false)) {
+            return false;
+        }
+        try {
+            socket.close();
+        } catch (IOException ex) {
+            logger.debug("Error closing socket", ex);
+        }
+        heartbeatExecutor.shutdownNow();
+        callbackExecutor.shutdown();
+        for (CompletableFuture<NioResponse> future : pendingRequests.values()) {
+            future.completeExceptionally(cause);
+        }
+        return true;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package mage.remote.nio;
+
+import java.io.Serializable;
+
+/**
+ * First message of the server on a new connection.
+ */
+public class NioHandshake implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String sessionId;
+
+    public NioHandshake(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+}
@@ -0,0 +1,96 @@
+package mage.remote.nio;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import mage.remote.traffic.CompactSerialization;
+
+/**
+ * Wire format of the NIO transport, an alternative to the JBoss Remoting
+ * bisocket transport.
+ *
+ * Client and server exchange frames over one TCP connection: a 4 byte length
+ * followed by the message in the form of {@link CompactSerialization}. A frame
+ * of length 0 is a heartbeat. The server starts with a {@link NioHandshake},
+ * then the client sends {@link NioRequest}s and the server answers with
+ * {@link NioResponse}s and pushes the callbacks of the session
+ * ({@link mage.interfaces.callback.ClientCallback}) in between.
+ */
+public final class NioProtocol {
+
+    public static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    // limit of the frames the server accepts before the user or admin is connected
+    public static final int MAX_LOGIN_FRAME_SIZE = 64 * 1024;
+
+    // the client gives up waiting for a response after this time, longer than
+    // the idle timeout because some requests (e.g. card data) can take a while
+    public static final int REQUEST_TIMEOUT = 120000;
+
+    // both sides send a heartbeat if they had nothing to send for this time
+    public static final int HEARTBEAT_INTERVAL = 10000;
+
+    // the connection is closed if nothing was received for this time
+    public static final int IDLE_TIMEOUT = 45000;
+
+    private static final int HEADER_SIZE = 4;
+
+    private NioProtocol() {
+    }
+
+    /**
+     * @param method
+     * @return the name of the method in the requests, unique also for
+     * overloaded methods
+     */
+    public static String getMethodKey(Method method) {
+        StringBuilder sb = new StringBuilder(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(parameterTypes[i].getName());
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * @param message
+     * @return the frame with the message ready to be written
+     * @throws IOException if the message can't be serialized
+     */
+    public static ByteBuffer encodeFrame(Object message) throws IOException {
+        byte[] data = CompactSerialization.serialize(message);
+        if (data == null) {
+            throw new IOException("Can't serialize " + message.getClass().getName());
+        }
+        if (data.length > MAX_FRAME_SIZE) {
+            throw new IOException("Message too big: " + message.getClass().getName() + ' ' + data.length + " bytes");
+        }
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_SIZE + data.length);
+        frame.putInt(data.length).put(data);
+        frame.flip();
+        return frame;
+    }
+
+    public static ByteBuffer createHeartbeatFrame() {
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_SIZE);
+        frame.putInt(0);
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * @param data message of a frame
+     * @return the message
+     * @throws IOException if the message can't be deserialized
+     */
+    public static Object decodeMessage(byte[] data) throws IOException {
+        Object message = CompactSerialization.deserialize(data);
+        if (message == null) {
+            throw new IOException("Can't deserialize message of " + data.length + " bytes");
+        }
+        return message;
+    }
+}
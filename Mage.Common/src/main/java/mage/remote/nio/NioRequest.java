@@ -0,0 +1,38 @@
+package mage.remote.nio;
+
+import java.io.Serializable;
+
+/**
+ * Call of a server method by the client.
+ */
+public class NioRequest implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long requestId;
+    private final String method;
+    private final Object[] arguments;
+
+    /**
+     * @param requestId
+     * @param method see {@link NioProtocol#getMethodKey}
+     * @param arguments
+     */
+    public NioRequest(long requestId, String method, Object[] arguments) {
+        this.requestId = requestId;
+        this.method = method;
+        this.arguments = arguments;
+    }
+
+    public long getRequestId() {
+        return requestId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public Object[] getArguments() {
+        return arguments;
+    }
+}
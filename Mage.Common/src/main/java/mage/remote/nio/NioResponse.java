@@ -0,0 +1,34 @@
+package mage.remote.nio;
+
+import java.io.Serializable;
+
+/**
+ * Result of a {@link NioRequest}, either the return value of the server method
+ * or the exception it has thrown.
+ */
+public class NioResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long requestId;
+    private final Object result;
+    private final Throwable exception;
+
+    public NioResponse(long requestId, Object result, Throwable exception) {
+        this.requestId = requestId;
+        this.result = result;
+        this.exception = exception;
+    }
+
+    public long getRequestId() {
+        return requestId;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+    public Throwable getException() {
+        return exception;
+    }
+}
@@ -0,0 +1,36 @@
+package mage.remote.traffic;
+
+import java.io.Serializable;
+
+/**
+ * Wraps an object in the {@link CompactSerialization} form, so the transport
+ * only has to copy the bytes.
+ */
+public class CompactObject<T> implements ZippedObject<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private byte[] data;
+
+    public CompactObject(T object) {
+        zip(object);
+    }
+
+    @Override
+    public void zip(T object) {
+        data = CompactSerialization.serialize(object);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T unzip() {
+        return data == null ? null : (T) CompactSerialization.deserialize(data);
+    }
+
+    /**
+     * @return false if the object could not be serialized
+     */
+    public boolean hasData() {
+        return data != null;
+    }
+}
@@ -0,0 +1,128 @@
+package mage.remote.traffic;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import mage.cards.repository.PluginClassloaderRegistery;
+import mage.util.FastByteArrayOutputStream;
+import org.apache.log4j.Logger;
+
+/**
+ * Compact binary form of the objects sent between server and client.
+ *
+ * It's Java serialization with two changes:
+ * <ul>
+ * <li>class descriptors are written as class name only, the fields (the
+ * schema) are taken from the local class. Server and client have to use the
+ * same version of the classes, which is checked at connect anyway.</li>
+ * <li>equal strings and UUIDs are written once and referenced after that (e.g.
+ * rule texts of cards with the same name, player and card ids in the
+ * views).</li>
+ * </ul>
+ * Every call encodes an independent message without state shared between
+ * messages, so lost or reordered callbacks can't break the decoding.
+ */
+public final class CompactSerialization {
+
+    private static final Logger logger = Logger.getLogger(CompactSerialization.class);
+
+    private CompactSerialization() {
+    }
+
+    /**
+     * @param object
+     * @return the encoded object or null if it can't be serialized
+     */
+    public static byte[] serialize(Object object) {
+        try {
+            FastByteArrayOutputStream fbos = new FastByteArrayOutputStream();
+            try (ObjectOutputStream out = new CompactObjectOutputStream(fbos)) {
+                out.writeObject(object);
+            }
+            byte[] data = new byte[fbos.getSize()];
+            System.arraycopy(fbos.getByteArray(), 0, data, 0, fbos.getSize());
+            return data;
+        } catch (IOException ex) {
+            logger.error("Can't serialize " + object.getClass().getName(), ex);
+            return null;
+        }
+    }
+
+    /**
+     * @param data
+     * @return the decoded object or null if it can't be deserialized
+     */
+    public static Object deserialize(byte[] data) {
+        try (ObjectInputStream in = new CompactObjectInputStream(new ByteArrayInputStream(data))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException ex) {
+            logger.error("Can't deserialize object", ex);
+            return null;
+        }
+    }
+
+    private static final class CompactObjectOutputStream extends ObjectOutputStream {
+
+        private final Map<Object, Object> interned = new HashMap<>();
+
+        CompactObjectOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+            writeUTF(desc.getName());
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (obj instanceof String || obj instanceof UUID) {
+                Object first = interned.putIfAbsent(obj, obj);
+                if (first != null) {
+                    return first;
+                }
+            }
+            return obj;
+        }
+    }
+
+    private static final class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            String name = readUTF();
+            ObjectStreamClass desc = ObjectStreamClass.lookup(forName(name));
+            if (desc == null) {
+                throw new InvalidClassException(name, "class is not serializable");
+            }
+            return desc;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            return forName(desc.getName());
+        }
+
+        private static Class<?> forName(String name) throws ClassNotFoundException {
+            try {
+                return Class.forName(name, false, CompactSerialization.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                // classes of custom sets are only known by their plugin classloaders
+                return PluginClassloaderRegistery.forName(name);
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package mage.utils;
 
+import mage.remote.traffic.CompactObject;
 import mage.remote.traffic.ZippedObject;
 import mage.remote.traffic.ZippedObjectImpl;
+import mage.view.GameViewDelta;
 
 /**
  * Helps to compress and decompress data if needed.
@@ -57,4 +59,24 @@ public final class CompressUtil {
         }
         return null;
     }
+
+    /**
+     * Encodes data in the compact binary form (see
+     * {@link mage.remote.traffic.CompactSerialization}), restored by
+     * decompress. A game view update is encoded only once, all callbacks that
+     * send the same update object share the encoded form.
+     *
+     * @param data Data to encode
+     * @return Encoded object or the original object if it's not worth or
+     * possible to encode it
+     */
+    public static Object compact(Object data) {
+        if (data == null || !compressData || data instanceof ZippedObject || data instanceof String) {
+            return data;
+        }
+        CompactObject<?> compact = data instanceof GameViewDelta
+                ? ((GameViewDelta) data).getCompact()
+                : new CompactObject<>(data);
+        return compact.hasData() ? compact : data;
+    }
 }
@@ -41,7 +41,7 @@ public class MageVersion implements Serializable, Comparable<MageVersion> {
     public final static int MAGE_VERSION_MAJOR = 1;
     public final static int MAGE_VERSION_MINOR = 4;
     public final static int MAGE_VERSION_PATCH = 27;
-    public final static String MAGE_VERSION_MINOR_PATCH = "V4";
+    public final static String MAGE_VERSION_MINOR_PATCH = "V5";
     public final static String MAGE_VERSION_INFO = "";
 
     private final int major;
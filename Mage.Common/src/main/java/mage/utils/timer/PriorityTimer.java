@@ -3,6 +3,8 @@ package mage.utils.timer;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import mage.MageException;
 import mage.interfaces.Action;
 import org.apache.log4j.Logger;
@@ -20,6 +22,8 @@ public class PriorityTimer extends TimerTask {
     private int count;
     private Action taskOnTick;
     private States state = States.NONE;
+    private Timer timer;
+    private ScheduledFuture<?> wheelTimeout;
 
     enum States {
         NONE,
@@ -37,11 +41,22 @@ public class PriorityTimer extends TimerTask {
 
     public void init(UUID gameId) {
         state = States.INIT;
-        Timer timer = new Timer("Priority Timer-" + gameId.toString(), false);
+        timer = new Timer("Priority Timer-" + gameId.toString(), false);
         long delayMs = delay * (int) (1000L / delay);
         timer.scheduleAtFixedRate(this, delayMs, delayMs);
     }
 
+    /**
+     * Runs the timer on a shared timing wheel instead of an own thread.
+     *
+     * @param timingWheel
+     */
+    public void init(TimingWheel timingWheel) {
+        state = States.INIT;
+        long delayMs = delay * (int) (1000L / delay);
+        wheelTimeout = timingWheel.scheduleAtFixedRate(this, delayMs, delayMs, TimeUnit.MILLISECONDS);
+    }
+
     public void start() {
         if (state == States.NONE) {
             throw new IllegalStateException("Timer should have been initialized first");
@@ -80,6 +95,19 @@ public class PriorityTimer extends TimerTask {
         this.taskOnTick = taskOnTick;
     }
 
+    @Override
+    public boolean cancel() {
+        boolean cancelled = super.cancel();
+        if (wheelTimeout != null) {
+            wheelTimeout.cancel(false);
+        }
+        if (timer != null) {
+            // ends the thread of the timer
+            timer.cancel();
+        }
+        return cancelled;
+    }
+
     @Override
     public void run() {
         if (state == States.RUNNING) {
@@ -0,0 +1,254 @@
+package mage.utils.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.log4j.Logger;
+
+/**
+ * Hashed timing wheel: one thread for any number of timers, scheduling and
+ * cancelling a timer is O(1).
+ *
+ * The wheel is an array of buckets, the hand moves one bucket per tick. A
+ * timer is put into the bucket of its deadline and counts the rounds of the
+ * hand until it is due, so the timers are only as exact as a tick. Due timers
+ * are run by the given executor, the wheel thread only moves the hand.
+ * Cancelled timers are removed when the hand passes their bucket.
+ *
+ * The returned futures work like the ones of a ScheduledExecutorService
+ * (cancel, getDelay, isDone). A periodic timer is scheduled again after its
+ * run, so the runs of a timer never overlap.
+ */
+public class TimingWheel {
+
+    private static final Logger logger = Logger.getLogger(TimingWheel.class);
+
+    private final long tickNanos;
+    private final List<WheelTask>[] buckets;
+    private final int mask;
+    private final Executor executor;
+    private final Thread worker;
+    // timers added by other threads, the wheel thread moves them into the buckets
+    private final Queue<WheelTask> newTasks = new ConcurrentLinkedQueue<>();
+    private final long startTime;
+    private long tick;
+    private volatile boolean stopped;
+
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder tickLagNanos = new LongAdder();
+    private final AtomicLong maxTickLagNanos = new AtomicLong();
+
+    /**
+     * @param name name of the wheel thread
+     * @param tickDuration precision of the timers
+     * @param unit
+     * @param wheelSize number of buckets, rounded up to a power of two
+     * @param executor runs the due timers
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, Executor executor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.mask = size - 1;
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::work, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return add(new WheelTask(task, System.nanoTime() + unit.toNanos(delay), 0));
+    }
+
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be greater than 0");
+        }
+        return add(new WheelTask(task, System.nanoTime() + unit.toNanos(initialDelay), unit.toNanos(period)));
+    }
+
+    private WheelTask add(WheelTask task) {
+        if (stopped) {
+            throw new RejectedExecutionException("Timing wheel is stopped");
+        }
+        task.queued.set(true);
+        scheduled.incrementAndGet();
+        newTasks.add(task);
+        return task;
+    }
+
+    /**
+     * Stops the wheel thread, the timers that are not due yet are not run.
+     */
+    public void stop() {
+        stopped = true;
+        worker.interrupt();
+    }
+
+    /**
+     * @return number of timers waiting to be due
+     */
+    public int getScheduledCount() {
+        return scheduled.get();
+    }
+
+    /**
+     * @return number of timers that were due and run
+     */
+    public long getExpiredCount() {
+        return expired.sum();
+    }
+
+    /**
+     * @return average time in ms the ticks were later than planned
+     */
+    public double getAverageTickLag() {
+        long tickCount = ticks.sum();
+        return tickCount == 0 ? 0 : tickLagNanos.sum() / 1e6 / tickCount;
+    }
+
+    /**
+     * @return maximal time in ms a tick was later than planned
+     */
+    public double getMaxTickLag() {
+        return maxTickLagNanos.get() / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return "buckets: " + buckets.length + ", tick: " + TimeUnit.NANOSECONDS.toMillis(tickNanos) + " ms"
+                + ", scheduled: " + getScheduledCount() + ", expired: " + getExpiredCount()
+                + String.format(", tick lag avg: %.1f ms, max: %.1f ms", getAverageTickLag(), getMaxTickLag());
+    }
+
+    private void work() {
+        while (!stopped) {
+            long tickTime = startTime + (tick + 1) * tickNanos;
+            long sleepNanos = tickTime - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException ex) {
+                    continue;
+                }
+            }
+            long now = System.nanoTime();
+            long lag = Math.max(0, now - tickTime);
+            ticks.increment();
+            tickLagNanos.add(lag);
+            if (lag > maxTickLagNanos.get()) {
+                maxTickLagNanos.set(lag);
+            }
+            tick++;
+            try {
+                transferNewTasks();
+                expireBucket(buckets[(int) (tick & mask)]);
+            } catch (Throwable t) {
+                logger.error("Timing wheel error", t);
+            }
+        }
+    }
+
+    private void transferNewTasks() {
+        WheelTask task;
+        while ((task = newTasks.poll()) != null) {
+            if (task.isCancelled()) {
+                continue;
+            }
+            // ticks since the start until the deadline, a timer that is already due goes to the current bucket
+            long deadlineTick = Math.max(tick, (task.deadline - startTime + tickNanos - 1) / tickNanos);
+            task.remainingRounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(task);
+        }
+    }
+
+    private void expireBucket(List<WheelTask> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            WheelTask task = bucket.get(i);
+            if (task.isCancelled()) {
+                continue;
+            }
+            if (task.remainingRounds > 0) {
+                task.remainingRounds--;
+                bucket.set(kept++, task);
+                continue;
+            }
+            if (task.queued.compareAndSet(true, false)) {
+                scheduled.decrementAndGet();
+                expired.increment();
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException ex) {
+                    logger.error("Timing wheel couldn't run a timer", ex);
+                }
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    private final class WheelTask extends FutureTask<Object> implements ScheduledFuture<Object> {
+
+        private final long period;
+        private volatile long deadline;
+        private final AtomicBoolean queued = new AtomicBoolean();
+        // only used by the wheel thread
+        private long remainingRounds;
+
+        private WheelTask(Runnable task, long deadline, long period) {
+            super(task, null);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (runAndReset() && !stopped) {
+                deadline += period;
+                add(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && queued.compareAndSet(true, false)) {
+                scheduled.decrementAndGet();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package mage.view;
+
+import java.io.Serializable;
+import mage.remote.traffic.CompactObject;
+import mage.util.ByteArrayDelta;
+
+/**
+ * Game update sent to the client instead of a full {@link GameView}.
+ *
+ * Contains the serialized game view either completely (full view) or as a
+ * binary delta against the view of the base version that was sent to the same
+ * client before. The client has to request a resync (full view) if it does not
+ * have the base version.
+ *
+ * @see GameViewDeltaEncoder
+ * @see GameViewDeltaDecoder
+ */
+public class GameViewDelta implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int NO_BASE_VERSION = 0;
+
+    private final int version;
+    private final int baseVersion;
+    private final byte[] data;
+    // encoded once for all sessions that send this update (e.g. the shared watcher view)
+    private transient CompactObject<GameViewDelta> compact;
+
+    public GameViewDelta(int version, int baseVersion, byte[] data) {
+        this.version = version;
+        this.baseVersion = baseVersion;
+        this.data = data;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getBaseVersion() {
+        return baseVersion;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * @return this update in the compact form that is sent to the clients
+     */
+    public synchronized CompactObject<GameViewDelta> getCompact() {
+        if (compact == null) {
+            compact = new CompactObject<>(this);
+        }
+        return compact;
+    }
+
+    public boolean isFullView() {
+        return baseVersion == NO_BASE_VERSION;
+    }
+
+    /**
+     * Merges two consecutive updates into one, used if the first update was
+     * not sent yet when the second one was created.
+     *
+     * @param first
+     * @param second
+     * @return the update from the base of the first update to the version of
+     * the second update or null if the second update is not based on the first
+     * one
+     */
+    public static GameViewDelta merge(GameViewDelta first, GameViewDelta second) {
+        if (second.isFullView()) {
+            return second;
+        }
+        if (second.baseVersion != first.version) {
+            return null;
+        }
+        if (first.isFullView()) {
+            return new GameViewDelta(second.version, NO_BASE_VERSION, ByteArrayDelta.decode(first.data, second.data));
+        }
+        return new GameViewDelta(second.version, first.baseVersion, ByteArrayDelta.compose(first.data, second.data));
+    }
+}
@@ -0,0 +1,61 @@
+package mage.view;
+
+import mage.remote.traffic.CompactSerialization;
+import mage.util.ByteArrayDelta;
+import org.apache.log4j.Logger;
+
+/**
+ * Client side of the game update protocol: restores the game views from the
+ * updates of the {@link GameViewDeltaEncoder} of the server.
+ */
+public class GameViewDeltaDecoder {
+
+    private static final Logger logger = Logger.getLogger(GameViewDeltaDecoder.class);
+
+    // request the resync again if the requested full view does not arrive
+    private static final int RESYNC_RETRY_UPDATES = 10;
+
+    private byte[] lastReceived;
+    private int version = GameViewDelta.NO_BASE_VERSION;
+    private int failedUpdates;
+
+    /**
+     * @param update
+     * @return the game view or null if the update is a delta against a version
+     * this client does not have (a resync has to be requested)
+     */
+    public synchronized GameView decode(GameViewDelta update) {
+        byte[] data;
+        if (update.isFullView()) {
+            data = update.getData();
+        } else if (lastReceived != null && update.getBaseVersion() == version) {
+            data = ByteArrayDelta.decode(lastReceived, update.getData());
+        } else {
+            logger.debug("Game view version " + update.getBaseVersion() + " not available (last version is " + version + ')');
+            return failed();
+        }
+        GameView gameView = (GameView) CompactSerialization.deserialize(data);
+        if (gameView == null) {
+            return failed();
+        }
+        lastReceived = data;
+        version = update.getVersion();
+        failedUpdates = 0;
+        return gameView;
+    }
+
+    /**
+     * @return true if the last update could not be decoded and the client has
+     * to request a full view from the server
+     */
+    public synchronized boolean isResyncNeeded() {
+        return failedUpdates == 1 || (failedUpdates > 0 && failedUpdates % RESYNC_RETRY_UPDATES == 0);
+    }
+
+    private GameView failed() {
+        // later deltas can't be applied either
+        lastReceived = null;
+        failedUpdates++;
+        return null;
+    }
+}
@@ -0,0 +1,65 @@
+package mage.view;
+
+import mage.remote.traffic.CompactSerialization;
+import mage.util.ByteArrayDelta;
+
+/**
+ * Server side of the game update protocol of one client: remembers the last
+ * game view sent and encodes the next views as deltas against it.
+ */
+public class GameViewDeltaEncoder {
+
+    private byte[] lastSent;
+    private int version = GameViewDelta.NO_BASE_VERSION;
+
+    /**
+     * Encodes the view as delta against the last encoded view, or as full view
+     * if there is no last view or the delta would not be smaller.
+     *
+     * @param gameView
+     * @return update to send or null if the view could not be serialized
+     */
+    public synchronized GameViewDelta encode(GameView gameView) {
+        byte[] data = CompactSerialization.serialize(gameView);
+        if (data == null) {
+            return null;
+        }
+        int baseVersion = version;
+        version++;
+        if (version == GameViewDelta.NO_BASE_VERSION) {
+            version++;
+        }
+        GameViewDelta update = null;
+        if (lastSent != null) {
+            byte[] delta = ByteArrayDelta.encode(lastSent, data);
+            if (delta.length < data.length) {
+                update = new GameViewDelta(version, baseVersion, delta);
+            }
+        }
+        if (update == null) {
+            update = new GameViewDelta(version, GameViewDelta.NO_BASE_VERSION, data);
+        }
+        lastSent = data;
+        return update;
+    }
+
+    /**
+     * @return the last encoded view as full view with its version (for clients
+     * that don't have the base version of the last update) or null if no view
+     * was encoded yet
+     */
+    public synchronized GameViewDelta getFullView() {
+        if (lastSent == null) {
+            return null;
+        }
+        return new GameViewDelta(version, GameViewDelta.NO_BASE_VERSION, lastSent);
+    }
+
+    /**
+     * Forgets the last sent view, so the next view is sent as full view (e.g.
+     * if the client missed an update).
+     */
+    public synchronized void reset() {
+        lastSent = null;
+    }
+}
@@ -32,6 +32,7 @@ import mage.players.PlayerType;
 import mage.players.net.UserData;
 
 import java.io.Serializable;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -111,4 +112,28 @@ public class SeatView implements Serializable {
     public int getLimitedRating() {
         return limitedRating;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SeatView)) {
+            return false;
+        }
+        SeatView other = (SeatView) obj;
+        return generalRating == other.generalRating
+                && constructedRating == other.constructedRating
+                && limitedRating == other.limitedRating
+                && Objects.equals(playerId, other.playerId)
+                && Objects.equals(playerName, other.playerName)
+                && playerType == other.playerType
+                && Objects.equals(flagName, other.flagName)
+                && Objects.equals(history, other.history);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerId, playerName, playerType);
+    }
 }
@@ -0,0 +1,66 @@
+package mage.view;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Changes of the tables of a room since a version of the client.
+ *
+ * If the server doesn't know all changes since the version of the client
+ * (e.g. first request or server restart), the changes are complete: the
+ * changed tables are all tables of the room and the client has to drop the
+ * tables it had before.
+ *
+ * The client keeps the order of the room with the ids of all tables, the
+ * changed tables alone don't tell where a table moved to.
+ */
+public class TableChangesView implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long version;
+    private final boolean complete;
+    private final List<TableView> changedTables;
+    private final List<UUID> removedTables;
+    private final List<UUID> tableIds;
+
+    public TableChangesView(long version, boolean complete, List<TableView> changedTables, List<UUID> removedTables, List<UUID> tableIds) {
+        this.version = version;
+        this.complete = complete;
+        this.changedTables = changedTables;
+        this.removedTables = removedTables;
+        this.tableIds = tableIds;
+    }
+
+    /**
+     * @return version of the tables, the client asks for the changes since
+     * this version next time
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return new and changed tables, sorted like the tables of the room
+     */
+    public List<TableView> getChangedTables() {
+        return changedTables;
+    }
+
+    public List<UUID> getRemovedTables() {
+        return removedTables;
+    }
+
+    /**
+     * @return ids of all tables, sorted like the tables of the room, null if
+     * the tables and their order didn't change since the version of the client
+     */
+    public List<UUID> getTableIds() {
+        return tableIds;
+    }
+}
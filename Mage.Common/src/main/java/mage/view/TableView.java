@@ -31,6 +31,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import mage.constants.SkillLevel;
 import mage.constants.TableState;
@@ -256,4 +257,41 @@ public class TableView implements Serializable {
     public boolean isPassworded() {
         return passworded;
     }
+
+    /**
+     * Views are equal if the table looks the same in the client, used to
+     * send only the changed tables.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TableView)) {
+            return false;
+        }
+        TableView other = (TableView) obj;
+        return isTournament == other.isTournament
+                && limited == other.limited
+                && rated == other.rated
+                && passworded == other.passworded
+                && tableState == other.tableState
+                && skillLevel == other.skillLevel
+                && Objects.equals(tableId, other.tableId)
+                && Objects.equals(gameType, other.gameType)
+                && Objects.equals(deckType, other.deckType)
+                && Objects.equals(tableName, other.tableName)
+                && Objects.equals(controllerName, other.controllerName)
+                && Objects.equals(additionalInfo, other.additionalInfo)
+                && Objects.equals(createTime, other.createTime)
+                && Objects.equals(tableStateText, other.tableStateText)
+                && Objects.equals(quitRatio, other.quitRatio)
+                && Objects.equals(seats, other.seats)
+                && Objects.equals(games, other.games);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableId, tableState, tableStateText);
+    }
 }
@@ -48,8 +48,9 @@ public class UserView implements Serializable {
     private final String clientVersion;
     private final String email;
     private final String userIdStr;
+    private final String callbackInfo;
 
-    public UserView(String userName, String host, String sessionId, Date timeConnected, Date lastActivity, String gameInfo, String userState, Date muteChatUntil, String clientVersion, String email, String userIdStr) {
+    public UserView(String userName, String host, String sessionId, Date timeConnected, Date lastActivity, String gameInfo, String userState, Date muteChatUntil, String clientVersion, String email, String userIdStr, String callbackInfo) {
         this.userName = userName;
         this.host = host;
         this.sessionId = sessionId;
@@ -61,6 +62,7 @@ public class UserView implements Serializable {
         this.clientVersion = clientVersion;
         this.email = email;
         this.userIdStr = userIdStr;
+        this.callbackInfo = callbackInfo;
     }
 
     public String getUserName() {
@@ -106,4 +108,8 @@ public class UserView implements Serializable {
     public String getUserIdStr() {
         return userIdStr;
     }
+
+    public String getCallbackInfo() {
+        return callbackInfo;
+    }
 }
@@ -40,9 +40,8 @@ import java.util.Scanner;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -83,6 +82,7 @@ import mage.target.Target;
 import mage.target.TargetCard;
 import mage.target.Targets;
 import mage.util.RandomUtil;
+import mage.util.StateHash;
 import org.apache.log4j.Logger;
 
 /**
@@ -92,10 +92,13 @@ import org.apache.log4j.Logger;
 public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
 
     private static final Logger logger = Logger.getLogger(ComputerPlayer6.class);
-    private static final ExecutorService pool = Executors.newFixedThreadPool(1);
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThink;
+    // end of the current search in milliseconds
+    protected long searchDeadline;
+    // results of searched states, kept over the searches of the player
+    protected transient TranspositionTable transpositions;
     protected LinkedList<Ability> actions = new LinkedList<>();
     protected List<UUID> targets = new ArrayList<>();
     protected List<String> choices = new ArrayList<>();
@@ -140,6 +143,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         this.targets.addAll(player.targets);
         this.choices.addAll(player.choices);
         this.actionCache = player.actionCache;
+        this.transpositions = player.transpositions;
     }
 
     @Override
@@ -250,7 +254,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
         // Condition to stop deeper simulation
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || isSearchFinished(node)
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game);
             if (logger.isTraceEnabled()) {
@@ -334,13 +338,13 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            logger.trace("Sim getNextAction -- game value:" + game.getState().getStateHash(true) + " test value:" + test.gameValue);
             if (!suggested.isEmpty()) {
                 return false;
             }
             if (root.playerId.equals(playerId)
                     && root.abilities != null
-                    && game.getState().getValue(true).hashCode() == test.gameValue) {
+                    && game.getState().getStateHash(true) == test.gameValue) {
                 logger.info("simulating -- continuing previous action chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -355,13 +359,27 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
     protected int minimaxAB(SimulationNode2 node, int depth, int alpha, int beta) {
         logger.trace("Sim minimaxAB [" + depth + "] -- a: " + alpha + " b: " + beta + " <" + (node != null ? node.getScore() : "null") + '>');
         UUID currentPlayerId = node.getGame().getPlayerList().get();
+        // the best child of the root is needed, so the root is always searched
+        long stateKey = 0;
+        if (transpositions != null) {
+            stateKey = getChoicesKey(node);
+            Integer value = node.getParent() != null ? transpositions.probe(stateKey, depth, alpha, beta) : null;
+            if (value != null) {
+                node.children.clear();
+                return value;
+            }
+        }
+        int startAlpha = alpha;
+        int startBeta = beta;
+        boolean complete = true;
         SimulationNode2 bestChild = null;
         for (SimulationNode2 child : node.getChildren()) {
             Combat _combat = child.getCombat();
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (isSearchFinished(node)) {
+                complete = false;
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -399,11 +417,32 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         if (bestChild != null) {
             node.children.add(bestChild);
         }
-        if (!currentPlayerId.equals(playerId)) {
-            return beta;
-        } else {
-            return alpha;
+        int result = currentPlayerId.equals(playerId) ? alpha : beta;
+        if (stateKey != 0
+                && complete
+                && !isSearchFinished(node)) {
+            transpositions.store(stateKey, depth, result, startAlpha, startBeta);
+        }
+        return result;
+    }
+
+    /**
+     * Key of a node with the choices of a triggered ability or search as
+     * children, the choices are not part of the game state.
+     *
+     * @param node
+     * @return
+     */
+    private long getChoicesKey(SimulationNode2 node) {
+        Game game = node.getGame();
+        long key = StateHash.combine(game.getState().getStateHash(true, game), StateHash.of("choices"));
+        for (SimulationNode2 child : node.getChildren()) {
+            key = StateHash.combine(key, StateHash.of(String.valueOf(child.getAbilities())));
+            for (UUID targetId : child.getTargets()) {
+                key = StateHash.combine(key, StateHash.of(targetId));
+            }
         }
+        return key;
     }
 
     protected SearchEffect getSearchEffect(StackAbility ability) {
@@ -432,7 +471,7 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -453,39 +492,60 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
      * @return
      */
     protected Integer addActionsTimed() {
-        FutureTask<Integer> task = new FutureTask<>(new Callable<Integer>() {
+        int maxSeconds = maxThink;
+        if (!ALLOW_INTERRUPT) {
+            maxSeconds = 3600;
+        }
+        logger.debug("maxThink: " + maxSeconds + " seconds ");
+        searchDeadline = System.currentTimeMillis() + maxSeconds * 1000L;
+        if (transpositions == null
+                && Config2.transpositionTableSize > 0) {
+            transpositions = new TranspositionTable(Config2.transpositionTableSize);
+        }
+        if (transpositions != null) {
+            transpositions.newSearch();
+        }
+        UUID gameId = root.getGame().getId();
+        FutureTask<Integer> task = AiWorkerPool.getInstance().submit(gameId, new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
                 return addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE);
             }
         });
-        pool.execute(task);
         try {
-            int maxSeconds = maxThink;
-            if (!ALLOW_INTERRUPT) {
-                maxSeconds = 3600;
-            }
-            logger.debug("maxThink: " + maxSeconds + " seconds ");
             if (task.get(maxSeconds, TimeUnit.SECONDS) != null) {
+                if (transpositions != null) {
+                    logger.debug("Transposition table -- " + transpositions);
+                }
                 return task.get(maxSeconds, TimeUnit.SECONDS);
             }
         } catch (TimeoutException e) {
             logger.info("simulating - timed out");
-            task.cancel(true);
+            AiWorkerPool.getInstance().cancel(gameId, Collections.singletonList(task));
         } catch (ExecutionException e) {
             e.printStackTrace();
-            task.cancel(true);
+            AiWorkerPool.getInstance().cancel(gameId, Collections.singletonList(task));
         } catch (InterruptedException e) {
             e.printStackTrace();
-            task.cancel(true);
+            AiWorkerPool.getInstance().cancel(gameId, Collections.singletonList(task));
         } catch (Exception e) {
             e.printStackTrace();
-            task.cancel(true);
+            AiWorkerPool.getInstance().cancel(gameId, Collections.singletonList(task));
         }
         //TODO: timeout handling
         return 0;
     }
 
+    /**
+     * @param node
+     * @return true if the search of the node has reached its node budget or
+     * deadline
+     */
+    protected boolean isSearchFinished(SimulationNode2 node) {
+        return node.getCount() > maxNodes
+                || (ALLOW_INTERRUPT && System.currentTimeMillis() > searchDeadline);
+    }
+
     protected int simulatePriority(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
         if (ALLOW_INTERRUPT
                 && Thread.interrupted()) {
@@ -493,7 +553,19 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
             logger.info("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game);
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getStateHash(true));
+        // the best action of the root is needed, so the root is always searched
+        long stateKey = 0;
+        if (transpositions != null) {
+            stateKey = game.getState().getStateHash(true, game);
+            Integer value = node.getParent() != null ? transpositions.probe(stateKey, depth, alpha, beta) : null;
+            if (value != null) {
+                return value;
+            }
+        }
+        int startAlpha = alpha;
+        int startBeta = beta;
+        boolean complete = true;
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
@@ -505,119 +577,130 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
         }
         int counter = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
-        for (Ability action : allActions) {
+        // the actions of the root are searched in parallel, each with the start window
+        SimulationNode2[] rootNodes = null;
+        List<FutureTask<Integer>> rootSearches = null;
+        if (depth == maxDepth
+                && allActions.size() > 1) {
+            rootNodes = new SimulationNode2[allActions.size()];
+            rootSearches = new ArrayList<>(allActions.size());
+            for (int i = 0; i < allActions.size(); i++) {
+                Ability action = allActions.get(i);
+                SimulationNode2 newNode = createActionNode(node, game, action, depth, currentPlayer.getId());
+                rootNodes[i] = newNode;
+                if (newNode != null) {
+                    rootSearches.add(AiWorkerPool.getInstance().submit(game.getId(),
+                            () -> searchAction(newNode, action, depth, startAlpha, startBeta)));
+                } else {
+                    rootSearches.add(null);
+                }
+            }
+        }
+        for (int i = 0; i < allActions.size(); i++) {
+            Ability action = allActions.get(i);
             counter++;
             if (ALLOW_INTERRUPT
                     && Thread.interrupted()) {
                 Thread.currentThread().interrupt();
                 logger.info("Sim Prio [" + depth + "] -- interrupted");
+                complete = false;
                 break;
             }
-            Game sim = game.copy();
-            sim.setSimulation(true);
-            if (sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
-                sim.applyEffects();
-                if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action.toString());
-                    continue;
-                }
-                if (!sim.checkIfGameIsOver()
-                        && action.isUsesStack()) {
-                    // only pass if the last action uses the stack
-                    UUID nextPlayerId = sim.getPlayerList().get();
-                    do {
-                        sim.getPlayer(nextPlayerId).pass(game);
-                        nextPlayerId = sim.getPlayerList().getNext();
-                    } while (nextPlayerId != this.getId());
-                }
-                SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                sim.checkStateAndTriggered();
-                int val;
-                if (action instanceof PassAbility) {
-                    // Stop to simulate deeper if PassAbility
-                    val = GameStateEvaluator2.evaluate(this.getId(), sim);
-                } else {
-                    val = addActions(newNode, depth - 1, alpha, beta);
-                }
-                logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + counter + " <" + val + "> - (" + action.toString() + ") ");
-                if (logger.isInfoEnabled()
-                        && depth >= maxDepth) {
-                    StringBuilder sb = new StringBuilder("Sim Prio [").append(depth).append("] #").append(counter)
-                            .append(" <").append(val).append("> (").append(action)
-                            .append(action.isModal() ? " Mode = " + action.getModes().getMode().toString() : "")
-                            .append(listTargets(game, action.getTargets())).append(')')
-                            .append(logger.isTraceEnabled() ? " #" + newNode.hashCode() : "");
-                    SimulationNode2 logNode = newNode;
-                    while (logNode.getChildren() != null
-                            && !logNode.getChildren().isEmpty()) {
-                        logNode = logNode.getChildren().get(0);
-                        if (logNode.getAbilities() != null
-                                && !logNode.getAbilities().isEmpty()) {
-                            sb.append(" -> [").append(logNode.getDepth()).append(']').append(logNode.getAbilities().toString()).append('<').append(logNode.getScore()).append('>');
-                        }
+            SimulationNode2 newNode = rootNodes != null ? rootNodes[i] : createActionNode(node, game, action, depth, currentPlayer.getId());
+            if (newNode == null) {
+                continue;
+            }
+            int val;
+            if (rootSearches != null) {
+                val = getSearchResult(rootSearches.get(i), newNode);
+            } else {
+                val = searchAction(newNode, action, depth, alpha, beta);
+            }
+            logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + counter + " <" + val + "> - (" + action.toString() + ") ");
+            if (logger.isInfoEnabled()
+                    && depth >= maxDepth) {
+                StringBuilder sb = new StringBuilder("Sim Prio [").append(depth).append("] #").append(counter)
+                        .append(" <").append(val).append("> (").append(action)
+                        .append(action.isModal() ? " Mode = " + action.getModes().getMode().toString() : "")
+                        .append(listTargets(game, action.getTargets())).append(')')
+                        .append(logger.isTraceEnabled() ? " #" + newNode.hashCode() : "");
+                SimulationNode2 logNode = newNode;
+                while (logNode.getChildren() != null
+                        && !logNode.getChildren().isEmpty()) {
+                    logNode = logNode.getChildren().get(0);
+                    if (logNode.getAbilities() != null
+                            && !logNode.getAbilities().isEmpty()) {
+                        sb.append(" -> [").append(logNode.getDepth()).append(']').append(logNode.getAbilities().toString()).append('<').append(logNode.getScore()).append('>');
                     }
-                    logger.info(sb);
                 }
+                logger.info(sb);
+            }
 
-                if (currentPlayer.getId().equals(playerId)) {
-                    if (val > bestValSubNodes) {
-                        bestValSubNodes = val;
-                    }
-                    if (depth == maxDepth
-                            && action instanceof PassAbility) {
-                        val = val - PASSIVITY_PENALTY; // passivity penalty
-                    }
-                    if (val > alpha
-                            || (depth == maxDepth
-                            && val == alpha
-                            && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
-                        alpha = val;
-                        bestNode = newNode;
-                        bestNode.setScore(val);
-                        if (!newNode.getChildren().isEmpty()) {
-                            bestNode.setCombat(newNode.getChildren().get(0).getCombat());
-                        }
-                        if (depth == maxDepth) {
-                            logger.info("Sim Prio [" + depth + "] -- Saved best node yet <" + bestNode.getScore() + "> " + bestNode.getAbilities().toString());
-                            node.children.clear();
-                            node.children.add(bestNode);
-                            node.setScore(bestNode.getScore());
-                        }
-                    }
-
-                    // no need to check other actions
-                    if (val == GameStateEvaluator2.WIN_GAME_SCORE) {
-                        logger.debug("Sim Prio -- win - break");
-                        break;
-                    }
-                } else {
-                    if (val < beta) {
-                        beta = val;
-                        bestNode = newNode;
-                        bestNode.setScore(val);
-                        if (!newNode.getChildren().isEmpty()) {
-                            bestNode.setCombat(newNode.getChildren().get(0).getCombat());
-                        }
+            if (currentPlayer.getId().equals(playerId)) {
+                if (val > bestValSubNodes) {
+                    bestValSubNodes = val;
+                }
+                if (depth == maxDepth
+                        && action instanceof PassAbility) {
+                    val = val - PASSIVITY_PENALTY; // passivity penalty
+                }
+                if (val > alpha
+                        || (depth == maxDepth
+                        && val == alpha
+                        && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
+                    alpha = val;
+                    bestNode = newNode;
+                    bestNode.setScore(val);
+                    if (!newNode.getChildren().isEmpty()) {
+                        bestNode.setCombat(newNode.getChildren().get(0).getCombat());
                     }
-
-                    // no need to check other actions
-                    if (val == GameStateEvaluator2.LOSE_GAME_SCORE) {
-                        logger.debug("Sim Prio -- lose - break");
-                        break;
+                    if (depth == maxDepth) {
+                        logger.info("Sim Prio [" + depth + "] -- Saved best node yet <" + bestNode.getScore() + "> " + bestNode.getAbilities().toString());
+                        node.children.clear();
+                        node.children.add(bestNode);
+                        node.setScore(bestNode.getScore());
                     }
                 }
-                if (alpha >= beta) {
+
+                // no need to check other actions
+                if (val == GameStateEvaluator2.WIN_GAME_SCORE) {
+                    logger.debug("Sim Prio -- win - break");
                     break;
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
-                    logger.debug("Sim Prio -- reached end-state");
+            } else {
+                if (val < beta) {
+                    beta = val;
+                    bestNode = newNode;
+                    bestNode.setScore(val);
+                    if (!newNode.getChildren().isEmpty()) {
+                        bestNode.setCombat(newNode.getChildren().get(0).getCombat());
+                    }
+                }
+
+                // no need to check other actions
+                if (val == GameStateEvaluator2.LOSE_GAME_SCORE) {
+                    logger.debug("Sim Prio -- lose - break");
                     break;
                 }
             }
+            if (alpha >= beta) {
+                break;
+            }
+            if (isSearchFinished(node)) {
+                logger.debug("Sim Prio -- reached end-state");
+                complete = false;
+                break;
+            }
         } // end of for (allActions)
+        if (rootSearches != null) {
+            // searches of actions that are not needed anymore
+            List<FutureTask<Integer>> searches = new ArrayList<>(rootSearches);
+            searches.removeIf(search -> search == null);
+            AiWorkerPool.getInstance().cancel(game.getId(), searches);
+        }
 
         if (depth == maxDepth) {
-            logger.info(new StringBuilder("Sim Prio [").append(depth).append("] -- End for Max Depth  -- Nodes calculated: ").append(SimulationNode2.nodeCount));
+            logger.info(new StringBuilder("Sim Prio [").append(depth).append("] -- End for Max Depth  -- Nodes calculated: ").append(node.getCount()));
         }
         if (bestNode != null) {
             node.children.clear();
@@ -629,11 +712,70 @@ public class ComputerPlayer6 extends ComputerPlayer /*implements Player*/ {
             }
         }
 
-        if (currentPlayer.getId().equals(playerId)) {
-            return bestValSubNodes;
-        } else {
-            return beta;
+        int result = currentPlayer.getId().equals(playerId) ? bestValSubNodes : beta;
+        if (stateKey != 0
+                && complete
+                && !isSearchFinished(node)) {
+            transpositions.store(stateKey, depth, result, startAlpha, startBeta);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the node of the game after the action.
+     *
+     * @param node
+     * @param game
+     * @param action
+     * @param depth
+     * @param currentPlayerId
+     * @return the node or null if the action can't be activated or repeats a
+     * previous action
+     */
+    private SimulationNode2 createActionNode(SimulationNode2 node, Game game, Ability action, int depth, UUID currentPlayerId) {
+        Game sim = game.copy();
+        sim.setSimulation(true);
+        if (!sim.getPlayer(currentPlayerId).activateAbility((ActivatedAbility) action.copy(), sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, currentPlayerId)) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action.toString());
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && action.isUsesStack()) {
+            // only pass if the last action uses the stack
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(game);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (nextPlayerId != this.getId());
+        }
+        SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayerId);
+        sim.checkStateAndTriggered();
+        return newNode;
+    }
+
+    private int searchAction(SimulationNode2 newNode, Ability action, int depth, int alpha, int beta) {
+        if (action instanceof PassAbility) {
+            // Stop to simulate deeper if PassAbility
+            return GameStateEvaluator2.evaluate(this.getId(), newNode.getGame());
+        }
+        return addActions(newNode, depth - 1, alpha, beta);
+    }
+
+    private int getSearchResult(FutureTask<Integer> search, SimulationNode2 newNode) {
+        try {
+            return AiWorkerPool.getInstance().join(search);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (CancellationException e) {
+            logger.debug("Sim Prio -- search cancelled");
+        } catch (ExecutionException e) {
+            logger.error("Sim Prio -- search failed", e.getCause());
         }
+        return GameStateEvaluator2.evaluate(this.getId(), newNode.getGame());
     }
 
     /**
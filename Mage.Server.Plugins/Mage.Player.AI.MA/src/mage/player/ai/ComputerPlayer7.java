@@ -134,7 +134,6 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
         if (!getNextAction(game)) {
             currentScore = GameStateEvaluator2.evaluate(playerId, game);
             Game sim = createSimulation(game);
-            SimulationNode2.resetCount();
             root = new SimulationNode2(null, sim, maxDepth, playerId);
             addActionsTimed();
             if (root.children != null
@@ -50,6 +50,8 @@ public final class Config2 {
     public static final int evaluatorPermanentFactor;
     public static final int evaluatorCreatureFactor;
     public static final int evaluatorHandFactor;
+    // entries of the transposition table of an AI player, 0 to switch it off
+    public static final int transpositionTableSize;
 //    public static final int maxThinkSeconds;
 
     static {
@@ -79,6 +81,7 @@ public final class Config2 {
         evaluatorPermanentFactor = Integer.parseInt(p.getProperty("evaluatorPermanentFactor"));
         evaluatorCreatureFactor = Integer.parseInt(p.getProperty("evaluatorCreatureFactor"));
         evaluatorHandFactor = Integer.parseInt(p.getProperty("evaluatorHandFactor"));
+        transpositionTableSize = Integer.parseInt(p.getProperty("transpositionTableSize", "65536"));
 //        maxThinkSeconds = Integer.parseInt(p.getProperty("maxThinkSeconds"));
     }
 
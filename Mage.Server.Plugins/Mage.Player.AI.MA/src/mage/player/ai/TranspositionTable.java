@@ -0,0 +1,149 @@
+package mage.player.ai;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded table of the search results of game states (by their state hash),
+ * so a state reached by different action orders is only searched once.
+ *
+ * Every state hash has one slot, an entry is replaced by the result of
+ * another state if the entry is from an older search or the new result was
+ * searched at least as deep. The table is used by the parallel parts of a
+ * search at the same time, entries are immutable and a lost update only
+ * loses a result.
+ */
+public class TranspositionTable {
+
+    public enum Bound {
+        EXACT, // value of the state
+        LOWER, // the value of the state is at least the value (search was cut off)
+        UPPER // the value of the state is at most the value (no better action found)
+    }
+
+    private static final class Entry {
+
+        private final long key;
+        private final int depth;
+        private final int value;
+        private final Bound bound;
+        private final int generation;
+
+        private Entry(long key, int depth, int value, Bound bound, int generation) {
+            this.key = key;
+            this.depth = depth;
+            this.value = value;
+            this.bound = bound;
+            this.generation = generation;
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private volatile int generation;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+
+    /**
+     * @param size number of entries, rounded up to a power of two
+     */
+    public TranspositionTable(int size) {
+        int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Starts a new search, entries of older searches are replaced first.
+     */
+    public void newSearch() {
+        generation++;
+    }
+
+    /**
+     * @param key state hash
+     * @param depth remaining depth of the search
+     * @param alpha
+     * @param beta
+     * @return the stored value if it was searched at least as deep and is
+     * usable for the window, null otherwise
+     */
+    public Integer probe(long key, int depth, int alpha, int beta) {
+        probes.increment();
+        Entry entry = entries.get(index(key));
+        if (entry == null
+                || entry.key != key
+                || entry.depth < depth) {
+            return null;
+        }
+        if (entry.bound == Bound.EXACT
+                || (entry.bound == Bound.LOWER && entry.value >= beta)
+                || (entry.bound == Bound.UPPER && entry.value <= alpha)) {
+            hits.increment();
+            return entry.value;
+        }
+        return null;
+    }
+
+    /**
+     * @param key state hash
+     * @param depth remaining depth of the search
+     * @param value result of the search
+     * @param alpha window the state was searched with
+     * @param beta
+     */
+    public void store(long key, int depth, int value, int alpha, int beta) {
+        Bound bound;
+        if (value <= alpha) {
+            bound = Bound.UPPER;
+        } else if (value >= beta) {
+            bound = Bound.LOWER;
+        } else {
+            bound = Bound.EXACT;
+        }
+        int index = index(key);
+        Entry entry = entries.get(index);
+        if (entry == null
+                || entry.key == key
+                || entry.generation != generation
+                || entry.depth <= depth) {
+            if (entry != null && entry.key != key) {
+                replacements.increment();
+            }
+            entries.set(index, new Entry(key, depth, value, bound, generation));
+            stores.increment();
+        }
+    }
+
+    private int index(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    public long getReplacements() {
+        return replacements.sum();
+    }
+
+    @Override
+    public String toString() {
+        long probeCount = getProbes();
+        long hitCount = getHits();
+        return "size: " + entries.length() + ", probes: " + probeCount + ", hits: " + hitCount
+                + (probeCount > 0 ? " (" + (hitCount * 100 / probeCount) + "%)" : "")
+                + ", misses: " + (probeCount - hitCount) + ", stores: " + getStores() + ", replacements: " + getReplacements();
+    }
+}
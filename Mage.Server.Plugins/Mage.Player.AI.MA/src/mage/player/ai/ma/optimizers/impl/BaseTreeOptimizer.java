@@ -14,20 +14,15 @@ import java.util.List;
  */
 public abstract class BaseTreeOptimizer implements TreeOptimizer {
 
-    /**
-     * List of abilities that should be removed because of optimization.
-     *
-     */
-    protected List<Ability> toRemove;
-
     /**
      * Inner method for filtering actions.
      * Should be implemented by classes.
      *
      * @param game
      * @param actions
+     * @param toRemove abilities to remove, filled by {@link #removeAbility}
      */
-    abstract void filter(Game game, List<Ability> actions);
+    abstract void filter(Game game, List<Ability> actions, List<Ability> toRemove);
 
     /**
      * Template method for optimization.
@@ -37,25 +32,22 @@ public abstract class BaseTreeOptimizer implements TreeOptimizer {
      */
     @Override
     public final void optimize(Game game, List<Ability> actions) {
-        filter(game, actions);
+        // local list, the optimizers are shared by all AI players
+        List<Ability> toRemove = new ArrayList<>();
+        filter(game, actions, toRemove);
 
-        if (toRemove != null) {
-            for (Ability r : toRemove) {
-                actions.remove(r);
-            }
+        for (Ability r : toRemove) {
+            actions.remove(r);
         }
     }
 
     /**
      * Mark an ability to be removed
-     * Not thread-safe for performance reasons.
      *
+     * @param toRemove
      * @param ability
      */
-    protected void removeAbility(Ability ability) {
-        if (toRemove == null) {
-            toRemove = new ArrayList<>();
-        }
+    protected void removeAbility(List<Ability> toRemove, Ability ability) {
         toRemove.add(ability);
     }
 }
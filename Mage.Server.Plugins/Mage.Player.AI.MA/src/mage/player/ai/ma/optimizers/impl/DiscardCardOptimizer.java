@@ -12,10 +12,10 @@ import mage.game.Game;
 public class DiscardCardOptimizer extends BaseTreeOptimizer {
 
     @Override
-    public void filter(Game game, List<Ability> actions) {
+    public void filter(Game game, List<Ability> actions, List<Ability> toRemove) {
         for (Ability ability : actions) {
             if (ability.toString().startsWith("Discard card")) {
-                removeAbility(ability);
+                removeAbility(toRemove, ability);
             }
         }
     }
@@ -14,14 +14,14 @@ import mage.game.permanent.Permanent;
 public class EquipOptimizer extends BaseTreeOptimizer {
 
     @Override
-    public void filter(Game game, List<Ability> actions) {
+    public void filter(Game game, List<Ability> actions, List<Ability> toRemove) {
         for (Ability ability : actions) {
             if (ability instanceof EquipAbility) {
                 Permanent permanent = game.getPermanent(ability.getFirstTarget());
                 if (permanent != null) {
                     // check that equipment is not already attached to {this}
                     if (permanent.getAttachments().contains(ability.getSourceId())) {
-                        removeAbility(ability);
+                        removeAbility(toRemove, ability);
                     }
                 }
             }
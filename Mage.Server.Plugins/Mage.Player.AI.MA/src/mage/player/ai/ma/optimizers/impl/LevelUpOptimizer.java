@@ -21,9 +21,10 @@ public class LevelUpOptimizer extends BaseTreeOptimizer {
      *
      * @param game
      * @param actions
+     * @param toRemove
      */
     @Override
-    public void filter(Game game, List<Ability> actions) {
+    public void filter(Game game, List<Ability> actions, List<Ability> toRemove) {
         for (Ability ability : actions) {
             if (ability instanceof LevelUpAbility) {
                 Permanent permanent = game.getPermanent(ability.getSourceId());
@@ -31,7 +32,7 @@ public class LevelUpOptimizer extends BaseTreeOptimizer {
                     PermanentCard leveler = (PermanentCard) permanent;
                     // check already existing Level counters and compare to maximum that make sense
                     if (permanent.getCounters(game).getCount(CounterType.LEVEL) >= leveler.getMaxLevelCounters()) {
-                        removeAbility(ability);
+                        removeAbility(toRemove, ability);
                     }
                 }
             }
@@ -20,11 +20,11 @@ import mage.game.Game;
 public class OutcomeOptimizer extends BaseTreeOptimizer {
 
     @Override
-    public void filter(Game game, List<Ability> actions) {
+    public void filter(Game game, List<Ability> actions, List<Ability> toRemove) {
         for (Ability ability : actions) {
             for (Effect effect: ability.getEffects()) {
                 if (effect.getOutcome() == Outcome.AIDontUseIt) {
-                    removeAbility(ability);
+                    removeAbility(toRemove, ability);
                     break;
                 }
             }
@@ -0,0 +1,211 @@
+package mage.player.ai;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.log4j.Logger;
+
+/**
+ * Server wide pool of worker threads that run the searches and simulations of
+ * the AI players (MCTS and MA/MAD) of all games.
+ *
+ * The threads live as long as the server, so no thread pool has to be created
+ * for each decision. Tasks are queued per game and the workers take the next
+ * task round robin from the games with waiting tasks, so the AI players of
+ * one game can't hold back the AI players of the other games.
+ *
+ * A search may split into tasks and wait for them with
+ * {@link #join(FutureTask)}, which runs a task that no worker has started yet
+ * in the waiting thread, so the waiting tasks can't use up all workers.
+ */
+public final class AiWorkerPool {
+
+    private static final Logger logger = Logger.getLogger(AiWorkerPool.class);
+
+    private static final AiWorkerPool instance = new AiWorkerPool(Runtime.getRuntime().availableProcessors());
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition taskAvailable = lock.newCondition();
+    // games in round robin order, the game that got the last worker is moved to the end
+    private final LinkedHashMap<UUID, ArrayDeque<FutureTask<?>>> queues = new LinkedHashMap<>();
+    private final int size;
+
+    public static AiWorkerPool getInstance() {
+        return instance;
+    }
+
+    private AiWorkerPool(int size) {
+        this.size = size;
+        for (int i = 0; i < size; i++) {
+            Thread worker = new Thread(this::work, "AI worker " + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * @return number of worker threads
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Queues a task of a game.
+     *
+     * @param gameId game the task belongs to, used to share the workers
+     * fairly between games
+     * @param task
+     * @return the queued task, cancel it with
+     * {@link #cancel(UUID, Collection)}
+     */
+    public <T> FutureTask<T> submit(UUID gameId, Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        lock.lock();
+        try {
+            queues.computeIfAbsent(gameId, k -> new ArrayDeque<>()).add(future);
+            taskAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+        return future;
+    }
+
+    /**
+     * Waits for the result of a task, the task is run by the current thread if
+     * no worker has started it yet.
+     *
+     * @param task
+     * @return
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    public <T> T join(FutureTask<T> task) throws InterruptedException, ExecutionException {
+        // does nothing if the task is already running or done
+        task.run();
+        return task.get();
+    }
+
+    /**
+     * Runs the tasks of a game and waits until all of them are done or the
+     * timeout is reached. Tasks that are still waiting or running at the
+     * timeout are cancelled (running tasks get interrupted).
+     *
+     * @param gameId game the tasks belong to, used to share the workers
+     * fairly between games
+     * @param tasks
+     * @param timeout
+     * @param unit
+     * @return results of the tasks that completed, in task order
+     * @throws InterruptedException
+     */
+    public <T> List<T> invokeAll(UUID gameId, List<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(new FutureTask<>(task));
+        }
+        lock.lock();
+        try {
+            queues.computeIfAbsent(gameId, k -> new ArrayDeque<>()).addAll(futures);
+            taskAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (FutureTask<T> future : futures) {
+                try {
+                    results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException | CancellationException ex) {
+                    // not finished in time
+                } catch (ExecutionException ex) {
+                    logger.error("AI task failed", ex.getCause());
+                }
+            }
+        } finally {
+            cancel(gameId, futures);
+        }
+        return results;
+    }
+
+    /**
+     * Cancels the tasks of a game (running tasks get interrupted) and removes
+     * them from the queue.
+     *
+     * @param gameId
+     * @param tasks
+     */
+    public void cancel(UUID gameId, Collection<? extends FutureTask<?>> tasks) {
+        for (FutureTask<?> task : tasks) {
+            task.cancel(true);
+        }
+        lock.lock();
+        try {
+            ArrayDeque<FutureTask<?>> queue = queues.get(gameId);
+            if (queue != null) {
+                queue.removeAll(tasks);
+                if (queue.isEmpty()) {
+                    queues.remove(gameId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private FutureTask<?> take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                Iterator<Map.Entry<UUID, ArrayDeque<FutureTask<?>>>> it = queues.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<UUID, ArrayDeque<FutureTask<?>>> entry = it.next();
+                    FutureTask<?> task = entry.getValue().poll();
+                    if (task == null) {
+                        it.remove();
+                        continue;
+                    }
+                    // move the game to the end of the round
+                    it.remove();
+                    if (!entry.getValue().isEmpty()) {
+                        queues.put(entry.getKey(), entry.getValue());
+                    }
+                    return task;
+                }
+                taskAvailable.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void work() {
+        while (true) {
+            try {
+                FutureTask<?> task = take();
+                task.run();
+            } catch (InterruptedException ex) {
+                // interrupt of a cancelled task that arrived after the task returned
+            } catch (Throwable t) {
+                logger.error("AI worker error", t);
+            }
+            // don't let the interrupt of a cancelled task hit the next task
+            Thread.interrupted();
+        }
+    }
+}
@@ -44,9 +44,6 @@ import org.apache.log4j.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -59,6 +56,10 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     private static final int THINK_MAX_RATIO = 100;
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
+    // all threads search the same tree instead of merging separate trees at the end
+    private static final boolean USE_TREE_PARALLELISM = true;
+    // time the search tasks get to finish their last simulation after the think time
+    private static final int FINISH_TIME_SECONDS = 2;
 
     protected transient MCTSNode root;
     protected int maxThinkTime;
@@ -69,7 +70,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
         super(name, range);
         human = false;
         maxThinkTime = (int) (skill * THINK_TIME_MULTIPLIER);
-        poolSize = Runtime.getRuntime().availableProcessors();
+        poolSize = AiWorkerPool.getInstance().getSize();
     }
 
     protected ComputerPlayerMCTS(UUID id) {
@@ -128,7 +129,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(game, playerId));
+            newRoot = root.getMatchingState(game.getState().getStateHash(game, playerId));
             if (newRoot != null) {
                 newRoot.emancipate();
             }
@@ -285,28 +286,33 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
         
         if (thinkTime > 0) {
             if (USE_MULTIPLE_THREADS) {
-                ExecutorService pool = Executors.newFixedThreadPool(poolSize);
                 List<MCTSExecutor> tasks = new ArrayList<>();
                 for (int i = 0; i < poolSize; i++) {
-                    Game sim = createMCTSGame(game);
-                    MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-                    player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
+                    MCTSExecutor exec;
+                    if (USE_TREE_PARALLELISM) {
+                        exec = new MCTSExecutor(root, playerId, thinkTime);
+                    } else {
+                        Game sim = createMCTSGame(game);
+                        MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
+                        player.setNextAction(action);
+                        exec = new MCTSExecutor(sim, playerId, thinkTime);
+                    }
                     tasks.add(exec);
                 }
 
                 try {
-                    pool.invokeAll(tasks, thinkTime, TimeUnit.SECONDS);
-                    pool.awaitTermination(1, TimeUnit.SECONDS);
-                    pool.shutdownNow();
-                } catch (InterruptedException | RejectedExecutionException ex) {
+                    AiWorkerPool.getInstance().invokeAll(game.getId(), tasks, thinkTime + FINISH_TIME_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
                     logger.warn("applyMCTS interrupted");
+                    Thread.currentThread().interrupt();
                 }
-                
+
                 int simCount = 0;
                 for (MCTSExecutor task: tasks) {
                     simCount += task.getSimCount();
-                    root.merge(task.getRoot());
+                    if (!USE_TREE_PARALLELISM) {
+                        root.merge(task.getRoot());
+                    }
                     task.clear();
                 }
                 tasks.clear();
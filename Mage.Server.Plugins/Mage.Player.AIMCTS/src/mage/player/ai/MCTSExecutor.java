@@ -42,13 +42,28 @@ public class MCTSExecutor implements Callable<Boolean> {
     protected int thinkTime;
     protected UUID playerId;
     protected int simCount;
+    // System.nanoTime() at which the search has to stop
+    protected long endTime;
 
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
     public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+        this(new MCTSNode(playerId, sim), playerId, thinkTime);
+    }
+
+    /**
+     * Searches the given tree, several executors can search the same tree
+     * at the same time.
+     *
+     * @param root
+     * @param playerId
+     * @param thinkTime
+     */
+    public MCTSExecutor(MCTSNode root, UUID playerId, int thinkTime) {
         this.playerId = playerId;
         this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        this.root = root;
+        this.endTime = System.nanoTime() + thinkTime * 1000000000L;
     }
 
     @Override
@@ -56,38 +71,42 @@ public class MCTSExecutor implements Callable<Boolean> {
         simCount = 0;
         MCTSNode current;
 
-
-        while (true) {
+        while (System.nanoTime() < endTime && !Thread.currentThread().isInterrupted()) {
             current = root;
+            int result = 0;
+            try {
+                // Selection
+                while (!current.isLeaf()) {
+                    current = current.select(this.playerId);
+                }
 
-            // Selection
-            while (!current.isLeaf()) {
-                current = current.select(this.playerId);
-            }
-
-            int result;
-            if (!current.isTerminal()) {
-                // Expansion
-                current.expand();
+                if (!current.isTerminal()) {
+                    // Expansion
+                    current.expand();
 
-                // only run simulations for nodes that have siblings
-                if (current.getNumChildren() > 1) {
-                    // Simulation
-                    current = current.select(this.playerId);
-                    result = current.simulate(this.playerId);
-                    simCount++;
+                    // only run simulations for nodes that have siblings
+                    if (current.getNumChildren() > 1) {
+                        // Simulation
+                        current = current.select(this.playerId);
+                        result = current.simulate(this.playerId);
+                        simCount++;
+                    }
+                    else if (current.getNumChildren() == 1) {
+                        current = current.select(this.playerId);
+                        result = 0;
+                    }
                 }
                 else {
-                    current = current.select(this.playerId);
-                    result = 0;
+                    result = current.isWinner(this.playerId)?1:-1;
+                }
+            } finally {
+                // Backpropagation (also removes the virtual losses if the simulation failed)
+                if (current != null) {
+                    current.backpropagate(result);
                 }
             }
-            else {
-                result = current.isWinner(this.playerId)?1:-1;
-            }
-            // Backpropagation
-            current.backpropagate(result);
         }
+        return true;
     }
 
     public MCTSNode getRoot() {
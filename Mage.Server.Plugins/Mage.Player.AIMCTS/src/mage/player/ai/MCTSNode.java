@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -59,15 +60,19 @@ public class MCTSNode {
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
 
-    private int visits = 0;
-    private int wins = 0;
+    // the counters are shared by the worker threads when the tree is searched in parallel
+    private final AtomicInteger visits = new AtomicInteger();
+    private final AtomicInteger wins = new AtomicInteger();
+    // simulations currently running through this node, counted as lost to make other threads explore other nodes
+    private final AtomicInteger virtualLoss = new AtomicInteger();
     private MCTSNode parent;
-    private final List<MCTSNode> children = new ArrayList<>();
+    // replaced as a whole by expand, so other threads see either no or all children
+    private volatile List<MCTSNode> children = new ArrayList<>();
     private Ability action;
     private Game game;
     private Combat combat;
-    private final String stateValue;
-    private final String fullStateValue;
+    private final long stateValue;
+    private final StateKey fullStateValue;
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
@@ -77,8 +82,8 @@ public class MCTSNode {
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getStateHash(game, targetPlayer);
+        this.fullStateValue = new StateKey(game.getState().getTurnNum(), game.getState().getStateHash(true, game));
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
         nodeCount = 1;
@@ -88,8 +93,8 @@ public class MCTSNode {
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getStateHash(game, targetPlayer);
+        this.fullStateValue = new StateKey(game.getState().getTurnNum(), game.getState().getStateHash(true, game));
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
@@ -102,8 +107,8 @@ public class MCTSNode {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getStateHash(game, targetPlayer);
+        this.fullStateValue = new StateKey(game.getState().getTurnNum(), game.getState().getStateHash(true, game));
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
@@ -123,20 +128,34 @@ public class MCTSNode {
         }
     }
 
+    /**
+     * Selects the child to explore next. Adds a virtual loss to the selected
+     * child that is removed again by backpropagate.
+     *
+     * @param targetPlayerId
+     * @return
+     */
     public MCTSNode select(UUID targetPlayerId) {
+        List<MCTSNode> nodes = children;
         double bestValue = Double.NEGATIVE_INFINITY;
         boolean isTarget = playerId.equals(targetPlayerId);
         MCTSNode bestChild = null;
-        if (children.size() == 1) {
-            return children.get(0);
+        if (nodes.size() == 1) {
+            bestChild = nodes.get(0);
+            bestChild.virtualLoss.incrementAndGet();
+            return bestChild;
         }
-        for (MCTSNode node: children) {
+        int parentVisits = Math.max(1, visits.get() + virtualLoss.get());
+        for (MCTSNode node: nodes) {
+            int nodeVirtualLoss = node.virtualLoss.get();
+            int nodeVisits = node.visits.get() + nodeVirtualLoss;
+            int nodeWins = node.wins.get();
             double uct;
-            if (node.visits > 0)
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (nodeWins / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((nodeVisits - nodeWins - nodeVirtualLoss) / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * Math.random();
@@ -145,10 +164,22 @@ public class MCTSNode {
                 bestValue = uct;
             }
         }
+        if (bestChild != null) {
+            bestChild.virtualLoss.incrementAndGet();
+        }
         return bestChild;
     }
 
-    public void expand() {
+    /**
+     * Creates the children of the node. Synchronized because another thread
+     * can select the same leaf while the tree is searched in parallel, the
+     * second call does nothing.
+     */
+    public synchronized void expand() {
+        if (game == null) {
+            return;
+        }
+        List<MCTSNode> children = new ArrayList<>();
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
@@ -211,12 +242,20 @@ public class MCTSNode {
                 }
                 break;
         }
+        this.children = children;
         game = null;
     }
 
     public int simulate(UUID playerId) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            if (game == null) {
+                // expanded by another thread meanwhile
+                return 0;
+            }
+            sim = createSimulation(game, playerId);
+        }
         sim.resume();
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
@@ -230,12 +269,21 @@ public class MCTSNode {
         return retVal;
     }
 
+    /**
+     * Adds the result to the node and its parents and removes the virtual
+     * losses that select added on the way down. A result of 0 only removes
+     * the virtual losses.
+     *
+     * @param result
+     */
     public void backpropagate(int result) {
-        if (result == 0)
-            return;
-        if (result == 1)
-            wins++;
-        visits++;
+        if (parent != null)
+            virtualLoss.decrementAndGet();
+        if (result != 0) {
+            if (result == 1)
+                wins.incrementAndGet();
+            visits.incrementAndGet();
+        }
         if (parent != null)
             parent.backpropagate(result);
     }
@@ -253,24 +301,26 @@ public class MCTSNode {
         MCTSNode bestChild = null;
         for (MCTSNode node: children) {
             //favour passing vs any other action except for playing land if ratio is close
-            if (node.visits > bestCount) {
+            int nodeVisits = node.visits.get();
+            int nodeWins = node.wins.get();
+            if (nodeVisits > bestCount) {
                 if (bestIsPass) {
-                    double ratio = node.wins/(node.visits * 1.0);
+                    double ratio = nodeWins/(nodeVisits * 1.0);
                     if (ratio < bestRatio + passRatioTolerance)
                         continue;
                 }
                 bestChild = node;
-                bestCount = node.visits;
-                bestRatio = node.wins/(node.visits * 1.0);
+                bestCount = nodeVisits;
+                bestRatio = nodeWins/(nodeVisits * 1.0);
                 bestIsPass = false;
             }
-            else if (node.action instanceof PassAbility && node.visits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
+            else if (node.action instanceof PassAbility && nodeVisits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
                 //favour passing vs any other action if ratio is close
-                double ratio = node.wins/(node.visits * 1.0);
+                double ratio = nodeWins/(nodeVisits * 1.0);
                 if (ratio > bestRatio - passRatioTolerance) {
                     logger.info("choosing pass over " + bestChild.getAction());
                     bestChild = node;
-                    bestCount = node.visits;
+                    bestCount = nodeVisits;
                     bestRatio = ratio;
                     bestIsPass = true;
                 }
@@ -306,18 +356,19 @@ public class MCTSNode {
         return nodeCount;
     }
 
-    public String getStateValue() {
+    public long getStateValue() {
         return stateValue;
     }
 
     public double getWinRatio() {
-        if (visits > 0)
-            return wins/(visits * 1.0);
+        int nodeVisits = visits.get();
+        if (nodeVisits > 0)
+            return wins.get()/(nodeVisits * 1.0);
         return -1.0;
     }
 
     public int getVisits() {
-        return visits;
+        return visits.get();
     }
 
     /**
@@ -385,13 +436,13 @@ public class MCTSNode {
      * @param state - the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long state) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateValue == state)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -401,13 +452,13 @@ public class MCTSNode {
     }
 
     public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
+        if (stateValue != merge.stateValue) {
             logger.info("mismatched merge states at root");
             return;
         }
 
-        this.visits += merge.visits;
-        this.wins += merge.wins;
+        this.visits.addAndGet(merge.visits.get());
+        this.wins.addAndGet(merge.wins.get());
         int mismatchCount = 0;
         
         List<MCTSNode> mergeChildren = new ArrayList<>();
@@ -419,7 +470,7 @@ public class MCTSNode {
             for (MCTSNode mergeChild: mergeChildren) {
                 if (mergeChild.action != null && child.action != null) {
                     if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -433,7 +484,7 @@ public class MCTSNode {
                 }
                 else {
                     if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -478,9 +529,9 @@ public class MCTSNode {
         return num;
     }
 
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<StateKey, List<Ability>> playablesCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<StateKey, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<StateKey, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
 
     private static long playablesHit = 0;
     private static long playablesMiss = 0;
@@ -489,7 +540,7 @@ public class MCTSNode {
     private static long blocksHit = 0;
     private static long blocksMiss = 0;
     
-    private static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
+    private static List<Ability> getPlayables(MCTSPlayer player, StateKey state, Game game) {
         if (playablesCache.containsKey(state)) {
             playablesHit++;
             return playablesCache.get(state);
@@ -502,7 +553,7 @@ public class MCTSNode {
         }
     }
     
-    private static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
+    private static List<List<UUID>> getAttacks(MCTSPlayer player, StateKey state, Game game) {
         if (attacksCache.containsKey(state)) {
             attacksHit++;
             return attacksCache.get(state);
@@ -515,7 +566,7 @@ public class MCTSNode {
         }
     }
     
-    private static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
+    private static List<List<List<UUID>>> getBlocks(MCTSPlayer player, StateKey state, Game game) {
         if (blocksCache.containsKey(state)) {
             blocksHit++;
             return blocksCache.get(state);
@@ -529,32 +580,31 @@ public class MCTSNode {
     }
     
     public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
+        Set<StateKey> playablesKeys = playablesCache.keySet();
+        Iterator<StateKey> playablesIterator = playablesKeys.iterator();
         int count = 0;
         while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.valueOf(next.split(":", 2)[0].substring(1));
+            int cacheTurn = playablesIterator.next().turnNum;
             if (cacheTurn < turnNum) {
                 playablesIterator.remove();
                 count++;
             }
         }
 
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
+        Set<StateKey> attacksKeys = attacksCache.keySet();
+        Iterator<StateKey> attacksIterator = attacksKeys.iterator();
         while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.valueOf(attacksIterator.next().split(":", 2)[0].substring(1));
+            int cacheTurn = attacksIterator.next().turnNum;
             if (cacheTurn < turnNum) {
                 attacksIterator.remove();
                 count++;
             }
         }
         
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
+        Set<StateKey> blocksKeys = blocksCache.keySet();
+        Iterator<StateKey> blocksIterator = blocksKeys.iterator();
         while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.valueOf(blocksIterator.next().split(":", 2)[0].substring(1));
+            int cacheTurn = blocksIterator.next().turnNum;
             if (cacheTurn < turnNum) {
                 blocksIterator.remove();
                 count++;
@@ -573,4 +623,33 @@ public class MCTSNode {
             logger.info(sb.toString());
         }
     }    
+
+    /**
+     * Key of the action caches, the turn is kept to be able to clean up the
+     * caches of past turns.
+     */
+    private static final class StateKey {
+
+        private final int turnNum;
+        private final long stateHash;
+
+        StateKey(int turnNum, long stateHash) {
+            this.turnNum = turnNum;
+            this.stateHash = stateHash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof StateKey)) {
+                return false;
+            }
+            StateKey other = (StateKey) obj;
+            return turnNum == other.turnNum && stateHash == other.stateHash;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * turnNum + Long.hashCode(stateHash);
+        }
+    }
 }
@@ -181,8 +181,8 @@ public class ComputerPlayer2 extends ComputerPlayer implements Player {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.debug("simlating -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
-            if (root.playerId.equals(playerId) && root.abilities != null && game.getState().getValue(true).hashCode() == test.gameValue) {
+            logger.debug("simlating -- game value:" + game.getState().getStateHash(true) + " test value:" + test.gameValue);
+            if (root.playerId.equals(playerId) && root.abilities != null && game.getState().getStateHash(true) == test.gameValue) {
                 logger.debug("simulating -- continuing previous action chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -382,7 +382,7 @@ public class ComputerPlayer2 extends ComputerPlayer implements Player {
             logger.debug(indent(node.depth) + "interrupted");
             return GameStateEvaluator.evaluate(playerId, game);
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getStateHash(true));
         SimulatedPlayer currentPlayer = (SimulatedPlayer) game.getPlayer(game.getPlayerList().get());
         boolean isSimulatedPlayer = currentPlayer.getId().equals(playerId);
         logger.debug(indent(node.depth) + "simulating priority -- player " + currentPlayer.getName());
@@ -46,7 +46,7 @@ public class SimulationNode implements Serializable {
     protected static int nodeCount;
 
     protected Game game;
-    protected int gameValue;
+    protected long gameValue;
     protected List<Ability> abilities;
     protected int depth;
     protected List<SimulationNode> children = new ArrayList<>();
@@ -91,11 +91,11 @@ public class SimulationNode implements Serializable {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
@@ -0,0 +1,16 @@
+package mage.server;
+
+import java.io.IOException;
+import mage.interfaces.callback.ClientCallback;
+
+/**
+ * Transport specific part of a session: delivers the callbacks to the client.
+ */
+public interface CallbackSender {
+
+    /**
+     * @param callback
+     * @throws IOException if the client can't be reached anymore
+     */
+    void send(ClientCallback callback) throws IOException;
+}
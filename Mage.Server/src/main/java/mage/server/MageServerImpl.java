@@ -388,6 +388,21 @@ public class MageServerImpl implements MageServer {
         return null;
     }
 
+    @Override
+    public TableChangesView getTableChanges(UUID roomId, long sinceVersion) throws MageException {
+        try {
+            Optional<GamesRoom> room = GamesRoomManager.instance.getRoom(roomId);
+            if (room.isPresent()) {
+                return room.get().getTableChanges(sinceVersion);
+            } else {
+                return new TableChangesView(0, true, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+            }
+        } catch (Exception ex) {
+            handleException(ex);
+        }
+        return null;
+    }
+
     @Override
     //FIXME: why no sessionId here???
     public List<MatchView> getFinishedMatches(UUID roomId) throws MageException {
@@ -51,9 +51,11 @@ import mage.server.util.ConfigSettings;
 import mage.server.util.PluginClassLoader;
 import mage.server.util.ServerMessagesUtil;
 import mage.server.util.SystemUtil;
+import mage.server.util.ThreadExecutor;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
 import mage.utils.MageVersion;
+import mage.util.Copier;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.*;
 import org.jboss.remoting.callback.InvokerCallbackHandler;
@@ -82,13 +84,16 @@ public final class Main {
 
     public static final PluginClassLoader classLoader = new PluginClassLoader();
     public static TransporterServer server;
+    public static NioServer nioServer;
     protected static boolean testMode;
     protected static boolean fastDbMode;
+    private static long startTime;
 
     /**
      * @param args the command line arguments
      */
     public static void main(String[] args) {
+        startTime = System.currentTimeMillis();
         System.setProperty("java.util.Arrays.useLegacyMergeSort", "true");
         logger.info("Starting MAGE server version " + version);
         logger.info("Logging level: " + logger.getEffectiveLevel());
@@ -149,17 +154,20 @@ public final class Main {
         }
 
         logger.info("Loading cards...");
+        long cardsStart = System.currentTimeMillis();
         if (fastDbMode) {
             CardScanner.scanned = true;
         } else {
             CardScanner.scan();
         }
-        logger.info("Done.");
+        logger.info("Done (" + (System.currentTimeMillis() - cardsStart) + " ms).");
 
         logger.info("Updating user stats DB...");
         UserStatsRepository.instance.updateUserStats();
         logger.info("Done.");
         deleteSavedGames();
+        // saved game states are restored with the classloader of the plugins
+        Copier.setLoader(classLoader);
         ConfigSettings config = ConfigSettings.instance;
         for (GamePlugin plugin : config.getGameTypes()) {
             GameFactory.instance.addGameType(plugin.getName(), loadGameType(plugin), loadPlugin(plugin));
@@ -192,6 +200,7 @@ public final class Main {
 
         logger.info("Config - max seconds idle: " + config.getMaxSecondsIdle());
         logger.info("Config - max game threads: " + config.getMaxGameThreads());
+        logger.info("Config - game threads    : " + ThreadExecutor.instance.getGameThreadMode());
         logger.info("Config - max AI opponents: " + config.getMaxAiOpponents());
         logger.info("Config - min usr name le.: " + config.getMinUserNameLength());
         logger.info("Config - max usr name le.: " + config.getMaxUserNameLength());
@@ -218,6 +227,12 @@ public final class Main {
         Connection connection = new Connection("&maxPoolSize=" + config.getMaxPoolSize());
         connection.setHost(config.getServerAddress());
         connection.setPort(config.getPort());
+        connection.setTransport(config.getTransport());
+        logger.info("Config - transport       : " + config.getTransport());
+        if (config.getTransport() == Connection.Transport.NIO) {
+            startNioServer(connection, adminPassword);
+            return;
+        }
         try {
             // Parameter: serializationtype => jboss
             InvokerLocator serverLocator = new InvokerLocator(connection.getURI());
@@ -238,7 +253,25 @@ public final class Main {
         }
     }
 
+    private static void startNioServer(Connection connection, String adminPassword) {
+        ConfigSettings config = ConfigSettings.instance;
+        try {
+            nioServer = new NioServer(config.getServerAddress(), config.getPort(), config.getBacklogSize(),
+                    config.getSocketWriteTimeout(), new MageServerImpl(adminPassword, testMode), MageServer.class);
+            nioServer.start();
+            logger.info("Started MAGE server - listening on " + connection.toString() + " (nio)");
+
+            if (testMode) {
+                logger.info("MAGE server running in test mode");
+            }
+            initStatistics();
+        } catch (Exception ex) {
+            logger.fatal("Failed to start server - " + connection.toString(), ex);
+        }
+    }
+
     static void initStatistics() {
+        logger.info("Server startup took " + (System.currentTimeMillis() - startTime) + " ms");
         ServerMessagesUtil.instance.setStartDate(System.currentTimeMillis());
     }
 
@@ -356,7 +389,7 @@ public final class Main {
             ServerInvokerCallbackHandler handler = (ServerInvokerCallbackHandler) callbackHandler;
             try {
                 String sessionId = handler.getClientSessionId();
-                SessionManager.instance.createSession(sessionId, callbackHandler);
+                SessionManager.instance.createSession(sessionId, new RemotingCallbackSender(callbackHandler));
             } catch (Throwable ex) {
                 logger.fatal("", ex);
             }
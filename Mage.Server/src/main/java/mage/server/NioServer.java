@@ -0,0 +1,384 @@
+package mage.server;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import mage.MageException;
+import mage.interfaces.callback.ClientCallback;
+import mage.remote.nio.NioHandshake;
+import mage.remote.nio.NioProtocol;
+import mage.remote.nio.NioRequest;
+import mage.remote.nio.NioResponse;
+import mage.server.util.ThreadExecutor;
+import org.apache.log4j.Logger;
+
+/**
+ * Server of the NIO transport (see {@link NioProtocol}), an alternative to the
+ * JBoss Remoting bisocket connector.
+ *
+ * One selector thread accepts the connections and reads and writes the frames
+ * of all clients. The requests are decoded and invoked on the call executor,
+ * the callbacks are encoded by the callback threads of the sessions, so the
+ * selector thread only moves bytes and the number of threads does not grow
+ * with the number of connected clients.
+ */
+public class NioServer {
+
+    private static final Logger logger = Logger.getLogger(NioServer.class);
+
+    private static final long SELECT_TIMEOUT = 1000;
+
+    private final InetSocketAddress address;
+    private final int backlog;
+    private final int writeTimeout;
+    private final Object target;
+    private final Map<String, Method> methods = new HashMap<>();
+    private final ExecutorService callExecutor = ThreadExecutor.instance.getCallExecutor();
+    // connections with new frames to write, their interest ops can only be changed by the selector thread
+    private final ConcurrentLinkedQueue<NioConnection> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private volatile boolean running;
+    private long lastCheck;
+
+    /**
+     * @param host
+     * @param port
+     * @param backlog
+     * @param writeTimeout a client is disconnected if it does not read its
+     * data for this time (milliseconds)
+     * @param target implementation of the server interface
+     * @param serverInterface the methods the clients can call
+     */
+    public NioServer(String host, int port, int backlog, int writeTimeout, Object target, Class<?> serverInterface) {
+        this.address = new InetSocketAddress(host, port);
+        this.backlog = backlog;
+        this.writeTimeout = writeTimeout;
+        this.target = target;
+        for (Method method : serverInterface.getMethods()) {
+            methods.put(NioProtocol.getMethodKey(method), method);
+        }
+    }
+
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.socket().setReuseAddress(true);
+        serverChannel.bind(address, backlog);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        new Thread(this::run, "NIO SELECTOR").start();
+    }
+
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                selector.select(SELECT_TIMEOUT);
+                NioConnection connection;
+                while ((connection = pendingWrites.poll()) != null) {
+                    connection.enableWrite();
+                }
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        connection = (NioConnection) key.attachment();
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.write();
+                        }
+                    }
+                }
+                long now = System.currentTimeMillis();
+                if (now - lastCheck >= SELECT_TIMEOUT) {
+                    lastCheck = now;
+                    for (SelectionKey key : selector.keys()) {
+                        if (key.isValid() && key.attachment() != null) {
+                            ((NioConnection) key.attachment()).check(now);
+                        }
+                    }
+                }
+            } catch (Exception ex) {
+                logger.error("NIO server error", ex);
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() != null) {
+                ((NioConnection) key.attachment()).close(DisconnectReason.Disconnected, null);
+            }
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException ex) {
+            logger.error("Error closing NIO server", ex);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        String sessionId = UUID.randomUUID().toString();
+        NioConnection connection = new NioConnection(channel, sessionId);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        SessionManager.instance.createSession(sessionId, connection);
+        SessionManager.instance.getSession(sessionId).ifPresent(session
+                -> session.setHost(channel.socket().getInetAddress().getHostAddress()));
+        connection.send(NioProtocol.encodeFrame(new NioHandshake(sessionId)));
+    }
+
+    private void invoke(NioConnection connection, byte[] data) {
+        NioRequest request;
+        try {
+            request = (NioRequest) NioProtocol.decodeMessage(data);
+        } catch (IOException | ClassCastException ex) {
+            logger.error("Invalid request from sessionId " + connection.sessionId, ex);
+            connection.close(DisconnectReason.LostConnection, ex);
+            return;
+        }
+        Object result = null;
+        Throwable exception = null;
+        Method method = methods.get(request.getMethod());
+        if (method == null) {
+            exception = new NoSuchMethodException(request.getMethod());
+        } else {
+            try {
+                result = method.invoke(target, request.getArguments());
+            } catch (InvocationTargetException ex) {
+                exception = ex.getCause();
+            } catch (IllegalAccessException | IllegalArgumentException ex) {
+                exception = ex;
+            }
+        }
+        try {
+            ByteBuffer frame;
+            try {
+                frame = NioProtocol.encodeFrame(new NioResponse(request.getRequestId(), result, exception));
+            } catch (IOException ex) {
+                logger.error("Can't send response of " + request.getMethod(), ex);
+                frame = NioProtocol.encodeFrame(new NioResponse(request.getRequestId(), null,
+                        new MageException("Can't send response of " + request.getMethod())));
+            }
+            connection.send(frame);
+        } catch (IOException ex) {
+            logger.debug("Response not sent to sessionId " + connection.sessionId + " - " + ex.getMessage());
+        }
+    }
+
+    private final class NioConnection implements CallbackSender {
+
+        private static final int HEADER_SIZE = 4;
+        // a client that gets more data than it reads is disconnected
+        private static final long MAX_PENDING_BYTES = 32 * 1024 * 1024;
+
+        private final SocketChannel channel;
+        private final String sessionId;
+        private SelectionKey key;
+
+        private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        private ByteBuffer body;
+        private long lastRead = System.currentTimeMillis();
+        private boolean loggedIn;
+
+        // the fields below are guarded by the connection
+        private final ArrayDeque<ByteBuffer> output = new ArrayDeque<>();
+        private long pendingBytes;
+        private long lastWrite = System.currentTimeMillis();
+        private boolean closed;
+
+        private NioConnection(SocketChannel channel, String sessionId) {
+            this.channel = channel;
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public void send(ClientCallback callback) throws IOException {
+            send(NioProtocol.encodeFrame(callback));
+        }
+
+        private void send(ByteBuffer frame) throws IOException {
+            IOException overflow = null;
+            synchronized (this) {
+                if (closed) {
+                    throw new IOException("Connection closed");
+                }
+                if (pendingBytes + frame.remaining() > MAX_PENDING_BYTES) {
+                    overflow = new IOException("Client does not read its data, " + pendingBytes + " bytes pending");
+                } else if (output.isEmpty()) {
+                    lastWrite = System.currentTimeMillis();
+                }
+                if (overflow == null) {
+                    output.addLast(frame);
+                    pendingBytes += frame.remaining();
+                }
+            }
+            if (overflow != null) {
+                close(DisconnectReason.LostConnection, overflow);
+                throw overflow;
+            }
+            pendingWrites.add(this);
+            selector.wakeup();
+        }
+
+        // selector thread only
+        private void enableWrite() {
+            if (key.isValid()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        }
+
+        /**
+         * Selector thread only. Until a user or admin is connected only small
+         * frames are accepted, so a client can't make the server allocate big
+         * buffers without a login.
+         */
+        private int getMaxFrameSize() {
+            if (!loggedIn) {
+                loggedIn = SessionManager.instance.getSession(sessionId)
+                        .map(session -> session.getUserId() != null || session.isAdmin())
+                        .orElse(false);
+            }
+            return loggedIn ? NioProtocol.MAX_FRAME_SIZE : NioProtocol.MAX_LOGIN_FRAME_SIZE;
+        }
+
+        // selector thread only
+        private void read() {
+            try {
+                while (true) {
+                    if (body == null) {
+                        if (channel.read(header) < 0) {
+                            close(DisconnectReason.Disconnected, null);
+                            return;
+                        }
+                        if (header.hasRemaining()) {
+                            return;
+                        }
+                        lastRead = System.currentTimeMillis();
+                        header.flip();
+                        int length = header.getInt();
+                        header.clear();
+                        if (length == 0) {
+                            // heartbeat
+                            continue;
+                        }
+                        if (length < 0 || length > getMaxFrameSize()) {
+                            throw new IOException("Invalid frame length " + length);
+                        }
+                        body = ByteBuffer.allocate(length);
+                    }
+                    if (channel.read(body) < 0) {
+                        close(DisconnectReason.Disconnected, null);
+                        return;
+                    }
+                    if (body.hasRemaining()) {
+                        return;
+                    }
+                    lastRead = System.currentTimeMillis();
+                    byte[] data = body.array();
+                    body = null;
+                    callExecutor.execute(() -> invoke(this, data));
+                }
+            } catch (IOException ex) {
+                close(DisconnectReason.LostConnection, ex);
+            }
+        }
+
+        // selector thread only
+        private void write() {
+            try {
+                synchronized (this) {
+                    while (!output.isEmpty()) {
+                        ByteBuffer frame = output.peekFirst();
+                        int written = channel.write(frame);
+                        if (written > 0) {
+                            pendingBytes -= written;
+                            lastWrite = System.currentTimeMillis();
+                        }
+                        if (frame.hasRemaining()) {
+                            // socket buffer is full, wait for the next write event
+                            return;
+                        }
+                        output.pollFirst();
+                    }
+                }
+                key.interestOps(SelectionKey.OP_READ);
+            } catch (IOException ex) {
+                close(DisconnectReason.LostConnection, ex);
+            }
+        }
+
+        // selector thread only
+        private void check(long now) {
+            boolean heartbeat;
+            boolean writeTimedOut;
+            synchronized (this) {
+                writeTimedOut = !output.isEmpty() && now - lastWrite > writeTimeout;
+                heartbeat = output.isEmpty() && now - lastWrite >= NioProtocol.HEARTBEAT_INTERVAL;
+            }
+            if (now - lastRead > NioProtocol.IDLE_TIMEOUT) {
+                close(DisconnectReason.LostConnection, new IOException("No data received for " + (now - lastRead) + " ms"));
+            } else if (writeTimedOut) {
+                close(DisconnectReason.LostConnection, new IOException("Write timeout"));
+            } else if (heartbeat) {
+                try {
+                    send(NioProtocol.createHeartbeatFrame());
+                } catch (IOException ex) {
+                    close(DisconnectReason.LostConnection, ex);
+                }
+            }
+        }
+
+        private void close(DisconnectReason reason, Exception cause) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                output.clear();
+                pendingBytes = 0;
+            }
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                logger.debug("Error closing channel", ex);
+            }
+            if (cause != null) {
+                logger.debug("NIO connection closed - sessionId " + sessionId + " - " + cause.getMessage());
+            }
+            callExecutor.execute(() -> SessionManager.instance.disconnect(sessionId, reason));
+        }
+    }
+}
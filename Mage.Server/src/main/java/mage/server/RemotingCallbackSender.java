@@ -0,0 +1,29 @@
+package mage.server;
+
+import java.io.IOException;
+import mage.interfaces.callback.ClientCallback;
+import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
+import org.jboss.remoting.callback.Callback;
+import org.jboss.remoting.callback.HandleCallbackException;
+import org.jboss.remoting.callback.InvokerCallbackHandler;
+
+/**
+ * Sends the callbacks with the JBoss Remoting callback handler of the client.
+ */
+class RemotingCallbackSender implements CallbackSender {
+
+    private final AsynchInvokerCallbackHandler callbackHandler;
+
+    RemotingCallbackSender(InvokerCallbackHandler callbackHandler) {
+        this.callbackHandler = (AsynchInvokerCallbackHandler) callbackHandler;
+    }
+
+    @Override
+    public void send(ClientCallback callback) throws IOException {
+        try {
+            callbackHandler.handleCallbackOneway(new Callback(callback));
+        } catch (HandleCallbackException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
@@ -27,6 +27,7 @@
  */
 package mage.server;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -43,12 +44,12 @@ import mage.server.game.GamesRoom;
 import mage.server.game.GamesRoomManager;
 import mage.server.util.ConfigSettings;
 import mage.server.util.SystemUtil;
+import mage.server.util.ThreadExecutor;
 import mage.util.RandomUtil;
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import mage.view.GameViewDelta;
 import org.apache.log4j.Logger;
-import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
-import org.jboss.remoting.callback.Callback;
-import org.jboss.remoting.callback.HandleCallbackException;
-import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -62,22 +63,32 @@ public class Session {
     private final String sessionId;
     private UUID userId;
     private String host;
+    private static final int MAX_CALLBACK_QUEUE_SIZE = 1000;
+    // callbacks sent in one run of the sender, then the other sessions get the thread
+    private static final int CALLBACK_BATCH_SIZE = 50;
+
     private int messageId = 0;
     private final Date timeConnected;
     private boolean isAdmin = false;
-    private final AsynchInvokerCallbackHandler callbackHandler;
-    private boolean valid = true;
+    private final CallbackSender callbackSender;
+    private volatile boolean valid = true;
 
     private final ReentrantLock lock;
-    private final ReentrantLock callBackLock;
 
-    public Session(String sessionId, InvokerCallbackHandler callbackHandler) {
+    // callbacks waiting to be sent, the fields below are guarded by the queue too
+    private final ArrayDeque<QueuedCallback> callbackQueue = new ArrayDeque<>();
+    private boolean callbackSenderActive = false;
+    private long callbacksSent;
+    private long callbacksCoalesced;
+    private long callbackLatencySumNanos;
+    private long callbackLatencyMaxNanos;
+
+    public Session(String sessionId, CallbackSender callbackSender) {
         this.sessionId = sessionId;
-        this.callbackHandler = (AsynchInvokerCallbackHandler) callbackHandler;
+        this.callbackSender = callbackSender;
         this.isAdmin = false;
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
-        this.callBackLock = new ReentrantLock();
     }
 
     public String registerUser(String userName, String password, String email) throws MageException {
@@ -372,28 +383,205 @@ public class Session {
 
     }
 
+    /**
+     * Queues the callback for the client. The callbacks are sent in order by
+     * a thread of the callback executor, so the caller (e.g. the game thread)
+     * never waits for the network. A game or replay update that supersedes an
+     * update of the same game that is still waiting in the queue is merged
+     * into that update.
+     *
+     * @param call
+     */
     public void fireCallback(final ClientCallback call) {
-        boolean lockSet = false;
-        try {
-            if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
+        if (!valid) {
+            return;
+        }
+        boolean startSender = false;
+        boolean overflow = false;
+        synchronized (callbackQueue) {
+            if (!valid) {
+                return;
+            }
+            if (!coalesce(call)) {
+                if (callbackQueue.size() >= MAX_CALLBACK_QUEUE_SIZE) {
+                    // the client does not get the messages anymore
+                    valid = false;
+                    overflow = true;
+                    dropQueuedCallbacks("queue full");
+                } else {
+                    callbackQueue.addLast(new QueuedCallback(new ClientCallback(call.getMethod(), call.getObjectId(), call.getData())));
+                }
+            }
+            if (!overflow && !callbackSenderActive) {
+                callbackSenderActive = true;
+                startSender = true;
+            }
+        }
+        if (overflow) {
+            ThreadExecutor.instance.getCallbackExecutor().execute(()
+                    -> lostConnection("SESSION CALLBACK QUEUE FULL", null));
+        } else if (startSender) {
+            ThreadExecutor.instance.getCallbackExecutor().execute(this::sendCallbacks);
+        }
+    }
+
+    /**
+     * @param call
+     * @return true if the callback was merged into the last queued callback of
+     * the same object
+     */
+    private boolean coalesce(ClientCallback call) {
+        if (call.getMethod() != ClientCallbackMethod.GAME_UPDATE && call.getMethod() != ClientCallbackMethod.REPLAY_UPDATE) {
+            return false;
+        }
+        Iterator<QueuedCallback> it = callbackQueue.descendingIterator();
+        while (it.hasNext()) {
+            ClientCallback queued = it.next().callback;
+            if (Objects.equals(queued.getObjectId(), call.getObjectId())) {
+                if (queued.getMethod() != call.getMethod()) {
+                    // don't move the update before other messages of the game
+                    return false;
+                }
+                Object merged = mergeUpdates(queued.getData(), call.getData());
+                if (merged == null) {
+                    return false;
+                }
+                queued.setData(merged);
+                callbacksCoalesced++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object mergeUpdates(Object queued, Object update) {
+        if (queued instanceof GameViewDelta && update instanceof GameViewDelta) {
+            return GameViewDelta.merge((GameViewDelta) queued, (GameViewDelta) update);
+        }
+        if (update instanceof GameView) {
+            // complete view, nothing of the queued update is needed
+            return update;
+        }
+        return null;
+    }
+
+    private void sendCallbacks() {
+        for (int sent = 0;; sent++) {
+            QueuedCallback next;
+            synchronized (callbackQueue) {
+                if (!valid) {
+                    dropQueuedCallbacks("session invalid");
+                }
+                if (callbackQueue.isEmpty()) {
+                    callbackSenderActive = false;
+                    return;
+                }
+                if (sent == CALLBACK_BATCH_SIZE) {
+                    // the sender stays active and continues after the other queued sessions
+                    ThreadExecutor.instance.getCallbackExecutor().execute(this::sendCallbacks);
+                    return;
+                }
+                next = callbackQueue.pollFirst();
+            }
+            ClientCallback call = next.callback;
+            try {
+                call.setData(CompressUtil.compact(call.getData()));
                 call.setMessageId(messageId++);
-                lockSet = true;
-                callbackHandler.handleCallbackOneway(new Callback(call));
+                callbackSender.send(call);
+                long latency = System.nanoTime() - next.queuedNanos;
+                synchronized (callbackQueue) {
+                    callbacksSent++;
+                    callbackLatencySumNanos += latency;
+                    callbackLatencyMaxNanos = Math.max(callbackLatencyMaxNanos, latency);
+                }
+            } catch (IOException ex) {
+                valid = false;
+                lostConnection("SESSION CALLBACK EXCEPTION - messageId: " + call.getMessageId(), ex);
+            } catch (Exception ex) {
+                logger.error("SESSION CALLBACK ERROR - userId " + userId + " messageId: " + call.getMessageId() + " method: " + call.getMethod(), ex);
             }
-        } catch (InterruptedException ex) {
-            logger.warn("SESSION LOCK - fireCallback - userId: " + userId + " messageId: " + call.getMessageId(), ex);
-        } catch (HandleCallbackException ex) {
-            this.valid = false;
-            UserManager.instance.getUser(userId).ifPresent(user -> {
-                user.setUserState(User.UserState.Disconnected);
-                logger.warn("SESSION CALLBACK EXCEPTION - " + user.getName() + " userId " + userId + " messageId: " + call.getMessageId() + " - cause: " + getBasicCause(ex).toString());
+        }
+    }
+
+    /**
+     * Stops sending callbacks to the client, the callbacks that are still
+     * queued are dropped and logged.
+     */
+    public void closeCallbacks() {
+        synchronized (callbackQueue) {
+            valid = false;
+            dropQueuedCallbacks("disconnected");
+        }
+    }
+
+    /**
+     * Drops the callbacks that were not sent yet, called with the queue lock.
+     *
+     * @param reason
+     */
+    private void dropQueuedCallbacks(String reason) {
+        if (callbackQueue.isEmpty()) {
+            return;
+        }
+        Map<ClientCallbackMethod, Integer> methods = new EnumMap<>(ClientCallbackMethod.class);
+        for (QueuedCallback queued : callbackQueue) {
+            methods.merge(queued.callback.getMethod(), 1, Integer::sum);
+        }
+        logger.warn("SESSION CALLBACKS DROPPED - " + reason + " - userId " + userId + ": " + callbackQueue.size() + " callbacks " + methods);
+        callbackQueue.clear();
+    }
+
+    private void lostConnection(String message, Exception ex) {
+        UserManager.instance.getUser(userId).ifPresent(user -> {
+            user.setUserState(User.UserState.Disconnected);
+            logger.warn(message + " - " + user.getName() + " userId " + userId + (ex != null ? " - cause: " + getBasicCause(ex).toString() : ""));
+            if (ex != null) {
                 logger.trace("Stack trace:", ex);
-                SessionManager.instance.disconnect(sessionId, LostConnection);
-            });
-        } finally {
-            if (lockSet) {
-                callBackLock.unlock();
             }
+            SessionManager.instance.disconnect(sessionId, LostConnection);
+        });
+    }
+
+    public int getCallbackQueueSize() {
+        synchronized (callbackQueue) {
+            return callbackQueue.size();
+        }
+    }
+
+    public long getCallbacksCoalesced() {
+        synchronized (callbackQueue) {
+            return callbacksCoalesced;
+        }
+    }
+
+    /**
+     * @return average time in milliseconds from queueing a callback until it
+     * was handed over to the transport
+     */
+    public long getAverageCallbackLatency() {
+        synchronized (callbackQueue) {
+            return callbacksSent == 0 ? 0 : callbackLatencySumNanos / callbacksSent / 1000000;
+        }
+    }
+
+    public long getMaxCallbackLatency() {
+        synchronized (callbackQueue) {
+            return callbackLatencyMaxNanos / 1000000;
+        }
+    }
+
+    public String getCallbackInfo() {
+        return "queue " + getCallbackQueueSize() + ", merged " + getCallbacksCoalesced()
+                + ", latency " + getAverageCallbackLatency() + '/' + getMaxCallbackLatency() + " ms";
+    }
+
+    private static final class QueuedCallback {
+
+        private final ClientCallback callback;
+        private final long queuedNanos = System.nanoTime();
+
+        private QueuedCallback(ClientCallback callback) {
+            this.callback = callback;
         }
     }
 
@@ -33,7 +33,6 @@ import javax.annotation.Nonnull;
 import mage.MageException;
 import mage.players.net.UserData;
 import org.apache.log4j.Logger;
-import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -61,8 +60,8 @@ public enum SessionManager {
         return Optional.of(session);
     }
 
-    public void createSession(String sessionId, InvokerCallbackHandler callbackHandler) {
-        Session session = new Session(sessionId, callbackHandler);
+    public void createSession(String sessionId, CallbackSender callbackSender) {
+        Session session = new Session(sessionId, callbackSender);
         sessions.put(sessionId, session);
     }
 
@@ -131,6 +130,7 @@ public enum SessionManager {
             }
             logger.debug("DISCONNECT  " + reason.toString() + " - sessionId: " + sessionId);
             sessions.remove(sessionId);
+            session.closeCallbacks();
             switch (reason) {
                 case AdminDisconnect:
                     session.kill(reason);
@@ -542,6 +542,7 @@ public class TableController {
                         logger.debug("User not found - userId: " + userId + " tableId:" + table.getId());
                     }
                     userPlayerMap.remove(userId);
+                    table.fireUpdateEvent();
                 } else if (table.getState() != TableState.FINISHED) {
                     if (table.isTournament()) {
                         logger.debug("Quit tournament sub tables for userId: " + userId);
@@ -752,6 +753,7 @@ public class TableController {
         }
         UUID choosingPlayerId = match.getChooser();
         match.endGame();
+        table.fireUpdateEvent(); // score of the match
         if (ConfigSettings.instance.isSaveGameActivated() && !game.isSimulation()) {
             if (GameManager.instance.saveGame(game.getId())) {
                 match.setReplayAvailable(true);
@@ -889,6 +891,7 @@ public class TableController {
                 table.getSeats()[seatNum1].setPlayerType(table.getSeats()[seatNum2].getPlayerType());
                 table.getSeats()[seatNum2].setPlayer(swapPlayer);
                 table.getSeats()[seatNum2].setPlayerType(swapType);
+                table.fireUpdateEvent();
             }
         }
     }
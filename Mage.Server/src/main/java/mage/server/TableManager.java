@@ -425,8 +425,9 @@ public enum TableManager {
         }
         logger.debug("------- Games: " + GameManager.instance.getNumberActiveGames() + " --------------------------------------------");
         logger.debug(" Active Game Worker: " + ThreadExecutor.instance.getActiveThreads(ThreadExecutor.instance.getGameExecutor()));
+        logger.debug(" Timing wheel: " + ThreadExecutor.instance.getTimingWheel());
         for (Entry<UUID, GameController> entry : GameManager.instance.getGameController().entrySet()) {
-            logger.debug(entry.getKey() + entry.getValue().getPlayerNameList());
+            logger.debug(entry.getKey() + entry.getValue().getPlayerNameList() + entry.getValue().getEffectsInfo());
         }
         logger.debug("--- Server state END ------------------------------------------");
     }
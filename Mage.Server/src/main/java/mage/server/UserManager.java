@@ -264,7 +264,8 @@ public enum UserManager {
                         user.getChatLockedUntil(),
                         user.getClientVersion(),
                         user.getEmail(),
-                        user.getUserIdStr()
+                        user.getUserIdStr(),
+                        SessionManager.instance.getSession(user.getSessionId()).map(Session::getCallbackInfo).orElse("")
                 ));
             }
             userInfoList = newUserInfoList;
@@ -29,6 +29,7 @@
 package mage.server.draft;
 
 import mage.MageException;
+import mage.game.Table;
 import mage.game.draft.Draft;
 import mage.game.draft.DraftPlayer;
 import mage.game.events.Listener;
@@ -81,6 +82,7 @@ public class DraftController {
                         switch (event.getEventType()) {
                             case UPDATE:
                                 updateDraft();
+                                updateTable();
                                 break;
                             case END:
                                 endDraft();
@@ -97,6 +99,7 @@ public class DraftController {
                     try {
                         switch (event.getQueryType()) {
                             case PICK_CARD:
+                                updateTable(); // the table shows the number of the pick
                                 pickCard(event.getPlayerId(), event.getMax());
                                 break;
                         }
@@ -240,6 +243,13 @@ public class DraftController {
         }
     }
 
+    private void updateTable() {
+        Table table = TableManager.instance.getTable(tableId);
+        if (table != null) {
+            table.fireUpdateEvent();
+        }
+    }
+
     private synchronized void pickCard(UUID playerId, int timeout) throws MageException {
         if (draftSessions.containsKey(playerId)) {
             draftSessions.get(playerId).pickCard(timeout);
@@ -31,7 +31,6 @@ import java.rmi.RemoteException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import mage.game.draft.Draft;
@@ -40,6 +39,7 @@ import mage.interfaces.callback.ClientCallbackMethod;
 import mage.server.User;
 import mage.server.UserManager;
 import mage.server.util.ThreadExecutor;
+import mage.utils.timer.TimingWheel;
 import mage.view.DraftClientMessage;
 import mage.view.DraftPickView;
 import mage.view.DraftView;
@@ -59,7 +59,7 @@ public class DraftSession {
     protected UUID markedCard;
 
     private ScheduledFuture<?> futureTimeout;
-    protected static final ScheduledExecutorService timeoutExecutor = ThreadExecutor.instance.getTimeoutExecutor();
+    protected static final TimingWheel timingWheel = ThreadExecutor.instance.getTimingWheel();
 
     public DraftSession(Draft draft, UUID userId, UUID playerId) {
         this.userId = userId;
@@ -113,7 +113,7 @@ public class DraftSession {
     private synchronized void setupTimeout(int seconds) {
         cancelTimeout();
         if (seconds > 0) {
-            futureTimeout = timeoutExecutor.schedule(
+            futureTimeout = timingWheel.schedule(
                     () -> DraftManager.instance.timeout(draft.getId(), userId),
                     seconds, TimeUnit.SECONDS
             );
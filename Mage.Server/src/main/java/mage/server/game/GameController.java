@@ -65,6 +65,7 @@ import mage.server.util.Splitter;
 import mage.server.util.SystemUtil;
 import mage.server.util.ThreadExecutor;
 import mage.utils.timer.PriorityTimer;
+import mage.utils.timer.TimingWheel;
 import mage.view.*;
 import mage.view.ChatMessage.MessageColor;
 import mage.view.ChatMessage.MessageType;
@@ -78,15 +79,16 @@ public class GameController implements GameCallback {
     private static final ExecutorService gameExecutor = ThreadExecutor.instance.getGameExecutor();
     private static final Logger logger = Logger.getLogger(GameController.class);
 
-    protected final ScheduledExecutorService joinWaitingExecutor = Executors.newSingleThreadScheduledExecutor();
+    private ScheduledFuture<?> joinWaitingTimeout;
 
     private ScheduledFuture<?> futureTimeout;
-    protected static final ScheduledExecutorService timeoutIdleExecutor = ThreadExecutor.instance.getTimeoutIdleExecutor();
+    protected static final TimingWheel timingWheel = ThreadExecutor.instance.getTimingWheel();
 
     private final ConcurrentHashMap<UUID, GameSessionPlayer> gameSessions = new ConcurrentHashMap<>();
     private final ReadWriteLock gameSessionsLock = new ReentrantReadWriteLock();
 
     private final ConcurrentHashMap<UUID, GameSessionWatcher> watchers = new ConcurrentHashMap<>();
+    private final WatcherGameView watcherGameView = new WatcherGameView();
     private final ReadWriteLock gameWatchersLock = new ReentrantReadWriteLock();
 
     private final ConcurrentHashMap<UUID, PriorityTimer> timers = new ConcurrentHashMap<>();
@@ -122,6 +124,9 @@ public class GameController implements GameCallback {
 
     public void cleanUp() {
         cancelTimeout();
+        if (joinWaitingTimeout != null) {
+            joinWaitingTimeout.cancel(false);
+        }
         for (GameSessionPlayer gameSessionPlayer : getGameSessions()) {
             gameSessionPlayer.cleanUp();
         }
@@ -246,7 +251,7 @@ public class GameController implements GameCallback {
                     }
                 }
         );
-        joinWaitingExecutor.scheduleAtFixedRate(() -> {
+        joinWaitingTimeout = timingWheel.scheduleAtFixedRate(() -> {
             try {
                 sendInfoAboutPlayersNotJoinedYet();
             } catch (Exception ex) {
@@ -278,7 +283,7 @@ public class GameController implements GameCallback {
         };
 
         PriorityTimer timer = new PriorityTimer(count, delayMs, executeOnNoTimeLeft);
-        timer.init(game.getId());
+        timer.init(timingWheel);
         timers.put(playerId, timer);
         return timer;
     }
@@ -386,7 +391,7 @@ public class GameController implements GameCallback {
 
     private void checkStart() {
         if (allJoined()) {
-            joinWaitingExecutor.shutdownNow();
+            joinWaitingTimeout.cancel(false);
             ThreadExecutor.instance.getCallExecutor().execute(this::startGame);
         }
     }
@@ -587,11 +592,28 @@ public class GameController implements GameCallback {
             case VIEW_LIMITED_DECK:
                 viewLimitedDeck(getPlayerId(userId), userId);
                 break;
+            case REQUEST_GAME_VIEW_RESYNC:
+                resyncGameView(userId);
+                break;
             default:
                 game.sendPlayerAction(playerAction, getPlayerId(userId), data);
         }
     }
 
+    private synchronized void resyncGameView(UUID userId) {
+        GameSessionWatcher gameSession = null;
+        UUID playerId = getPlayerId(userId);
+        if (playerId != null) {
+            gameSession = gameSessions.get(playerId);
+        }
+        if (gameSession == null) {
+            gameSession = watchers.get(userId);
+        }
+        if (gameSession != null) {
+            gameSession.resync();
+        }
+    }
+
     private int requestPermissionToRollback(UUID userIdRequester, int numberTurns) {
         int requests = 0;
         for (Player player : game.getState().getPlayers().values()) {
@@ -751,8 +773,17 @@ public class GameController implements GameCallback {
         for (final GameSessionPlayer gameSession : getGameSessions()) {
             gameSession.update();
         }
+        boolean watcherViewUpdated = false;
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+            if (gameWatcher.canSeeHandCards()) {
+                gameWatcher.update();
+            } else {
+                if (!watcherViewUpdated) {
+                    watcherGameView.update(getWatcherGameView());
+                    watcherViewUpdated = true;
+                }
+                gameWatcher.update(watcherGameView);
+            }
         }
     }
 
@@ -845,9 +876,7 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message.toString());
             }
         }
-        for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message.toString());
-        }
+        informWatchers(message.toString());
     }
 
     private void informOthers(List<UUID> players) throws MageException {
@@ -866,11 +895,31 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message);
             }
         }
+        informWatchers(message);
+    }
+
+    private void informWatchers(String message) {
+        Object watcherMessage = null;
         for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message);
+            if (watcher.canSeeHandCards()) {
+                watcher.inform(message);
+            } else {
+                if (watcherMessage == null) {
+                    watcherMessage = WatcherGameView.compress(new GameClientMessage(getWatcherGameView(), message));
+                }
+                watcher.informShared(watcherMessage);
+            }
         }
     }
 
+    /**
+     * @return the public view of the game, the same for all watchers that
+     * can't see hand cards
+     */
+    private GameView getWatcherGameView() {
+        return new GameView(game.getState(), game, null, null);
+    }
+
     private synchronized void informPersonal(UUID playerId, final String message) throws MageException {
         perform(playerId, playerId1 -> getGameSession(playerId1).informPersonal(message));
     }
@@ -998,7 +1047,7 @@ public class GameController implements GameCallback {
             return;
         }
         cancelTimeout();
-        futureTimeout = timeoutIdleExecutor.schedule(
+        futureTimeout = timingWheel.schedule(
                 () -> idleTimeout(playerId),
                 Main.isTestMode() ? 3600 : ConfigSettings.instance.getMaxSecondsIdle(),
                 TimeUnit.SECONDS
@@ -1068,6 +1117,15 @@ public class GameController implements GameCallback {
         return gameSessions.get(playerId);
     }
 
+    /**
+     * @return how often the game applied the continuous effects and how often
+     * it skipped them because nothing changed
+     */
+    public String getEffectsInfo() {
+        GameState state = game.getState();
+        return " effects applied: " + state.getEffectsAppliedCount() + ", skipped: " + state.getEffectsSkippedCount();
+    }
+
     public String getPlayerNameList() {
         StringBuilder sb = new StringBuilder(" [");
         for (UUID playerId : userPlayerMap.values()) {
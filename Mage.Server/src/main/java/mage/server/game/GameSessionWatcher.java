@@ -38,6 +38,8 @@ import mage.server.UserManager;
 import mage.view.GameClientMessage;
 import mage.view.GameEndView;
 import mage.view.GameView;
+import mage.view.GameViewDelta;
+import mage.view.GameViewDeltaEncoder;
 import mage.view.SimpleCardsView;
 import org.apache.log4j.Logger;
 
@@ -57,6 +59,9 @@ public class GameSessionWatcher {
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    protected final GameViewDeltaEncoder gameViewEncoder = new GameViewDeltaEncoder();
+    // the client got the last update of the view shared by the watchers
+    private boolean watcherViewSent = false;
 
     public GameSessionWatcher(UUID userId, Game game, boolean isPlayer) {
         this.userId = userId;
@@ -77,11 +82,52 @@ public class GameSessionWatcher {
 
     public void update() {
         if (!killed) {
-            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            watcherViewSent = false;
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameUpdate())));
         }
 
     }
 
+    /**
+     * Sends the view shared by all watchers that can't see hand cards instead
+     * of an own view
+     *
+     * @param watcherView
+     */
+    public void update(WatcherGameView watcherView) {
+        if (!killed) {
+            Object data = watcherViewSent ? watcherView.getUpdate() : watcherView.getFullView();
+            if (data == null) {
+                update();
+                return;
+            }
+            watcherViewSent = true;
+            // the client does not have the base of the next own view
+            gameViewEncoder.reset();
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), data)));
+        }
+    }
+
+    /**
+     * Sends the next update as full view, used if the client could not apply
+     * an update
+     */
+    public void resync() {
+        watcherViewSent = false;
+        gameViewEncoder.reset();
+        update();
+    }
+
+    /**
+     * @return the game view as delta against the last view sent to the user
+     * (or the full view if it can't be encoded)
+     */
+    protected Object getGameUpdate() {
+        GameView gameView = getGameView();
+        GameViewDelta update = gameViewEncoder.encode(gameView);
+        return update != null ? update : gameView;
+    }
+
     public void inform(final String message) {
         if (!killed) {
             UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM, game.getId(), new GameClientMessage(getGameView(), message))));
@@ -89,6 +135,18 @@ public class GameSessionWatcher {
 
     }
 
+    /**
+     * Sends an inform message that was built once for all watchers that can't
+     * see hand cards
+     *
+     * @param message
+     */
+    public void informShared(final Object message) {
+        if (!killed) {
+            UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM, game.getId(), message)));
+        }
+    }
+
     public void informPersonal(final String message) {
         if (!killed) {
             UserManager.instance.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameView(), message))));
@@ -130,6 +188,19 @@ public class GameSessionWatcher {
 
     }
 
+    /**
+     * @return true if the user is allowed to see the hand cards of a player, so
+     * the view shared by the watchers can't be used
+     */
+    public boolean canSeeHandCards() {
+        for (Player player : game.getPlayers().values()) {
+            if (player.hasUserPermissionToSeeHand(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected void processWatchedHands(UUID userId, GameView gameView) {
         Map<String, SimpleCardsView> handCards = new HashMap<>();
         for (Player player : game.getPlayers().values()) {
@@ -31,6 +31,8 @@ import java.util.UUID;
 import java.util.concurrent.Callable;
 import mage.MageException;
 import mage.game.Game;
+import mage.server.util.GameThreadLimit;
+import mage.server.util.ThreadExecutor;
 import org.apache.log4j.Logger;
 
 /**
@@ -54,9 +56,13 @@ public class GameWorker<T> implements Callable {
 
     @Override
     public Object call() {
+        GameThreadLimit limit = ThreadExecutor.instance.getGameThreadLimit();
         try {
             LOGGER.debug("GAME WORKER started gameId " + game.getId());
             Thread.currentThread().setName("GAME " + game.getId());
+            if (limit != null) {
+                limit.enter();
+            }
             game.start(choosingPlayerId);
             game.fireUpdatePlayersEvent();
             gameController.gameResult(game.getWinner());
@@ -75,6 +81,10 @@ public class GameWorker<T> implements Callable {
             }
         } catch (Error err) {
             LOGGER.fatal("GameWorker general error [" + game.getId() + "] " + err, err);
+        } finally {
+            if (limit != null) {
+                limit.exit();
+            }
         }
         return null;
     }
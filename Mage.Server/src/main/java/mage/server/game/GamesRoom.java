@@ -37,6 +37,7 @@ import mage.players.PlayerType;
 import mage.server.Room;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
+import mage.view.TableChangesView;
 import mage.view.TableView;
 
 import java.util.List;
@@ -50,6 +51,7 @@ import java.util.UUID;
 public interface GamesRoom extends Room {
 
     List<TableView> getTables();
+    TableChangesView getTableChanges(long sinceVersion);
     List<MatchView> getFinished();
     List<RoomUsersView> getRoomUsersInfo();
     boolean joinTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws MageException;
@@ -33,11 +33,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import mage.MageException;
 import mage.cards.decks.DeckCardLists;
 import mage.constants.TableState;
 import mage.game.GameException;
 import mage.game.Table;
+import mage.game.events.Listener;
+import mage.game.events.TableEvent;
 import mage.game.match.MatchOptions;
 import mage.game.tournament.TournamentOptions;
 import mage.players.PlayerType;
@@ -50,6 +53,7 @@ import mage.server.util.ConfigSettings;
 import mage.server.util.ThreadExecutor;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
+import mage.view.TableChangesView;
 import mage.view.TableView;
 import mage.view.UsersView;
 import org.apache.log4j.Logger;
@@ -62,11 +66,16 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     private static final Logger LOGGER = Logger.getLogger(GamesRoomImpl.class);
 
     private static final ScheduledExecutorService UPDATE_EXECUTOR = Executors.newSingleThreadScheduledExecutor();
-    private static List<TableView> tableView = new ArrayList<>();
     private static List<MatchView> matchView = new ArrayList<>();
     private static List<RoomUsersView> roomUsersView = new ArrayList<>();
 
     private final ConcurrentHashMap<UUID, Table> tables = new ConcurrentHashMap<>();
+    private final VersionedTableViews tableViews = new VersionedTableViews();
+    // a finished match doesn't change anymore, only used by the update thread
+    private final Map<UUID, MatchView> finishedMatchViews = new HashMap<>();
+    private final AtomicBoolean tablesUpdatePending = new AtomicBoolean();
+    // tables with a view to build again, the other tables keep their last view
+    private final Set<UUID> changedTables = ConcurrentHashMap.newKeySet();
 
     public GamesRoomImpl() {
         UPDATE_EXECUTOR.scheduleAtFixedRate(() -> {
@@ -81,19 +90,57 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
 
     @Override
     public List<TableView> getTables() {
-        return tableView;
+        return tableViews.getTables();
+    }
+
+    @Override
+    public TableChangesView getTableChanges(long sinceVersion) {
+        return tableViews.getChanges(sinceVersion);
     }
 
     private void update() {
+        tablesUpdatePending.set(false);
+        updateTables();
+        updateUsers();
+    }
+
+    /**
+     * Updates the view of the table with the next update.
+     */
+    private void tableChanged(UUID tableId) {
+        changedTables.add(tableId);
+    }
+
+    /**
+     * Updates the table views soon, so the clients see a created, joined or
+     * left table without waiting for the next periodic update.
+     */
+    private void requestTablesUpdate() {
+        if (tablesUpdatePending.compareAndSet(false, true)) {
+            UPDATE_EXECUTOR.execute(() -> {
+                try {
+                    if (tablesUpdatePending.compareAndSet(true, false)) {
+                        updateTables();
+                    }
+                } catch (Exception ex) {
+                    LOGGER.fatal("Games room update exception! " + ex.toString(), ex);
+                }
+            });
+        }
+    }
+
+    private void updateTables() {
         List<Table> allTables = new ArrayList<>(tables.values());
         allTables.sort(new TableListSorter());
         List<MatchView> matchList = new ArrayList<>();
         List<TableView> tableList = new ArrayList<>();
         for (Table table : allTables) {
             if (table.getState() != TableState.FINISHED) {
-                tableList.add(new TableView(table));
+                // the mark is removed before the view is built, so a change while building marks the table again
+                TableView view = changedTables.remove(table.getId()) ? null : tableViews.getTable(table.getId());
+                tableList.add(view != null ? view : new TableView(table));
             } else if (matchList.size() < 50) {
-                matchList.add(new MatchView(table));
+                matchList.add(finishedMatchViews.computeIfAbsent(table.getId(), tableId -> new MatchView(table)));
             } else {
                 // more since 50 matches finished since this match so removeUserFromAllTablesAndChat it
                 if (table.isTournament()) {
@@ -102,8 +149,13 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
                 this.removeTable(table.getId());
             }
         }
-        tableView = tableList;
+        tableViews.update(tableList);
         matchView = matchList;
+        finishedMatchViews.keySet().retainAll(tables.keySet());
+        changedTables.retainAll(tables.keySet());
+    }
+
+    private void updateUsers() {
         List<UsersView> users = new ArrayList<>();
         for (User user : UserManager.instance.getUsers()) {
             if (user.getUserState() != User.UserState.Offline && !user.getName().equals("Admin")) {
@@ -149,7 +201,10 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public boolean joinTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws MageException {
         if (tables.containsKey(tableId)) {
-            return TableManager.instance.joinTable(userId, tableId, name, playerType, skill, deckList, password);
+            boolean joined = TableManager.instance.joinTable(userId, tableId, name, playerType, skill, deckList, password);
+            tableChanged(tableId);
+            requestTablesUpdate();
+            return joined;
         } else {
             return false;
         }
@@ -158,14 +213,18 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public TableView createTable(UUID userId, MatchOptions options) {
         Table table = TableManager.instance.createTable(this.getRoomId(), userId, options);
-        tables.put(table.getId(), table);
+        addTable(table);
+        requestTablesUpdate();
         return new TableView(table);
     }
 
     @Override
     public boolean joinTournamentTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws GameException {
         if (tables.containsKey(tableId)) {
-            return TableManager.instance.joinTournament(userId, tableId, name, playerType, skill, deckList, password);
+            boolean joined = TableManager.instance.joinTournament(userId, tableId, name, playerType, skill, deckList, password);
+            tableChanged(tableId);
+            requestTablesUpdate();
+            return joined;
         } else {
             return false;
         }
@@ -174,10 +233,28 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public TableView createTournamentTable(UUID userId, TournamentOptions options) {
         Table table = TableManager.instance.createTournamentTable(this.getRoomId(), userId, options);
-        tables.put(table.getId(), table);
+        addTable(table);
+        requestTablesUpdate();
         return new TableView(table);
     }
 
+    /**
+     * The table informs the room about the changes of its state, seats, match
+     * or tournament.
+     */
+    private void addTable(Table table) {
+        UUID tableId = table.getId();
+        table.addTableEventListener(
+                (Listener<TableEvent>) event -> {
+                    if (event.getEventType() == TableEvent.EventType.UPDATE) {
+                        tableChanged(tableId);
+                    }
+                }
+        );
+        tables.put(tableId, table);
+        tableChanged(tableId);
+    }
+
     @Override
     public Optional<TableView> getTable(UUID tableId) {
         if (tables.containsKey(tableId)) {
@@ -189,6 +266,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public void removeTable(UUID userId, UUID tableId) {
         tables.remove(tableId);
+        requestTablesUpdate();
     }
 
     @Override
@@ -197,6 +275,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
         if (table != null) {
             table.cleanUp();
             tables.remove(tableId);
+            requestTablesUpdate();
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Table removed: " + tableId);
             }
@@ -206,6 +285,8 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public void leaveTable(UUID userId, UUID tableId) {
         TableManager.instance.leaveTable(userId, tableId);
+        tableChanged(tableId);
+        requestTablesUpdate();
     }
 
     @Override
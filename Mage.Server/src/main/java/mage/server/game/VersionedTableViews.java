@@ -0,0 +1,152 @@
+package mage.server.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import mage.view.TableChangesView;
+import mage.view.TableView;
+
+/**
+ * Table views of a room with the version of their last change, so the
+ * clients only have to fetch the tables that changed since their last
+ * request.
+ *
+ * Every update compares the new views with the current ones, only a new,
+ * changed or removed table gets a new version. The removed tables are
+ * remembered for the last {@link #MAX_REMOVED} removals, a client that
+ * missed older removals gets all tables again. The ids of the tables are
+ * only sent, if the tables or their order changed since the version of the
+ * client.
+ *
+ * The versions start at the creation time, so a client that still has a
+ * version of the room before a server restart gets all tables again.
+ */
+public class VersionedTableViews {
+
+    public static final int MAX_REMOVED = 1000;
+
+    private static final class Entry {
+
+        private final TableView view;
+        private final long version;
+
+        private Entry(TableView view, long version) {
+            this.view = view;
+            this.version = version;
+        }
+    }
+
+    private final Map<UUID, Entry> tables = new HashMap<>();
+    // removed tables in order of their removal with the version of the removal
+    private final LinkedHashMap<UUID, Long> removed = new LinkedHashMap<>();
+    private volatile List<TableView> sortedViews = Collections.emptyList();
+    private List<UUID> tableIds = Collections.emptyList();
+    private long version;
+    // version of the last change of the tables or their order
+    private long orderVersion;
+    // the changes since this version are known
+    private long oldestVersion;
+
+    public VersionedTableViews() {
+        this.version = System.currentTimeMillis();
+        this.oldestVersion = version;
+        this.orderVersion = version;
+    }
+
+    /**
+     * @param views all current tables, sorted as the client shows them, an
+     * unchanged table can use its current view again
+     * @return true if a table was added, changed, removed or moved
+     */
+    public synchronized boolean update(List<TableView> views) {
+        long newVersion = version + 1;
+        boolean changed = false;
+        Set<UUID> current = new HashSet<>();
+        List<UUID> newTableIds = new ArrayList<>(views.size());
+        for (TableView view : views) {
+            current.add(view.getTableId());
+            newTableIds.add(view.getTableId());
+            Entry entry = tables.get(view.getTableId());
+            if (entry == null || (entry.view != view && !entry.view.equals(view))) {
+                tables.put(view.getTableId(), new Entry(view, newVersion));
+                removed.remove(view.getTableId());
+                changed = true;
+            }
+        }
+        for (Iterator<UUID> it = tables.keySet().iterator(); it.hasNext();) {
+            UUID tableId = it.next();
+            if (!current.contains(tableId)) {
+                it.remove();
+                removed.put(tableId, newVersion);
+                changed = true;
+            }
+        }
+        while (removed.size() > MAX_REMOVED) {
+            Iterator<Long> it = removed.values().iterator();
+            oldestVersion = it.next();
+            it.remove();
+        }
+        if (!newTableIds.equals(tableIds)) {
+            tableIds = Collections.unmodifiableList(newTableIds);
+            orderVersion = newVersion;
+            changed = true;
+        }
+        if (changed) {
+            version = newVersion;
+        }
+        sortedViews = Collections.unmodifiableList(new ArrayList<>(views));
+        return changed;
+    }
+
+    /**
+     * @return all tables, sorted
+     */
+    public List<TableView> getTables() {
+        return sortedViews;
+    }
+
+    /**
+     * @param tableId
+     * @return the current view of the table, null if the table is unknown
+     */
+    public synchronized TableView getTable(UUID tableId) {
+        Entry entry = tables.get(tableId);
+        return entry == null ? null : entry.view;
+    }
+
+    /**
+     * @param sinceVersion version of the last changes the client got, 0 for
+     * all tables
+     * @return
+     */
+    public synchronized TableChangesView getChanges(long sinceVersion) {
+        if (sinceVersion <= 0 || sinceVersion < oldestVersion || sinceVersion > version) {
+            return new TableChangesView(version, true, new ArrayList<>(sortedViews), new ArrayList<>(), new ArrayList<>(tableIds));
+        }
+        List<TableView> changedTables = new ArrayList<>();
+        if (sinceVersion < version) {
+            for (TableView view : sortedViews) {
+                Entry entry = tables.get(view.getTableId());
+                if (entry != null && entry.version > sinceVersion) {
+                    changedTables.add(view);
+                }
+            }
+        }
+        List<UUID> removedTables = new ArrayList<>();
+        for (Map.Entry<UUID, Long> entry : removed.entrySet()) {
+            if (entry.getValue() > sinceVersion) {
+                removedTables.add(entry.getKey());
+            }
+        }
+        // the client still has the order of the tables
+        List<UUID> changedTableIds = sinceVersion < orderVersion ? new ArrayList<>(tableIds) : null;
+        return new TableChangesView(version, false, changedTables, removedTables, changedTableIds);
+    }
+}
@@ -0,0 +1,47 @@
+package mage.server.game;
+
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import mage.view.GameViewDelta;
+import mage.view.GameViewDeltaEncoder;
+
+/**
+ * Public view of a game that is shared by all watchers that can't see any hand
+ * cards. It's built and serialized once per update and all these watchers get
+ * the same update object.
+ */
+public class WatcherGameView {
+
+    private final GameViewDeltaEncoder encoder = new GameViewDeltaEncoder();
+    private GameViewDelta update;
+    private GameViewDelta fullView;
+
+    public synchronized void update(GameView gameView) {
+        update = encoder.encode(gameView);
+        fullView = update != null && update.isFullView() ? update : null;
+    }
+
+    /**
+     * @return the last update for watchers that got the update before, null if
+     * the view could not be encoded
+     */
+    public synchronized GameViewDelta getUpdate() {
+        return update;
+    }
+
+    /**
+     * @return the last update as full view for watchers that missed the
+     * updates before, null if the view could not be encoded
+     */
+    public synchronized GameViewDelta getFullView() {
+        if (fullView == null && update != null) {
+            fullView = encoder.getFullView();
+        }
+        return fullView;
+    }
+
+    public static Object compress(Object data) {
+        Object compressed = CompressUtil.compress(data);
+        return compressed != null ? compressed : data;
+    }
+}
@@ -29,7 +29,6 @@ package mage.server.tournament;
 
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import mage.cards.decks.Deck;
@@ -39,6 +38,7 @@ import mage.interfaces.callback.ClientCallbackMethod;
 import mage.server.User;
 import mage.server.UserManager;
 import mage.server.util.ThreadExecutor;
+import mage.utils.timer.TimingWheel;
 import mage.view.TournamentView;
 import org.apache.log4j.Logger;
 
@@ -56,7 +56,7 @@ public class TournamentSession {
     protected boolean killed = false;
 
     private ScheduledFuture<?> futureTimeout;
-    protected static final ScheduledExecutorService timeoutExecutor = ThreadExecutor.instance.getTimeoutExecutor();
+    protected static final TimingWheel timingWheel = ThreadExecutor.instance.getTimingWheel();
 
     public TournamentSession(Tournament tournament, UUID userId, UUID tableId, UUID playerId) {
         this.userId = userId;
@@ -125,7 +125,7 @@ public class TournamentSession {
         }
         cancelTimeout();
         if (seconds > 0) {
-            futureTimeout = timeoutExecutor.schedule(
+            futureTimeout = timingWheel.schedule(
                     () -> {
                         try {
                             TournamentManager.instance.timeout(tournament.getId(), userId);
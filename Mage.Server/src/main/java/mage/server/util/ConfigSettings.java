@@ -32,6 +32,7 @@ import java.util.List;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
+import mage.remote.Connection;
 import mage.server.util.config.Config;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
@@ -80,6 +81,10 @@ public enum ConfigSettings {
         return config.getServer().getSocketWriteTimeout().intValue();
     }
 
+    public Connection.Transport getTransport() {
+        return Connection.Transport.valueByText(config.getServer().getTransport());
+    }
+
     public int getMaxPoolSize() {
         return config.getServer().getMaxPoolSize().intValue();
     }
@@ -96,6 +101,10 @@ public enum ConfigSettings {
         return config.getServer().getMaxGameThreads().intValue();
     }
 
+    public GameThreadMode getGameThreadMode() {
+        return GameThreadMode.valueByText(config.getServer().getGameThreads());
+    }
+
     public int getMaxSecondsIdle() {
         return config.getServer().getMaxSecondsIdle().intValue();
     }
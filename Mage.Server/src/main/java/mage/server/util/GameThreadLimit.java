@@ -0,0 +1,155 @@
+package mage.server.util;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import mage.util.GameThreads;
+
+/**
+ * Limits the number of games that run at the same time, independent of the
+ * number of game threads.
+ *
+ * A game thread takes a permit before the game starts and gives it back when
+ * the game ends. While the game waits for a human player the permit is given
+ * to the next game, the game takes a permit again when the answer has
+ * arrived. So the games that wait for their players don't count, only the
+ * games that are computing.
+ *
+ * A game that continues after an answer gets the next free permit before the
+ * games that want to start, so a human player isn't stuck behind new AI games.
+ */
+public class GameThreadLimit implements GameThreads.WaitListener {
+
+    private enum State {
+        RUNNING, // holds a permit
+        WAITING // gave back its permit to wait for a player
+    }
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition resumeAllowed = lock.newCondition();
+    private final Condition enterAllowed = lock.newCondition();
+    private final ThreadLocal<State> state = new ThreadLocal<>();
+    // all guarded by lock
+    private int permits;
+    private int waitingGames;
+    // games that got their answer and wait for a permit
+    private int resumingGames;
+
+    public GameThreadLimit(int maxRunningGames) {
+        this.permits = maxRunningGames;
+    }
+
+    /**
+     * Waits until the game of the current thread can run.
+     */
+    public void enter() {
+        lock.lock();
+        try {
+            while (permits == 0 || resumingGames > 0) {
+                enterAllowed.awaitUninterruptibly();
+            }
+            permits--;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+        state.set(State.RUNNING);
+    }
+
+    /**
+     * The game of the current thread has ended.
+     */
+    public void exit() {
+        State current = state.get();
+        state.remove();
+        if (current == State.RUNNING) {
+            release();
+        } else if (current == State.WAITING) {
+            lock.lock();
+            try {
+                waitingGames--;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void waitStarted() {
+        if (state.get() == State.RUNNING) {
+            state.set(State.WAITING);
+            lock.lock();
+            try {
+                waitingGames++;
+            } finally {
+                lock.unlock();
+            }
+            release();
+        }
+    }
+
+    @Override
+    public void waitEnded() {
+        if (state.get() == State.WAITING) {
+            lock.lock();
+            try {
+                waitingGames--;
+                resumingGames++;
+                while (permits == 0) {
+                    resumeAllowed.awaitUninterruptibly();
+                }
+                permits--;
+                resumingGames--;
+                signalNext();
+            } finally {
+                lock.unlock();
+            }
+            state.set(State.RUNNING);
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            permits++;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock must be held
+    private void signalNext() {
+        if (permits == 0) {
+            return;
+        }
+        if (resumingGames > 0) {
+            resumeAllowed.signal();
+        } else {
+            enterAllowed.signal();
+        }
+    }
+
+    /**
+     * @return number of games that wait for a player without a permit
+     */
+    public int getWaitingGames() {
+        lock.lock();
+        try {
+            return waitingGames;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of games that can start or continue without waiting
+     */
+    public int getAvailablePermits() {
+        lock.lock();
+        try {
+            return resumingGames > 0 ? 0 : permits;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package mage.server.util;
+
+/**
+ * How the games of the server get their threads, set by gameThreads of the
+ * server config.
+ */
+public enum GameThreadMode {
+
+    /**
+     * Every started game has its own pooled thread until it ends, at most
+     * maxGameThreads games can be started.
+     */
+    FIXED("fixed"),
+    /**
+     * Every game has its own thread, but at most maxGameThreads games run at
+     * the same time. A game that waits for a human player gives its slot to
+     * another game.
+     */
+    RELEASED("released"),
+    /**
+     * Like released, but the games run on virtual threads (Java 21+), so a
+     * waiting game doesn't keep an OS thread. Falls back to released on older
+     * Java versions.
+     */
+    VIRTUAL("virtual");
+
+    private final String text;
+
+    GameThreadMode(String text) {
+        this.text = text;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    public static GameThreadMode valueByText(String value) {
+        for (GameThreadMode mode : values()) {
+            if (mode.text.equals(value)) {
+                return mode;
+            }
+        }
+        return FIXED;
+    }
+}
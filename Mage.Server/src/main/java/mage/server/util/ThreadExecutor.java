@@ -33,6 +33,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import mage.util.GameThreads;
+import mage.utils.timer.TimingWheel;
+import org.apache.log4j.Logger;
 
 /**
  *
@@ -40,11 +43,22 @@ import java.util.concurrent.TimeUnit;
  */
 public enum ThreadExecutor {
 instance;
+    private static final Logger logger = Logger.getLogger(ThreadExecutor.class);
+
     private static final ExecutorService callExecutor = Executors.newCachedThreadPool();
     private static final ExecutorService userExecutor = Executors.newCachedThreadPool();
-    private static final ExecutorService gameExecutor = Executors.newFixedThreadPool(ConfigSettings.instance.getMaxGameThreads());
+    // the sessions take turns, so a few threads serve all clients
+    private static final int CALLBACK_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService callbackExecutor = Executors.newFixedThreadPool(CALLBACK_THREADS);
+    private static final ExecutorService gameExecutor;
+    private static final GameThreadMode gameThreadMode;
+    private static final GameThreadLimit gameThreadLimit;
     private static final ScheduledExecutorService timeoutExecutor = Executors.newScheduledThreadPool(4);
-    private static final ScheduledExecutorService timeoutIdleExecutor = Executors.newScheduledThreadPool(4);
+    // runs the due timers of the timing wheel, separate from the timeout executor so the timers don't wait for the table timeouts
+    private static final int TIMER_THREADS = 4;
+    private static final ExecutorService timerExecutor = Executors.newFixedThreadPool(TIMER_THREADS);
+    // timers of the games, drafts and tournaments
+    private static final TimingWheel timingWheel = new TimingWheel("TIMING_WHEEL", 100, TimeUnit.MILLISECONDS, 512, timerExecutor);
 
     /**
      * noxx: what the settings below do is setting the ability to keep OS
@@ -63,15 +77,37 @@ instance;
         ((ThreadPoolExecutor) userExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) userExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) userExecutor).setThreadFactory(new XMageThreadFactory("USER"));
-        ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XMageThreadFactory("GAME"));
+        ((ThreadPoolExecutor) callbackExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) callbackExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) callbackExecutor).setThreadFactory(new XMageThreadFactory("CALLBACK"));
+        ((ThreadPoolExecutor) timerExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) timerExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) timerExecutor).setThreadFactory(new XMageThreadFactory("TIMER"));
+        GameThreadMode mode = ConfigSettings.instance.getGameThreadMode();
+        ExecutorService virtualThreadExecutor = null;
+        if (mode == GameThreadMode.VIRTUAL) {
+            virtualThreadExecutor = createVirtualThreadExecutor();
+            if (virtualThreadExecutor == null) {
+                logger.warn("Virtual threads are not supported by this Java version, using released game threads");
+                mode = GameThreadMode.RELEASED;
+            }
+        }
+        gameThreadMode = mode;
+        if (mode == GameThreadMode.FIXED) {
+            gameExecutor = Executors.newFixedThreadPool(ConfigSettings.instance.getMaxGameThreads());
+            ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+            ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
+            ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XMageThreadFactory("GAME"));
+            gameThreadLimit = null;
+        } else {
+            // a thread per game, the limit only counts the games that don't wait for a player
+            gameExecutor = virtualThreadExecutor != null ? virtualThreadExecutor : Executors.newCachedThreadPool(new XMageThreadFactory("GAME"));
+            gameThreadLimit = new GameThreadLimit(ConfigSettings.instance.getMaxGameThreads());
+            GameThreads.setWaitListener(gameThreadLimit);
+        }
         ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) timeoutExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) timeoutExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT"));
-        ((ThreadPoolExecutor) timeoutIdleExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) timeoutIdleExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) timeoutIdleExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT_IDLE"));
     }
 
 
@@ -82,20 +118,62 @@ instance;
         return -1;
     }
 
+    private static ExecutorService createVirtualThreadExecutor() {
+        // Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("GAME virtual-", 0).factory()) of Java 21+,
+        // virtual threads are cheap to create and must not be pooled
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "GAME virtual-", 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+
     public ExecutorService getCallExecutor() {
         return callExecutor;
     }
 
+    /**
+     * @return executor that sends the queued callbacks of the sessions to the
+     * clients
+     */
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     public ExecutorService getGameExecutor() {
         return gameExecutor;
     }
 
+    /**
+     * @return the used mode, released if virtual threads were set but are not
+     * supported
+     */
+    public GameThreadMode getGameThreadMode() {
+        return gameThreadMode;
+    }
+
+    /**
+     * @return limit of the running games the game threads have to enter, null
+     * if the game executor itself limits the games (fixed mode)
+     */
+    public GameThreadLimit getGameThreadLimit() {
+        return gameThreadLimit;
+    }
+
     public ScheduledExecutorService getTimeoutExecutor() {
         return timeoutExecutor;
     }
 
-    public ScheduledExecutorService getTimeoutIdleExecutor() {
-        return timeoutIdleExecutor;
+    /**
+     * @return server wide timer of the priority timers, idle timeouts and
+     * pick/construct timeouts
+     */
+    public TimingWheel getTimingWheel() {
+        return timingWheel;
     }
 
 }
@@ -27,7 +27,6 @@
  */
 package mage.sets;
 
-import java.util.ArrayList;
 import java.util.List;
 import mage.cards.ExpansionSet;
 import mage.cards.repository.CardCriteria;
@@ -48,8 +47,6 @@ public class AetherRevolt extends ExpansionSet {
         return instance;
     }
 
-    protected final List<CardInfo> savedSpecialLand = new ArrayList<>();
-
     private AetherRevolt() {
         super("Aether Revolt", "AER", ExpansionSet.buildDate(2017, 1, 20), SetType.EXPANSION);
         this.blockName = "Kaladesh";
@@ -261,14 +258,12 @@ public class AetherRevolt extends ExpansionSet {
 
     @Override
     public List<CardInfo> getSpecialLand() {
-        if (savedSpecialLand.isEmpty()) {
+        return getSavedCards("specialLand", () -> {
             CardCriteria criteria = new CardCriteria();
             criteria.setCodes("MPS");
             criteria.minCardNumber(31);
             criteria.maxCardNumber(54);
-            savedSpecialLand.addAll(CardRepository.instance.findCards(criteria));
-        }
-
-        return new ArrayList<>(savedSpecialLand);
+            return CardRepository.instance.findCards(criteria);
+        });
     }
 }
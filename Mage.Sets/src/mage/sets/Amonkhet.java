@@ -34,7 +34,6 @@ import mage.cards.repository.CardRepository;
 import mage.constants.Rarity;
 import mage.constants.SetType;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -49,8 +48,6 @@ public class Amonkhet extends ExpansionSet {
         return instance;
     }
 
-    protected final List<CardInfo> savedSpecialLand = new ArrayList<>();
-
     private Amonkhet() {
         super("Amonkhet", "AKH", ExpansionSet.buildDate(2017, 4, 28), SetType.EXPANSION);
         this.blockName = "Amonkhet";
@@ -355,14 +352,12 @@ public class Amonkhet extends ExpansionSet {
 
     @Override
     public List<CardInfo> getSpecialLand() {
-        if (savedSpecialLand.isEmpty()) {
+        return getSavedCards("specialLand", () -> {
             CardCriteria criteria = new CardCriteria();
             criteria.setCodes("MPS-AKH");
             criteria.minCardNumber(1);
             criteria.maxCardNumber(30);
-            savedSpecialLand.addAll(CardRepository.instance.findCards(criteria));
-        }
-
-        return new ArrayList<>(savedSpecialLand);
+            return CardRepository.instance.findCards(criteria);
+        });
     }
 }
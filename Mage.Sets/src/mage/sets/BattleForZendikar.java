@@ -34,7 +34,6 @@ import mage.cards.repository.CardRepository;
 import mage.constants.Rarity;
 import mage.constants.SetType;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -48,8 +47,6 @@ public class BattleForZendikar extends ExpansionSet {
         return instance;
     }
 
-    protected final List<CardInfo> savedSpecialLand = new ArrayList<>();
-
     private BattleForZendikar() {
         super("Battle for Zendikar", "BFZ", ExpansionSet.buildDate(2015, 10, 2), SetType.EXPANSION);
         this.blockName = "Battle for Zendikar";
@@ -366,14 +363,12 @@ public class BattleForZendikar extends ExpansionSet {
 
     @Override
     public List<CardInfo> getSpecialLand() {
-        if (savedSpecialLand.isEmpty()) {
+        return getSavedCards("specialLand", () -> {
             CardCriteria criteria = new CardCriteria();
             criteria.setCodes("EXP");
             criteria.minCardNumber(1);
             criteria.maxCardNumber(25);
-            savedSpecialLand.addAll(CardRepository.instance.findCards(criteria));
-        }
-
-        return new ArrayList<>(savedSpecialLand);
+            return CardRepository.instance.findCards(criteria);
+        });
     }
 }
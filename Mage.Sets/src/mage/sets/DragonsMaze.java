@@ -49,8 +49,6 @@ public class DragonsMaze extends ExpansionSet {
         return instance;
     }
 
-    List<CardInfo> savedSpecialRares = new ArrayList<>();
-
     private DragonsMaze() {
         super("Dragon's Maze", "DGM", ExpansionSet.buildDate(2013, 5, 03), SetType.EXPANSION);
         this.blockName = "Return to Ravnica";
@@ -250,42 +248,41 @@ public class DragonsMaze extends ExpansionSet {
 
     @Override
     public List<CardInfo> getSpecialRare() {
-        List<CardInfo> specialRares = new ArrayList<>();
-        if (savedSpecialRares == null) {
+        return getSavedCards("specialRare", () -> {
+            List<CardInfo> specialRares = new ArrayList<>();
             CardCriteria criteria = new CardCriteria();
             criteria.setCodes("GTC").name("Breeding Pool");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("GTC").name("Godless Shrine");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("GTC").name("Sacred Foundry");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("GTC").name("Stomping Ground");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("GTC").name("Watery Grave");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
 
             criteria = new CardCriteria();
             criteria.setCodes("RTR").name("Blood Crypt");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("RTR").name("Hallowed Fountain");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("RTR").name("Overgrown Tomb");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("RTR").name("Steam Vents");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("RTR").name("Temple Garden");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
-        }
-        specialRares.addAll(savedSpecialRares);
-        return specialRares;
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
+            return specialRares;
+        });
     }
 
     @Override
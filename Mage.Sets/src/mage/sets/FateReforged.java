@@ -46,9 +46,6 @@ public class FateReforged extends ExpansionSet {
 
     private static final FateReforged instance = new FateReforged();
 
-    List<CardInfo> savedSpecialRares = new ArrayList<>();
-    List<CardInfo> savedSpecialCommon = new ArrayList<>();
-
     public static FateReforged getInstance() {
         return instance;
     }
@@ -277,41 +274,38 @@ public class FateReforged extends ExpansionSet {
 
     @Override
     public List<CardInfo> getSpecialCommon() {
-        List<CardInfo> specialCommons = new ArrayList<>();
-        if (savedSpecialCommon.isEmpty()) {
+        return getSavedCards("specialCommon", () -> {
             // the 10 common lands from Fate Reforged can show up in the basic lands slot
             // http://magic.wizards.com/en/articles/archive/feature/fetching-look-fate-reforged-2014-12-24
             CardCriteria criteria = new CardCriteria();
             criteria.rarities(Rarity.COMMON).setCodes(this.code).types(CardType.LAND);
-            savedSpecialCommon = CardRepository.instance.findCards(criteria);
+            List<CardInfo> specialCommons = CardRepository.instance.findCards(criteria);
             criteria.rarities(Rarity.LAND).setCodes(this.code);
-            savedSpecialCommon.addAll(CardRepository.instance.findCards(criteria));
-        }
-        specialCommons.addAll(savedSpecialCommon);
-        return specialCommons;
+            specialCommons.addAll(CardRepository.instance.findCards(criteria));
+            return specialCommons;
+        });
     }
 
     @Override
     public List<CardInfo> getSpecialRare() {
-        List<CardInfo> specialRares = new ArrayList<>();
-        if (savedSpecialRares.isEmpty()) {
+        return getSavedCards("specialRare", () -> {
+            List<CardInfo> specialRares = new ArrayList<>();
             CardCriteria criteria = new CardCriteria();
             criteria.setCodes("KTK").name("Bloodstained Mire");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("KTK").name("Flooded Strand");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("KTK").name("Polluted Delta");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("KTK").name("Windswept Heath");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
             criteria = new CardCriteria();
             criteria.setCodes("KTK").name("Wooded Foothills");
-            savedSpecialRares.addAll(CardRepository.instance.findCards(criteria));
-        }
-        specialRares.addAll(savedSpecialRares);
-        return specialRares;
+            specialRares.addAll(CardRepository.instance.findCards(criteria));
+            return specialRares;
+        });
     }
 }
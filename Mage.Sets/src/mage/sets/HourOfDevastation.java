@@ -34,7 +34,6 @@ import mage.cards.repository.CardRepository;
 import mage.constants.Rarity;
 import mage.constants.SetType;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -48,8 +47,6 @@ public class HourOfDevastation extends ExpansionSet {
         return instance;
     }
 
-    protected final List<CardInfo> savedSpecialLand = new ArrayList<>();
-
     private HourOfDevastation() {
         super("Hour of Devastation", "HOU", ExpansionSet.buildDate(2017, 7, 14), SetType.EXPANSION);
         this.blockName = "Amonkhet";
@@ -277,14 +274,12 @@ public class HourOfDevastation extends ExpansionSet {
 
     @Override
     public List<CardInfo> getSpecialLand() {
-        if (savedSpecialLand.isEmpty()) {
+        return getSavedCards("specialLand", () -> {
             CardCriteria criteria = new CardCriteria();
             criteria.setCodes("MPS-AKH");
             criteria.minCardNumber(31);
             criteria.maxCardNumber(54);
-            savedSpecialLand.addAll(CardRepository.instance.findCards(criteria));
-        }
-
-        return new ArrayList<>(savedSpecialLand);
+            return CardRepository.instance.findCards(criteria);
+        });
     }
 }
@@ -27,7 +27,6 @@
  */
 package mage.sets;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import mage.cards.ExpansionSet;
@@ -49,8 +48,6 @@ public class Kaladesh extends ExpansionSet {
         return instance;
     }
 
-    protected final List<CardInfo> savedSpecialLand = new ArrayList<>();
-
     private Kaladesh() {
         super("Kaladesh", "KLD", ExpansionSet.buildDate(2016, 9, 30), SetType.EXPANSION);
         this.blockName = "Kaladesh";
@@ -342,14 +339,12 @@ public class Kaladesh extends ExpansionSet {
 
     @Override
     public List<CardInfo> getSpecialLand() {
-        if (savedSpecialLand.isEmpty()) {
+        return getSavedCards("specialLand", () -> {
             CardCriteria criteria = new CardCriteria();
             criteria.setCodes("MPS");
             criteria.minCardNumber(1);
             criteria.maxCardNumber(30);
-            savedSpecialLand.addAll(CardRepository.instance.findCards(criteria));
-        }
-
-        return new ArrayList<>(savedSpecialLand);
+            return CardRepository.instance.findCards(criteria);
+        });
     }
 }
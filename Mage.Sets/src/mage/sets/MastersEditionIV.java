@@ -51,8 +51,6 @@ public class MastersEditionIV extends ExpansionSet {
         return instance;
     }
 
-    protected final List<CardInfo> savedSpecialLand = new ArrayList<>();
-
     private MastersEditionIV() {
         super("Masters Edition IV", "ME4", ExpansionSet.buildDate(2011, 1, 10), SetType.MAGIC_ONLINE);
         this.hasBasicLands = false;
@@ -326,13 +324,13 @@ public class MastersEditionIV extends ExpansionSet {
         // ME4 replace all basic lands with special (1 per booster)
         // https://mtg.gamepedia.com/Masters_Edition_IV
 
-        if (savedSpecialLand.isEmpty()) {
-            savedSpecialLand.addAll(CardRepository.instance.findCards(new CardCriteria().setCodes(this.code).name("Urza's Mine")));
-            savedSpecialLand.addAll(CardRepository.instance.findCards(new CardCriteria().setCodes(this.code).name("Urza's Power Plant")));
-            savedSpecialLand.addAll(CardRepository.instance.findCards(new CardCriteria().setCodes(this.code).name("Urza's Tower")));
-        }
-
-        return new ArrayList<>(savedSpecialLand);
+        return getSavedCards("specialLand", () -> {
+            List<CardInfo> specialLand = new ArrayList<>();
+            specialLand.addAll(CardRepository.instance.findCards(new CardCriteria().setCodes(this.code).name("Urza's Mine")));
+            specialLand.addAll(CardRepository.instance.findCards(new CardCriteria().setCodes(this.code).name("Urza's Power Plant")));
+            specialLand.addAll(CardRepository.instance.findCards(new CardCriteria().setCodes(this.code).name("Urza's Tower")));
+            return specialLand;
+        });
     }
 
 }
@@ -27,14 +27,10 @@
  */
 package mage.sets;
 
-import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.List;
 import mage.cards.Card;
 import mage.cards.ExpansionSet;
-import mage.cards.repository.CardCriteria;
 import mage.cards.repository.CardInfo;
-import mage.cards.repository.CardRepository;
 import mage.constants.Rarity;
 import mage.constants.SetType;
 import mage.util.RandomUtil;
@@ -51,8 +47,6 @@ public class ShadowsOverInnistrad extends ExpansionSet {
         return instance;
     }
 
-    protected final EnumMap<Rarity, List<CardInfo>> savedDoubleFacedCards;
-
     private ShadowsOverInnistrad() {
         super("Shadows over Innistrad", "SOI", ExpansionSet.buildDate(2016, 4, 8), SetType.EXPANSION);
         this.blockName = "Shadows over Innistrad";
@@ -64,7 +58,6 @@ public class ShadowsOverInnistrad extends ExpansionSet {
         this.numBoosterRare = 1;
         this.ratioBoosterMythic = 8;
         this.numBoosterDoubleFaced = 1;
-        savedDoubleFacedCards = new EnumMap<>(Rarity.class);
         cards.add(new SetCardInfo("Aberrant Researcher", 49, Rarity.UNCOMMON, mage.cards.a.AberrantResearcher.class));
         cards.add(new SetCardInfo("Accursed Witch", 97, Rarity.UNCOMMON, mage.cards.a.AccursedWitch.class));
         cards.add(new SetCardInfo("Aim High", 193, Rarity.COMMON, mage.cards.a.AimHigh.class));
@@ -413,20 +406,6 @@ public class ShadowsOverInnistrad extends ExpansionSet {
         }
     }
 
-    public List<CardInfo> getDoubleFacedCardsByRarity(Rarity rarity) {
-        List<CardInfo> savedCardsInfos = savedDoubleFacedCards.get(rarity);
-        if (savedCardsInfos == null) {
-            CardCriteria criteria = new CardCriteria();
-            criteria.setCodes(getCode());
-            criteria.rarities(rarity);
-            criteria.doubleFaced(true);
-            savedCardsInfos = CardRepository.instance.findCards(criteria);
-            savedDoubleFacedCards.put(rarity, savedCardsInfos);
-        }
-        // Return a copy of the saved cards information, as not to let modify the original.
-        return new ArrayList<>(savedCardsInfos);
-    }
-
     @Override
     public int getNumberOfSpecialCommons() {
         // Then about an eighth of the packs will have a second double-faced card, which will be a rare or mythic rare.
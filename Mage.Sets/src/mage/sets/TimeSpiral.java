@@ -322,9 +322,11 @@ public class TimeSpiral extends ExpansionSet {
     @Override
     public List<Card> createBooster() {
         List<Card> booster = super.createBooster();
-        CardCriteria criteria = new CardCriteria();
-        criteria.rarities(Rarity.SPECIAL).setCodes("TSB");
-        addToBooster(booster, CardRepository.instance.findCards(criteria));
+        addToBooster(booster, getSavedCards("timeshifted", () -> {
+            CardCriteria criteria = new CardCriteria();
+            criteria.rarities(Rarity.SPECIAL).setCodes("TSB");
+            return CardRepository.instance.findCards(criteria);
+        }));
         return booster;
     }
 }
@@ -0,0 +1,188 @@
+package org.mage.test.AI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import mage.player.ai.AiWorkerPool;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link AiWorkerPool}.
+ */
+public class AiWorkerPoolTest {
+
+    private static final long TIMEOUT = 10;
+
+    private final AiWorkerPool pool = AiWorkerPool.getInstance();
+    // blocking tasks keep the workers busy until they get a permit
+    private final Semaphore blockerPermits = new Semaphore(0);
+
+    @After
+    public void tearDown() {
+        blockerPermits.release(pool.getSize());
+    }
+
+    /**
+     * Keeps all workers busy.
+     */
+    private void occupyWorkers() throws InterruptedException {
+        UUID gameId = UUID.randomUUID();
+        CountDownLatch started = new CountDownLatch(pool.getSize());
+        for (int i = 0; i < pool.getSize(); i++) {
+            pool.submit(gameId, () -> {
+                started.countDown();
+                blockerPermits.acquire();
+                return null;
+            });
+        }
+        Assert.assertTrue("workers not started", started.await(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    private static Callable<String> record(List<String> order, String name) {
+        return () -> {
+            order.add(name);
+            return name;
+        };
+    }
+
+    @Test
+    public void shouldTakeTasksOfGamesRoundRobin() throws Exception {
+        // given
+        UUID gameA = UUID.randomUUID();
+        UUID gameB = UUID.randomUUID();
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        occupyWorkers();
+        pool.submit(gameA, record(order, "A1"));
+        pool.submit(gameA, record(order, "A2"));
+        FutureTask<String> lastA = pool.submit(gameA, record(order, "A3"));
+        FutureTask<String> lastB = pool.submit(gameB, record(order, "B1"));
+
+        // when
+        // one free worker runs the tasks in the order it takes them
+        blockerPermits.release();
+
+        // then
+        Assert.assertEquals("A3", lastA.get(TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertEquals("B1", lastB.get(TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList("A1", "B1", "A2", "A3"), order);
+    }
+
+    @Test(timeout = TIMEOUT * 1000)
+    public void shouldRunJoinedTaskInWaitingThread() throws Exception {
+        // given
+        occupyWorkers();
+        FutureTask<Thread> task = pool.submit(UUID.randomUUID(), Thread::currentThread);
+
+        // when
+        Thread runner = pool.join(task);
+
+        // then
+        Assert.assertSame(Thread.currentThread(), runner);
+        // a done task isn't run again
+        Assert.assertSame(runner, pool.join(task));
+    }
+
+    @Test
+    public void shouldCancelTasksAtDeadline() throws Exception {
+        // given
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch never = new CountDownLatch(1);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        tasks.add(() -> 1);
+        tasks.add(() -> {
+            try {
+                never.await();
+            } catch (InterruptedException ex) {
+                interrupted.set(true);
+                throw ex;
+            }
+            return 2;
+        });
+        long start = System.nanoTime();
+
+        // when
+        List<Integer> results = pool.invokeAll(UUID.randomUUID(), tasks, 200, TimeUnit.MILLISECONDS);
+
+        // then
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertEquals(Collections.singletonList(1), results);
+        Assert.assertTrue("returned after " + millis + " ms", millis < TIMEOUT * 1000);
+        long deadline = System.currentTimeMillis() + TIMEOUT * 1000;
+        while (!interrupted.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue("running task not interrupted", interrupted.get());
+    }
+
+    @Test
+    public void shouldClearInterruptOfCancelledTask() throws Exception {
+        // given
+        UUID gameId = UUID.randomUUID();
+        occupyWorkers();
+        // the other tasks run on the one free worker
+        blockerPermits.release();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch nextQueued = new CountDownLatch(1);
+        AtomicReference<Thread> cancelledRunner = new AtomicReference<>();
+        FutureTask<Void> cancelled = pool.submit(gameId, () -> {
+            cancelledRunner.set(Thread.currentThread());
+            started.countDown();
+            // returns with the interrupt still set, after the next task is queued
+            while (!Thread.currentThread().isInterrupted() || nextQueued.getCount() > 0) {
+                Thread.yield();
+            }
+            return null;
+        });
+        Assert.assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+
+        // when
+        pool.cancel(gameId, Collections.singletonList(cancelled));
+        AtomicReference<Thread> nextRunner = new AtomicReference<>();
+        FutureTask<Boolean> next = pool.submit(gameId, () -> {
+            nextRunner.set(Thread.currentThread());
+            return Thread.currentThread().isInterrupted();
+        });
+        nextQueued.countDown();
+
+        // then
+        Assert.assertFalse(next.get(TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertTrue(cancelled.isCancelled());
+        Assert.assertSame(cancelledRunner.get(), nextRunner.get());
+    }
+
+    @Test(timeout = TIMEOUT * 1000)
+    public void shouldNotDeadlockOnNestedJoin() throws Exception {
+        // given
+        UUID gameId = UUID.randomUUID();
+        CountDownLatch allStarted = new CountDownLatch(pool.getSize());
+        List<FutureTask<Integer>> outerTasks = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < pool.getSize(); i++) {
+            int value = i;
+            outerTasks.add(pool.submit(gameId, () -> {
+                // every worker runs an outer task, no worker is left for the inner ones
+                allStarted.countDown();
+                allStarted.await();
+                FutureTask<Integer> inner = pool.submit(gameId, () -> value * 2);
+                return pool.join(inner) + 1;
+            }));
+        }
+
+        // then
+        for (int i = 0; i < outerTasks.size(); i++) {
+            Assert.assertEquals(Integer.valueOf(i * 2 + 1), outerTasks.get(i).get(TIMEOUT, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.mage.test.AI;
+
+import mage.player.ai.TranspositionTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link TranspositionTable}.
+ */
+public class TranspositionTableTest {
+
+    private static final int SIZE = 16;
+    private static final long KEY = 1;
+    // same slot as KEY in a table of SIZE entries, other state
+    private static final long COLLIDING_KEY = KEY + ((long) SIZE << 32);
+
+    @Test
+    public void shouldFindStoredValue() {
+        // given
+        TranspositionTable table = new TranspositionTable(SIZE);
+        table.newSearch();
+
+        // when
+        table.store(KEY, 3, 50, 0, 100);
+
+        // then
+        Assert.assertEquals(Integer.valueOf(50), table.probe(KEY, 3, 0, 100));
+        Assert.assertEquals(Integer.valueOf(50), table.probe(KEY, 2, -1000, 1000));
+        Assert.assertEquals(2, table.getHits());
+    }
+
+    @Test
+    public void shouldNotUseShallowerResult() {
+        // given
+        TranspositionTable table = new TranspositionTable(SIZE);
+        table.newSearch();
+
+        // when
+        table.store(KEY, 2, 50, 0, 100);
+
+        // then
+        Assert.assertNull(table.probe(KEY, 3, 0, 100));
+    }
+
+    @Test
+    public void shouldRejectCollidingKey() {
+        // given
+        TranspositionTable table = new TranspositionTable(SIZE);
+        table.newSearch();
+
+        // when
+        table.store(KEY, 3, 50, 0, 100);
+
+        // then
+        Assert.assertNull(table.probe(COLLIDING_KEY, 3, 0, 100));
+        Assert.assertEquals(Integer.valueOf(50), table.probe(KEY, 3, 0, 100));
+    }
+
+    @Test
+    public void shouldUseLowerBoundOnlyAboveBeta() {
+        // given
+        TranspositionTable table = new TranspositionTable(SIZE);
+        table.newSearch();
+
+        // when
+        // cut off at beta, the state is worth at least 150
+        table.store(KEY, 3, 150, 0, 100);
+
+        // then
+        Assert.assertEquals(Integer.valueOf(150), table.probe(KEY, 3, 0, 100));
+        Assert.assertEquals(Integer.valueOf(150), table.probe(KEY, 3, 0, 150));
+        Assert.assertNull(table.probe(KEY, 3, 0, 200));
+    }
+
+    @Test
+    public void shouldUseUpperBoundOnlyBelowAlpha() {
+        // given
+        TranspositionTable table = new TranspositionTable(SIZE);
+        table.newSearch();
+
+        // when
+        // nothing better than alpha found, the state is worth at most -50
+        table.store(KEY, 3, -50, 0, 100);
+
+        // then
+        Assert.assertEquals(Integer.valueOf(-50), table.probe(KEY, 3, 0, 100));
+        Assert.assertEquals(Integer.valueOf(-50), table.probe(KEY, 3, -50, 100));
+        Assert.assertNull(table.probe(KEY, 3, -100, 100));
+    }
+
+    @Test
+    public void shouldUseExactValueForAnyWindow() {
+        // given
+        TranspositionTable table = new TranspositionTable(SIZE);
+        table.newSearch();
+
+        // when
+        table.store(KEY, 3, 50, 0, 100);
+
+        // then
+        Assert.assertEquals(Integer.valueOf(50), table.probe(KEY, 3, 60, 70));
+        Assert.assertEquals(Integer.valueOf(50), table.probe(KEY, 3, 10, 20));
+    }
+
+    @Test
+    public void shouldKeepDeeperEntryOfSameSearch() {
+        // given
+        TranspositionTable table = new TranspositionTable(SIZE);
+        table.newSearch();
+        table.store(KEY, 3, 50, 0, 100);
+
+        // when
+        table.store(COLLIDING_KEY, 2, 60, 0, 100);
+
+        // then
+        Assert.assertEquals(Integer.valueOf(50), table.probe(KEY, 3, 0, 100));
+        Assert.assertNull(table.probe(COLLIDING_KEY, 2, 0, 100));
+        Assert.assertEquals(0, table.getReplacements());
+    }
+
+    @Test
+    public void shouldReplaceEntryOfOlderSearch() {
+        // given
+        TranspositionTable table = new TranspositionTable(SIZE);
+        table.newSearch();
+        table.store(KEY, 3, 50, 0, 100);
+
+        // when
+        table.newSearch();
+        table.store(COLLIDING_KEY, 2, 60, 0, 100);
+
+        // then
+        Assert.assertNull(table.probe(KEY, 3, 0, 100));
+        Assert.assertEquals(Integer.valueOf(60), table.probe(COLLIDING_KEY, 2, 0, 100));
+        Assert.assertEquals(1, table.getReplacements());
+    }
+}
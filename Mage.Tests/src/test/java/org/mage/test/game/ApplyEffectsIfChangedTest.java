@@ -0,0 +1,119 @@
+package org.mage.test.game;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.GameState;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The continuous effects are only applied again if something changed since
+ * they were applied the last time, the results of the effects must still
+ * follow every change of the game.
+ */
+public class ApplyEffectsIfChangedTest extends CardTestPlayerBase {
+
+    /**
+     * The boost ends in the cleanup step.
+     */
+    @Test
+    public void testUntilEndOfTurnEffectEnds() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1);
+        // Target creature gets +3/+3 until end of turn.
+        addCard(Zone.HAND, playerA, "Giant Growth", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Giant Growth", "Silvercoat Lion");
+        attack(1, playerA, "Silvercoat Lion");
+
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        assertLife(playerB, 15);
+        assertPowerToughness(playerA, "Silvercoat Lion", 2, 2);
+    }
+
+    @Test
+    public void testCounterAdded() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1);
+        // Put a +1/+1 counter on target creature.
+        addCard(Zone.HAND, playerA, "Battlegrowth", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Battlegrowth", "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertCounterCount("Silvercoat Lion", CounterType.P1P1, 1);
+        assertPowerToughness(playerA, "Silvercoat Lion", 3, 3);
+    }
+
+    /**
+     * The control change ends in the cleanup step.
+     */
+    @Test
+    public void testGainControl() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        // Gain control of target creature until end of turn. Untap that creature. It gains haste until end of turn.
+        addCard(Zone.HAND, playerA, "Act of Treason", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Silvercoat Lion");
+        attack(1, playerA, "Silvercoat Lion");
+
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        assertLife(playerB, 18);
+        assertPermanentCount(playerA, "Silvercoat Lion", 0);
+        assertPermanentCount(playerB, "Silvercoat Lion", 1);
+    }
+
+    /**
+     * The power and toughness follow the hand size.
+     */
+    @Test
+    public void testStaticEffectDependingOnHandSize() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        // Maro's power and toughness are each equal to the number of cards in your hand.
+        addCard(Zone.BATTLEFIELD, playerA, "Maro", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertLife(playerB, 17);
+        assertHandCount(playerA, 2);
+        assertPowerToughness(playerA, "Maro", 2, 2);
+    }
+
+    @Test
+    public void testSkippedIfNothingChanged() {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1);
+
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        GameState state = currentGame.getState();
+        // most priority checks of a turn without actions have nothing to apply
+        Assert.assertTrue(state.getEffectsSkippedCount() > 0);
+
+        state.applyEffectsIfChanged(currentGame);
+        int applied = state.getEffectsAppliedCount();
+        int skipped = state.getEffectsSkippedCount();
+
+        Assert.assertFalse(state.applyEffectsIfChanged(currentGame));
+        Assert.assertEquals(applied, state.getEffectsAppliedCount());
+        Assert.assertEquals(skipped + 1, state.getEffectsSkippedCount());
+
+        state.setValue("test", Boolean.TRUE);
+        Assert.assertTrue(state.applyEffectsIfChanged(currentGame));
+        Assert.assertEquals(applied + 1, state.getEffectsAppliedCount());
+        Assert.assertEquals(skipped + 1, state.getEffectsSkippedCount());
+    }
+}
@@ -0,0 +1,135 @@
+package org.mage.test.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.GameState;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Copies of a game state share the zones, card states and zone change
+ * counters until they change them, the changes of a copy must not be seen by
+ * the original or other copies.
+ */
+public class GameStateCopyTest extends CardTestPlayerBase {
+
+    private void setupLateGameBoard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 8);
+        addCard(Zone.GRAVEYARD, playerA, "Silvercoat Lion", 15);
+        addCard(Zone.HAND, playerA, "Llanowar Elves", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 10);
+        addCard(Zone.GRAVEYARD, playerB, "Lightning Bolt", 15);
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    private Card getGraveyardCard() {
+        return currentGame.getPlayer(playerA.getId()).getGraveyard().getCards(currentGame).iterator().next();
+    }
+
+    @Test
+    public void testCopyHasSameState() {
+        setupLateGameBoard();
+        GameState original = currentGame.getState();
+        GameState copy = original.copy();
+
+        for (Card card : currentGame.getCards()) {
+            Assert.assertEquals(original.getZone(card.getId()), copy.getZone(card.getId()));
+            Assert.assertEquals(original.getZoneChangeCounter(card.getId()), copy.getZoneChangeCounter(card.getId()));
+        }
+    }
+
+    @Test
+    public void testChangesOfCopyAreNotSeenByOriginal() {
+        setupLateGameBoard();
+        GameState original = currentGame.getState();
+        UUID cardId = getGraveyardCard().getId();
+        int zoneChangeCounter = original.getZoneChangeCounter(cardId);
+
+        GameState copy = original.copy();
+        copy.getCardState(cardId).getCounters().addCounter(CounterType.P1P1.createInstance(2));
+        copy.getCardState(cardId).setFaceDown(true);
+        copy.updateZoneChangeCounter(cardId);
+        copy.setZone(cardId, Zone.EXILED);
+
+        Assert.assertEquals(2, copy.getCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        Assert.assertTrue(copy.getCardStateForRead(cardId).isFaceDown());
+        Assert.assertEquals(zoneChangeCounter + 1, copy.getZoneChangeCounter(cardId));
+        Assert.assertEquals(Zone.EXILED, copy.getZone(cardId));
+
+        Assert.assertEquals(0, original.getCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        Assert.assertFalse(original.getCardStateForRead(cardId).isFaceDown());
+        Assert.assertEquals(zoneChangeCounter, original.getZoneChangeCounter(cardId));
+        Assert.assertEquals(Zone.GRAVEYARD, original.getZone(cardId));
+    }
+
+    @Test
+    public void testChangesOfOriginalAreNotSeenByCopy() {
+        setupLateGameBoard();
+        GameState original = currentGame.getState();
+        UUID cardId = getGraveyardCard().getId();
+        // the original owns the card state before the copy is taken
+        original.getCardState(cardId).getCounters().addCounter(CounterType.P1P1.createInstance(1));
+
+        GameState copy = original.copy();
+        original.getCardState(cardId).getCounters().addCounter(CounterType.P1P1.createInstance(1));
+
+        Assert.assertEquals(2, original.getCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        Assert.assertEquals(1, copy.getCardState(cardId).getCounters().getCount(CounterType.P1P1));
+    }
+
+    @Test
+    public void testReadingDoesNotCopyCardState() {
+        setupLateGameBoard();
+        GameState original = currentGame.getState();
+        Card card = getGraveyardCard();
+        original.getCardState(card.getId()).setFaceDown(true);
+
+        GameState copy = original.copy();
+        Assert.assertTrue(card.isFaceDown(currentGame));
+        Assert.assertSame(original.getCardStateForRead(card.getId()), copy.getCardStateForRead(card.getId()));
+    }
+
+    @Test
+    public void testCopiesTakenByThreadsAreIndependent() throws Exception {
+        setupLateGameBoard();
+        GameState original = currentGame.getState();
+        UUID cardId = getGraveyardCard().getId();
+        original.getCardState(cardId).getCounters().addCounter(CounterType.P1P1.createInstance(1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<GameState>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            int counters = i + 1;
+            results.add(executor.submit(() -> {
+                GameState copy = original.copy();
+                copy.getCardState(cardId).getCounters().addCounter(CounterType.P1P1.createInstance(counters));
+                return copy;
+            }));
+        }
+        List<GameState> copies = new ArrayList<>();
+        for (Future<GameState> result : results) {
+            copies.add(result.get());
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        original.getCardState(cardId).getCounters().addCounter(CounterType.P1P1.createInstance(100));
+
+        Assert.assertEquals(101, original.getCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        for (int i = 0; i < copies.size(); i++) {
+            Assert.assertEquals(i + 2, copies.get(i).getCardState(cardId).getCounters().getCount(CounterType.P1P1));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.mage.test.game;
+
+import mage.abilities.keyword.FlyingAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The state hash is used by the AI to find equal game states, so copies have
+ * to hash equal and changes of the state have to change the hash.
+ */
+public class GameStateHashTest extends CardTestPlayerBase {
+
+    @Test
+    public void testCopyHasSameHash() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 2);
+        addCard(Zone.HAND, playerA, "Llanowar Elves", 2);
+        addCard(Zone.GRAVEYARD, playerB, "Lightning Bolt", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Game copy = currentGame.copy();
+        Assert.assertEquals(currentGame.getState().getStateHash(true), copy.getState().getStateHash(true));
+        Assert.assertEquals(currentGame.getState().getStateHash(true, currentGame), copy.getState().getStateHash(true, copy));
+        Assert.assertEquals(currentGame.getState().getStateHash(currentGame, playerA.getId()),
+                copy.getState().getStateHash(copy, playerA.getId()));
+    }
+
+    @Test
+    public void testChangesChangeHash() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        long hash = currentGame.getState().getStateHash(true, currentGame);
+
+        Permanent forest = getPermanent("Forest", playerA);
+        forest.setTapped(true);
+        long tappedHash = currentGame.getState().getStateHash(true, currentGame);
+        Assert.assertNotEquals(hash, tappedHash);
+
+        forest.setTapped(false);
+        Assert.assertEquals(hash, currentGame.getState().getStateHash(true, currentGame));
+
+        currentGame.getPlayer(playerB.getId()).setLife(15, currentGame);
+        Assert.assertNotEquals(hash, currentGame.getState().getStateHash(true, currentGame));
+    }
+
+    @Test
+    public void testGainedAbilityChangesHash() {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        long hash = currentGame.getState().getStateHash(true, currentGame);
+
+        Permanent lion = getPermanent("Silvercoat Lion", playerA);
+        lion.addAbility(FlyingAbility.getInstance(), currentGame);
+        long flyingHash = currentGame.getState().getStateHash(true, currentGame);
+        Assert.assertNotEquals(hash, flyingHash);
+
+        Game copy = currentGame.copy();
+        Assert.assertEquals(flyingHash, copy.getState().getStateHash(true, copy));
+    }
+}
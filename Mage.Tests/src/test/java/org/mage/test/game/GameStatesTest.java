@@ -0,0 +1,141 @@
+package org.mage.test.game;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.GameStates;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The saved game states are stored as key frames and deltas to the last key
+ * frame (a new key frame after 25 deltas), every state must be restored as it
+ * was saved.
+ */
+public class GameStatesTest extends CardTestPlayerBase {
+
+    // key frame and the deltas based on it
+    private static final int STATES_PER_KEY_FRAME = 26;
+
+    private GameState setupState() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 3);
+        addCard(Zone.HAND, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 5);
+
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+        return currentGame.getState();
+    }
+
+    private static void save(GameStates gameStates, GameState state, int turnNum) {
+        GameState copy = state.copy();
+        copy.setTurnNum(turnNum);
+        gameStates.save(copy);
+    }
+
+    private static void assertTurnNums(GameStates gameStates, int... turnNums) {
+        Assert.assertEquals(turnNums.length, gameStates.getSize());
+        for (int i = 0; i < turnNums.length; i++) {
+            Assert.assertEquals("state " + i, turnNums[i], gameStates.get(i).getTurnNum());
+        }
+    }
+
+    private static int[] range(int from, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = from + i;
+        }
+        return values;
+    }
+
+    @Test
+    public void testSaveRollbackSaveOverKeyFrames() {
+        GameState state = setupState();
+        GameStates gameStates = new GameStates();
+
+        // second key frame at STATES_PER_KEY_FRAME
+        for (int i = 0; i < STATES_PER_KEY_FRAME + 5; i++) {
+            save(gameStates, state, 100 + i);
+        }
+        assertTurnNums(gameStates, range(100, STATES_PER_KEY_FRAME + 5));
+        Assert.assertTrue(gameStates.getDataSize() > 0);
+
+        // back to a delta of the second key frame
+        Assert.assertEquals(100 + STATES_PER_KEY_FRAME + 2, gameStates.rollback(STATES_PER_KEY_FRAME + 2).getTurnNum());
+        Assert.assertEquals(STATES_PER_KEY_FRAME + 3, gameStates.getSize());
+
+        // back to a delta of the first key frame, the second key frame is removed
+        Assert.assertEquals(100 + STATES_PER_KEY_FRAME - 3, gameStates.rollback(STATES_PER_KEY_FRAME - 3).getTurnNum());
+        Assert.assertEquals(STATES_PER_KEY_FRAME - 2, gameStates.getSize());
+
+        for (int i = 0; i < STATES_PER_KEY_FRAME; i++) {
+            save(gameStates, state, 500 + i);
+        }
+        int[] expected = new int[2 * STATES_PER_KEY_FRAME - 2];
+        System.arraycopy(range(100, STATES_PER_KEY_FRAME - 2), 0, expected, 0, STATES_PER_KEY_FRAME - 2);
+        System.arraycopy(range(500, STATES_PER_KEY_FRAME), 0, expected, STATES_PER_KEY_FRAME - 2, STATES_PER_KEY_FRAME);
+        assertTurnNums(gameStates, expected);
+    }
+
+    @Test
+    public void testDeltaAfterKeyFrameIsEncodedAgain() {
+        GameState state = setupState();
+        GameStates gameStates = new GameStates();
+
+        // key frames at 0, STATES_PER_KEY_FRAME and 2 * STATES_PER_KEY_FRAME
+        for (int i = 0; i <= 2 * STATES_PER_KEY_FRAME; i++) {
+            save(gameStates, state, 100 + i);
+        }
+        // restores the second key frame and keeps it uncompressed
+        Assert.assertEquals(100 + STATES_PER_KEY_FRAME + 1, gameStates.get(STATES_PER_KEY_FRAME + 1).getTurnNum());
+
+        // the second key frame is removed and saved again with other content
+        gameStates.remove(STATES_PER_KEY_FRAME);
+        for (int i = 0; i <= STATES_PER_KEY_FRAME; i++) {
+            save(gameStates, state, 900 + i);
+        }
+
+        // the deltas must be decoded with the new second key frame
+        Assert.assertEquals(901, gameStates.get(STATES_PER_KEY_FRAME + 1).getTurnNum());
+        Assert.assertEquals(900, gameStates.get(STATES_PER_KEY_FRAME).getTurnNum());
+        Assert.assertEquals(900 + STATES_PER_KEY_FRAME, gameStates.get(2 * STATES_PER_KEY_FRAME).getTurnNum());
+        Assert.assertEquals(100 + STATES_PER_KEY_FRAME - 1, gameStates.get(STATES_PER_KEY_FRAME - 1).getTurnNum());
+        Assert.assertEquals(100, gameStates.get(0).getTurnNum());
+    }
+
+    @Test
+    public void testRemove() {
+        GameState state = setupState();
+        GameStates gameStates = new GameStates();
+
+        long[] dataSizes = new long[STATES_PER_KEY_FRAME + 6];
+        for (int i = 0; i < dataSizes.length; i++) {
+            dataSizes[i] = gameStates.getDataSize();
+            save(gameStates, state, 100 + i);
+        }
+
+        // removes the states of the second key frame and the key frame itself
+        Assert.assertEquals(STATES_PER_KEY_FRAME, gameStates.remove(STATES_PER_KEY_FRAME));
+        Assert.assertEquals(dataSizes[STATES_PER_KEY_FRAME], gameStates.getDataSize());
+        assertTurnNums(gameStates, range(100, STATES_PER_KEY_FRAME));
+
+        // new states are not based on the removed key frame
+        save(gameStates, state, 700);
+        save(gameStates, state, 701);
+        Assert.assertEquals(700, gameStates.get(STATES_PER_KEY_FRAME).getTurnNum());
+        Assert.assertEquals(701, gameStates.get(STATES_PER_KEY_FRAME + 1).getTurnNum());
+
+        // removes all states of the first key frame too
+        Assert.assertEquals(3, gameStates.remove(3));
+        Assert.assertEquals(dataSizes[3], gameStates.getDataSize());
+        save(gameStates, state, 800);
+        assertTurnNums(gameStates, 100, 101, 102, 800);
+
+        Assert.assertEquals(0, gameStates.remove(0));
+        Assert.assertEquals(0, gameStates.getDataSize());
+        Assert.assertNull(gameStates.get(0));
+        Assert.assertNull(gameStates.rollback(0));
+    }
+}
@@ -30,7 +30,9 @@ import org.junit.Test;
  *
  * These tests do use server started separately, so Mage server should be
  * started before running them. In case you want to debug these tests, use
- * -Ddebug.mage that would disable client-server request timeout.
+ * -Ddebug.mage that would disable client-server request timeout. Use
+ * -Dmage.test.transport=nio to connect to a server started with the nio
+ * transport (see transport in config.xml).
  *
  * Then it's also better to use -Xms256M -Xmx512M JVM options for these stests.
  *
@@ -43,6 +45,7 @@ public class LoadTest {
     private static final String TEST_SERVER = "localhost";
     private static final int TEST_PORT = 17171;
     private static final String TEST_PROXY_TYPE = "None";
+    private static final String TEST_TRANSPORT = System.getProperty("mage.test.transport", "bisocket");
     private static final String TEST_USER_NAME = "user";
 
     @Test
@@ -395,6 +398,7 @@ public class LoadTest {
         con.setPort(TEST_PORT);
         Connection.ProxyType proxyType = Connection.ProxyType.valueByText(TEST_PROXY_TYPE);
         con.setProxyType(proxyType);
+        con.setTransport(Connection.Transport.valueByText(TEST_TRANSPORT));
         return con;
     }
 
@@ -0,0 +1,117 @@
+package org.mage.test.serverside;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.CardSetInfo;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * CardImpl.createCard caches the card classes and constructor handles, the
+ * cards must be the same as the ones created with Class.forName and
+ * reflection for every card.
+ */
+public class CardCreationTest {
+
+    private static final String[] DECK = {
+        "Forest", "Mountain", "Llanowar Elves", "Grizzly Bears", "Silvercoat Lion", "Serra Angel",
+        "Lightning Bolt", "Shock", "Goblin Piker", "Shivan Dragon", "Birds of Paradise", "Giant Growth",
+        "Talisman of Progress", "Sol Ring", "Mind Stone"
+    };
+
+    @BeforeClass
+    public static void init() {
+        CardScanner.scan();
+    }
+
+    @Test
+    public void testSameCardsAsReflection() {
+        for (String name : DECK) {
+            CardInfo cardInfo = CardRepository.instance.findCard(name);
+            Assert.assertNotNull(name, cardInfo);
+
+            // twice, the second time the cached class and constructor are used
+            for (int i = 0; i < 2; i++) {
+                Card card = cardInfo.getCard();
+                Card expected = createWithReflection(cardInfo);
+                Assert.assertNotNull(name, card);
+                Assert.assertEquals(expected.getClass(), card.getClass());
+                Assert.assertEquals(expected.getName(), card.getName());
+                Assert.assertEquals(expected.getExpansionSetCode(), card.getExpansionSetCode());
+                Assert.assertEquals(expected.getCardNumber(), card.getCardNumber());
+                Assert.assertEquals(expected.getRarity(), card.getRarity());
+                Assert.assertEquals(expected.getCardType(), card.getCardType());
+                Assert.assertEquals(expected.getManaCost().getText(), card.getManaCost().getText());
+                Assert.assertEquals(expected.getRules(), card.getRules());
+                Assert.assertNotEquals(expected.getId(), card.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testUnknownClass() {
+        Assert.assertNull(CardImpl.createCard("mage.sets.unknown.UnknownCard", null));
+    }
+
+    @Test
+    public void testExceptionOfConstructor() {
+        List<String> errors = new ArrayList<>();
+        Assert.assertNull(CardImpl.createCard(ExceptionCard.class, createSetInfo(), errors));
+        Assert.assertEquals(1, errors.size());
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testErrorOfConstructor() {
+        CardImpl.createCard(ErrorCard.class, createSetInfo(), new ArrayList<>());
+    }
+
+    private static CardSetInfo createSetInfo() {
+        return new CardSetInfo("Test Card", "TST", "1", Rarity.COMMON);
+    }
+
+    private static Card createWithReflection(CardInfo cardInfo) {
+        try {
+            CardSetInfo setInfo = new CardSetInfo(cardInfo.getName(), cardInfo.getSetCode(), cardInfo.getCardNumber(), cardInfo.getRarity());
+            return (Card) Class.forName(cardInfo.getClassName())
+                    .getConstructor(UUID.class, CardSetInfo.class)
+                    .newInstance(null, setInfo);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public static class ExceptionCard extends CardImpl {
+
+        public ExceptionCard(UUID ownerId, CardSetInfo setInfo) {
+            super(ownerId, setInfo, new CardType[]{CardType.INSTANT}, "{R}");
+            throw new IllegalStateException("card can't be created");
+        }
+
+        @Override
+        public ExceptionCard copy() {
+            return this;
+        }
+    }
+
+    public static class ErrorCard extends CardImpl {
+
+        public ErrorCard(UUID ownerId, CardSetInfo setInfo) {
+            super(ownerId, setInfo, new CardType[]{CardType.INSTANT}, "{R}");
+            throw new AssertionError("error while the card is created");
+        }
+
+        @Override
+        public ErrorCard copy() {
+            return this;
+        }
+    }
+}
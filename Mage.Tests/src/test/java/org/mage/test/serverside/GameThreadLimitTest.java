@@ -0,0 +1,163 @@
+package org.mage.test.serverside;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import mage.server.util.GameThreadLimit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link GameThreadLimit}. The state of a game belongs
+ * to its thread, so every game runs its calls on an own thread.
+ */
+public class GameThreadLimitTest {
+
+    private static final long TIMEOUT = 10;
+    // time a blocked call gets to prove that it doesn't return
+    private static final long BLOCK_MILLIS = 200;
+
+    private final List<ExecutorService> gameThreads = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (ExecutorService gameThread : gameThreads) {
+            gameThread.shutdownNow();
+        }
+    }
+
+    private ExecutorService newGame() {
+        ExecutorService gameThread = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "test game " + gameThreads.size());
+            thread.setDaemon(true);
+            return thread;
+        });
+        gameThreads.add(gameThread);
+        return gameThread;
+    }
+
+    private static void run(ExecutorService game, Runnable call) throws Exception {
+        game.submit(call).get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    private static Future<?> runBlocked(ExecutorService game, Runnable call) throws InterruptedException {
+        Future<?> future = game.submit(call);
+        Thread.sleep(BLOCK_MILLIS);
+        Assert.assertFalse("call didn't block", future.isDone());
+        return future;
+    }
+
+    @Test
+    public void shouldLimitRunningGames() throws Exception {
+        // given
+        GameThreadLimit limit = new GameThreadLimit(1);
+        ExecutorService gameA = newGame();
+        ExecutorService gameB = newGame();
+        run(gameA, limit::enter);
+
+        // when
+        Future<?> enterB = runBlocked(gameB, limit::enter);
+        run(gameA, limit::exit);
+
+        // then
+        enterB.get(TIMEOUT, TimeUnit.SECONDS);
+        Assert.assertEquals(0, limit.getAvailablePermits());
+        run(gameB, limit::exit);
+        Assert.assertEquals(1, limit.getAvailablePermits());
+    }
+
+    @Test
+    public void shouldGivePermitToOtherGameWhileWaiting() throws Exception {
+        // given
+        GameThreadLimit limit = new GameThreadLimit(1);
+        ExecutorService gameA = newGame();
+        ExecutorService gameB = newGame();
+        run(gameA, limit::enter);
+
+        // when
+        run(gameA, limit::waitStarted);
+
+        // then
+        Assert.assertEquals(1, limit.getWaitingGames());
+        Assert.assertEquals(1, limit.getAvailablePermits());
+        run(gameB, limit::enter);
+        // the answer arrived, but the other game runs
+        Future<?> resumeA = runBlocked(gameA, limit::waitEnded);
+        Assert.assertEquals(0, limit.getWaitingGames());
+        run(gameB, limit::exit);
+        resumeA.get(TIMEOUT, TimeUnit.SECONDS);
+        Assert.assertEquals(0, limit.getAvailablePermits());
+    }
+
+    @Test
+    public void shouldResumeWaitingGameBeforeNewGame() throws Exception {
+        // given
+        GameThreadLimit limit = new GameThreadLimit(1);
+        ExecutorService gameA = newGame();
+        ExecutorService gameB = newGame();
+        ExecutorService gameC = newGame();
+        run(gameA, limit::enter);
+        run(gameA, limit::waitStarted);
+        run(gameB, limit::enter);
+        Future<?> resumeA = runBlocked(gameA, limit::waitEnded);
+
+        // when
+        Future<?> enterC = runBlocked(gameC, limit::enter);
+        Assert.assertEquals(0, limit.getAvailablePermits());
+        run(gameB, limit::exit);
+
+        // then
+        resumeA.get(TIMEOUT, TimeUnit.SECONDS);
+        Thread.sleep(BLOCK_MILLIS);
+        Assert.assertFalse("new game started before the resumed one", enterC.isDone());
+        run(gameA, limit::exit);
+        enterC.get(TIMEOUT, TimeUnit.SECONDS);
+        run(gameC, limit::exit);
+        Assert.assertEquals(1, limit.getAvailablePermits());
+    }
+
+    @Test
+    public void shouldNotReleasePermitTwiceOnExitWhileWaiting() throws Exception {
+        // given
+        GameThreadLimit limit = new GameThreadLimit(1);
+        ExecutorService gameA = newGame();
+        ExecutorService gameB = newGame();
+        ExecutorService gameC = newGame();
+        run(gameA, limit::enter);
+        run(gameA, limit::waitStarted);
+
+        // when
+        // e.g. the game ended by a concede while it waited for the player
+        run(gameA, limit::exit);
+
+        // then
+        Assert.assertEquals(0, limit.getWaitingGames());
+        Assert.assertEquals(1, limit.getAvailablePermits());
+        run(gameB, limit::enter);
+        Future<?> enterC = runBlocked(gameC, limit::enter);
+        run(gameB, limit::exit);
+        enterC.get(TIMEOUT, TimeUnit.SECONDS);
+        run(gameC, limit::exit);
+    }
+
+    @Test
+    public void shouldIgnoreWaitsOfThreadsWithoutGame() throws Exception {
+        // given
+        GameThreadLimit limit = new GameThreadLimit(1);
+        ExecutorService thread = newGame();
+
+        // when
+        // e.g. a player of a test or a simulation that didn't enter the limit
+        run(thread, limit::waitStarted);
+        run(thread, limit::waitEnded);
+        run(thread, limit::exit);
+
+        // then
+        Assert.assertEquals(0, limit.getWaitingGames());
+        Assert.assertEquals(1, limit.getAvailablePermits());
+    }
+}
@@ -0,0 +1,112 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.remote.traffic.CompactSerialization;
+import mage.util.Copier;
+import mage.view.GameView;
+import mage.view.GameViewDelta;
+import mage.view.GameViewDeltaDecoder;
+import mage.view.GameViewDeltaEncoder;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The game updates are sent in the compact form (CompactSerialization) and as
+ * delta against the previous view (GameViewDelta). The views the client
+ * restores from them must be the same as the ones restored from plain Java
+ * serialization.
+ */
+public class GameViewSerializationTest extends CardTestPlayerBase {
+
+    private final Copier<GameView> copier = new Copier<>();
+
+    @Test
+    public void testCompactSerialization() {
+        setupBoard();
+
+        GameView gameView = getGameView();
+        byte[] java = copier.serialize(gameView);
+        byte[] compact = CompactSerialization.serialize(gameView);
+
+        Assert.assertTrue("compact form is not smaller", compact.length < java.length);
+        assertSameView(copier.deserialize(java), (GameView) CompactSerialization.deserialize(compact));
+    }
+
+    @Test
+    public void testDelta() {
+        setupBoard();
+
+        GameViewDeltaEncoder encoder = new GameViewDeltaEncoder();
+        GameViewDeltaDecoder decoder = new GameViewDeltaDecoder();
+
+        GameView gameView = getGameView();
+        GameViewDelta first = encoder.encode(gameView);
+        Assert.assertTrue(first.isFullView());
+        assertSameView(gameView, decoder.decode(first));
+
+        // next update after a permanent was tapped
+        getPermanent("Forest", playerA).setTapped(true);
+        GameView nextView = getGameView();
+        GameViewDelta next = encoder.encode(nextView);
+        Assert.assertFalse(next.isFullView());
+        assertSameView(nextView, decoder.decode(next));
+        Assert.assertFalse(decoder.isResyncNeeded());
+    }
+
+    @Test
+    public void testMissedDelta() {
+        setupBoard();
+
+        GameViewDeltaEncoder encoder = new GameViewDeltaEncoder();
+        GameViewDeltaDecoder decoder = new GameViewDeltaDecoder();
+        decoder.decode(encoder.encode(getGameView()));
+
+        // the client misses an update
+        getPermanent("Forest", playerA).setTapped(true);
+        encoder.encode(getGameView());
+        getPermanent("Mountain", playerB).setTapped(true);
+        Assert.assertNull(decoder.decode(encoder.encode(getGameView())));
+        Assert.assertTrue(decoder.isResyncNeeded());
+
+        // the server sends the next view in full
+        encoder.reset();
+        getPermanent("Forest", playerA).setTapped(false);
+        GameView gameView = getGameView();
+        assertSameView(gameView, decoder.decode(encoder.encode(gameView)));
+        Assert.assertFalse(decoder.isResyncNeeded());
+    }
+
+    private void setupBoard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Serra Angel", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Talisman of Progress", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 3);
+        addCard(Zone.GRAVEYARD, playerA, "Grizzly Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 6);
+        addCard(Zone.BATTLEFIELD, playerB, "Shivan Dragon", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Goblin Piker", 4);
+        addCard(Zone.GRAVEYARD, playerB, "Shock", 4);
+
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    private GameView getGameView() {
+        return new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+    }
+
+    /**
+     * Both views are compared in their plain Java serialized form, after they
+     * went through the same deserialization.
+     */
+    private void assertSameView(GameView expected, GameView actual) {
+        Assert.assertNotNull(actual);
+        GameView expectedCopy = copier.deserialize(copier.serialize(expected));
+        GameView actualCopy = copier.deserialize(copier.serialize(actual));
+        Assert.assertArrayEquals(copier.serialize(expectedCopy), copier.serialize(actualCopy));
+    }
+}
@@ -0,0 +1,208 @@
+package org.mage.test.serverside;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import mage.constants.MatchTimeLimit;
+import mage.constants.TableState;
+import mage.game.Table;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.MatchOptions;
+import mage.players.PlayerType;
+import mage.server.game.VersionedTableViews;
+import mage.view.TableChangesView;
+import mage.view.TableView;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link VersionedTableViews}.
+ */
+public class VersionedTableViewsTest {
+
+    @Test
+    public void testFirstRequestGetsAllTables() {
+        Table tableA = createTable("A");
+        Table tableB = createTable("B");
+        VersionedTableViews views = new VersionedTableViews();
+        views.update(Arrays.asList(new TableView(tableA), new TableView(tableB)));
+
+        TableChangesView changes = views.getChanges(0);
+        Assert.assertTrue(changes.isComplete());
+        Assert.assertEquals(ids(tableA, tableB), viewIds(changes.getChangedTables()));
+        Assert.assertEquals(ids(tableA, tableB), changes.getTableIds());
+    }
+
+    @Test
+    public void testVersionStartsAtCreationTime() {
+        long before = System.currentTimeMillis();
+        VersionedTableViews views = new VersionedTableViews();
+
+        // a client with a version of a room before a server restart has a smaller version
+        TableChangesView changes = views.getChanges(before - 1);
+        Assert.assertTrue(changes.isComplete());
+        Assert.assertTrue(changes.getVersion() >= before);
+    }
+
+    @Test
+    public void testAddedTable() {
+        Table tableA = createTable("A");
+        Table tableB = createTable("B");
+        VersionedTableViews views = new VersionedTableViews();
+        views.update(Collections.singletonList(new TableView(tableA)));
+        long version = views.getChanges(0).getVersion();
+
+        Assert.assertTrue(views.update(Arrays.asList(new TableView(tableB), new TableView(tableA))));
+
+        TableChangesView changes = views.getChanges(version);
+        Assert.assertFalse(changes.isComplete());
+        Assert.assertTrue(changes.getVersion() > version);
+        Assert.assertEquals(ids(tableB), viewIds(changes.getChangedTables()));
+        Assert.assertTrue(changes.getRemovedTables().isEmpty());
+        Assert.assertEquals(ids(tableB, tableA), changes.getTableIds());
+    }
+
+    @Test
+    public void testChangedTable() {
+        Table tableA = createTable("A");
+        Table tableB = createTable("B");
+        VersionedTableViews views = new VersionedTableViews();
+        views.update(Arrays.asList(new TableView(tableA), new TableView(tableB)));
+        long version = views.getChanges(0).getVersion();
+
+        // same views again, nothing changed
+        Assert.assertFalse(views.update(Arrays.asList(new TableView(tableA), new TableView(tableB))));
+        Assert.assertEquals(version, views.getChanges(version).getVersion());
+        Assert.assertTrue(views.getChanges(version).getChangedTables().isEmpty());
+
+        // the changed table moves to the front
+        tableB.setState(TableState.READY_TO_START);
+        Assert.assertTrue(views.update(Arrays.asList(new TableView(tableB), new TableView(tableA))));
+
+        TableChangesView changes = views.getChanges(version);
+        Assert.assertFalse(changes.isComplete());
+        Assert.assertEquals(ids(tableB), viewIds(changes.getChangedTables()));
+        Assert.assertEquals(ids(tableB, tableA), changes.getTableIds());
+    }
+
+    @Test
+    public void testTableIdsOnlyIfOrderChanged() {
+        Table tableA = createTable("A");
+        Table tableB = createTable("B");
+        VersionedTableViews views = new VersionedTableViews();
+        views.update(Arrays.asList(new TableView(tableA), new TableView(tableB)));
+        long version = views.getChanges(0).getVersion();
+
+        // the changed table keeps its place
+        tableA.setState(TableState.READY_TO_START);
+        Assert.assertTrue(views.update(Arrays.asList(new TableView(tableA), new TableView(tableB))));
+
+        TableChangesView changes = views.getChanges(version);
+        Assert.assertEquals(ids(tableA), viewIds(changes.getChangedTables()));
+        Assert.assertNull(changes.getTableIds());
+
+        // only the order changed
+        Assert.assertTrue(views.update(Arrays.asList(views.getTable(tableB.getId()), views.getTable(tableA.getId()))));
+
+        changes = views.getChanges(changes.getVersion());
+        Assert.assertTrue(changes.getChangedTables().isEmpty());
+        Assert.assertEquals(ids(tableB, tableA), changes.getTableIds());
+        // a client with an older version gets the order too
+        Assert.assertEquals(ids(tableB, tableA), views.getChanges(version).getTableIds());
+    }
+
+    @Test
+    public void testUnchangedViewIsUsedAgain() {
+        Table tableA = createTable("A");
+        VersionedTableViews views = new VersionedTableViews();
+        TableView view = new TableView(tableA);
+        views.update(Collections.singletonList(view));
+        long version = views.getChanges(0).getVersion();
+
+        Assert.assertSame(view, views.getTable(tableA.getId()));
+        Assert.assertFalse(views.update(Collections.singletonList(views.getTable(tableA.getId()))));
+        Assert.assertEquals(version, views.getChanges(version).getVersion());
+        Assert.assertNull(views.getTable(UUID.randomUUID()));
+    }
+
+    @Test
+    public void testRemovedTable() {
+        Table tableA = createTable("A");
+        Table tableB = createTable("B");
+        VersionedTableViews views = new VersionedTableViews();
+        views.update(Arrays.asList(new TableView(tableA), new TableView(tableB)));
+        long version = views.getChanges(0).getVersion();
+
+        Assert.assertTrue(views.update(Collections.singletonList(new TableView(tableB))));
+
+        TableChangesView changes = views.getChanges(version);
+        Assert.assertFalse(changes.isComplete());
+        Assert.assertTrue(changes.getChangedTables().isEmpty());
+        Assert.assertEquals(ids(tableA), changes.getRemovedTables());
+        Assert.assertEquals(ids(tableB), changes.getTableIds());
+
+        // the client with the last version doesn't get the removal again
+        Assert.assertTrue(views.getChanges(changes.getVersion()).getRemovedTables().isEmpty());
+    }
+
+    @Test
+    public void testTooManyRemovedTables() {
+        List<TableView> tables = new ArrayList<>();
+        for (int i = 0; i <= VersionedTableViews.MAX_REMOVED; i++) {
+            tables.add(new TableView(createTable("T" + i)));
+        }
+        Table tableA = createTable("A");
+        VersionedTableViews views = new VersionedTableViews();
+        views.update(tables);
+        long version = views.getChanges(0).getVersion();
+
+        // one removal more than remembered, the client gets all tables
+        views.update(Collections.singletonList(new TableView(tableA)));
+
+        TableChangesView changes = views.getChanges(version);
+        Assert.assertTrue(changes.isComplete());
+        Assert.assertEquals(ids(tableA), viewIds(changes.getChangedTables()));
+        Assert.assertTrue(changes.getRemovedTables().isEmpty());
+    }
+
+    @Test
+    public void testUnknownVersionGetsAllTables() {
+        Table tableA = createTable("A");
+        VersionedTableViews views = new VersionedTableViews();
+        views.update(Collections.singletonList(new TableView(tableA)));
+        long version = views.getChanges(0).getVersion();
+
+        // version of another server instance
+        TableChangesView changes = views.getChanges(version + 1000);
+        Assert.assertTrue(changes.isComplete());
+        Assert.assertEquals(version, changes.getVersion());
+        Assert.assertEquals(ids(tableA), viewIds(changes.getChangedTables()));
+    }
+
+    private static Table createTable(String name) {
+        MatchOptions options = new MatchOptions(name, "Two Player Duel", false, 2);
+        options.getPlayerTypes().add(PlayerType.HUMAN);
+        options.getPlayerTypes().add(PlayerType.HUMAN);
+        options.setMatchTimeLimit(MatchTimeLimit.NONE);
+        return new Table(UUID.randomUUID(), options.getGameType(), name, "controller", null,
+                options.getPlayerTypes(), null, new TwoPlayerMatch(options), Collections.emptySet());
+    }
+
+    private static List<UUID> ids(Table... tables) {
+        List<UUID> ids = new ArrayList<>();
+        for (Table table : tables) {
+            ids.add(table.getId());
+        }
+        return ids;
+    }
+
+    private static List<UUID> viewIds(List<TableView> views) {
+        List<UUID> ids = new ArrayList<>();
+        for (TableView view : views) {
+            ids.add(view.getTableId());
+        }
+        return ids;
+    }
+}
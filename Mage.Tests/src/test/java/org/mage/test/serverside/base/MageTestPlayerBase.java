@@ -7,6 +7,7 @@ import mage.constants.PhaseStep;
 import mage.constants.RangeOfInfluence;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.game.GameImpl;
 import mage.game.match.MatchType;
 import mage.game.permanent.PermanentCard;
 import mage.game.tournament.TournamentType;
@@ -101,6 +102,8 @@ public abstract class MageTestPlayerBase {
             GameFactory.instance.addGameType(plugin.getName(), loadGameType(plugin), loadPlugin(plugin));
         }
         Copier.setLoader(classLoader);
+        // verify the object indexes of the games against their content
+        GameImpl.setCheckObjectIndex(true);
     }
 
     private static Class<?> loadPlugin(Plugin plugin) {
@@ -0,0 +1,84 @@
+package org.mage.test.serverside.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import mage.cards.Card;
+import mage.cards.CardSetInfo;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares the creation of the cards of a deck with CardInfo.getCard() (cached
+ * class lookup and constructor handle) to the creation with Class.forName and
+ * reflection for every card.
+ *
+ * Ignored because it only reports timings, run it manually.
+ */
+@Ignore
+public class CardCreationPerformanceTest {
+
+    private static final int WARMUP_RUNS = 200;
+    private static final int RUNS = 2000;
+
+    private static final String[] DECK = {
+        "Forest", "Mountain", "Llanowar Elves", "Grizzly Bears", "Silvercoat Lion", "Serra Angel",
+        "Lightning Bolt", "Shock", "Goblin Piker", "Shivan Dragon", "Birds of Paradise", "Giant Growth",
+        "Talisman of Progress", "Sol Ring", "Mind Stone"
+    };
+
+    @Test
+    public void testDeckCreation() throws Exception {
+        CardScanner.scan();
+        List<CardInfo> deck = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            CardInfo cardInfo = CardRepository.instance.findCard(DECK[i % DECK.length]);
+            Assert.assertNotNull(DECK[i % DECK.length], cardInfo);
+            deck.add(cardInfo);
+        }
+
+        long cached = measure(() -> {
+            for (CardInfo cardInfo : deck) {
+                cardInfo.getCard();
+            }
+        });
+        long reflection = measure(() -> {
+            for (CardInfo cardInfo : deck) {
+                createWithReflection(cardInfo);
+            }
+        });
+
+        System.out.println("CardInfo.getCard(): " + (RUNS * deck.size() * 1000L / cached) + " cards per ms");
+        System.out.println("Class.forName + newInstance: " + (RUNS * deck.size() * 1000L / reflection) + " cards per ms");
+    }
+
+    private static Card createWithReflection(CardInfo cardInfo) {
+        try {
+            CardSetInfo setInfo = new CardSetInfo(cardInfo.getName(), cardInfo.getSetCode(), cardInfo.getCardNumber(), cardInfo.getRarity());
+            return (Card) Class.forName(cardInfo.getClassName())
+                    .getConstructor(UUID.class, CardSetInfo.class)
+                    .newInstance(null, setInfo);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * @param create
+     * @return microseconds of all runs
+     */
+    private long measure(Runnable create) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            create.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            create.run();
+        }
+        return (System.nanoTime() - start) / 1000;
+    }
+}
@@ -0,0 +1,87 @@
+package org.mage.test.serverside.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameState;
+import mage.util.Copier;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Reports the heap used by each live game (two players with their decks
+ * loaded) and by each restored copy of a game state (like the states restored
+ * for rollbacks and replays).
+ *
+ * Every game has its own card objects, only the texts of the card definitions
+ * (see CardInfo.shareTexts) and the parsed mana costs are shared by all games.
+ * Run it on two commits to compare the heap per game.
+ *
+ * Ignored because it only reports memory usage, run it manually.
+ */
+@Ignore
+public class GameStateMemoryPerformanceTest extends CardTestPlayerBase {
+
+    private static final int GAMES = 20;
+    private static final int COPIES = 50;
+
+    @Test
+    public void testLiveGames() throws Exception {
+        // the first game loads the card classes and parses the mana costs
+        createNewGameAndPlayers();
+
+        long beforeGames = usedHeap();
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < GAMES; i++) {
+            games.add(createNewGameAndPlayers());
+        }
+        long afterGames = usedHeap();
+        Assert.assertEquals(GAMES, games.size());
+
+        System.out.println("Heap before the games: " + (beforeGames / 1024) + " KB");
+        System.out.println("Heap with " + GAMES + " live games: " + (afterGames / 1024) + " KB");
+        System.out.println("Live game with two decks: " + ((afterGames - beforeGames) / GAMES / 1024) + " KB per game");
+    }
+
+    @Test
+    public void testRestoredStates() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Serra Angel", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 3);
+        addCard(Zone.GRAVEYARD, playerA, "Grizzly Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 6);
+        addCard(Zone.BATTLEFIELD, playerB, "Shivan Dragon", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Goblin Piker", 4);
+        addCard(Zone.GRAVEYARD, playerB, "Shock", 4);
+
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Copier<GameState> copier = new Copier<>();
+        byte[] data = copier.serialize(currentGame.getState());
+        long beforeCopies = usedHeap();
+        List<GameState> copies = new ArrayList<>();
+        for (int i = 0; i < COPIES; i++) {
+            copies.add(copier.deserialize(data));
+        }
+        long perCopy = (usedHeap() - beforeCopies) / COPIES;
+        Assert.assertEquals(COPIES, copies.size());
+
+        System.out.println("Serialized state: " + (data.length / 1024) + " KB");
+        System.out.println("Restored state: " + (perCopy / 1024) + " KB per copy");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,75 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.remote.traffic.CompactSerialization;
+import mage.remote.traffic.ZippedObjectImpl;
+import mage.util.ByteArrayDelta;
+import mage.util.Copier;
+import mage.view.GameView;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Compares the size and encode time of the game updates sent to the clients:
+ * plain Java serialization, Java serialization with GZIP (ZippedObjectImpl)
+ * and the compact form (CompactSerialization), also as delta against the
+ * previous view (GameViewDelta).
+ *
+ * Ignored because it only reports sizes and timings, run it manually.
+ */
+@Ignore
+public class GameViewSerializationPerformanceTest extends CardTestPlayerBase {
+
+    private static final int WARMUP_RUNS = 200;
+    private static final int RUNS = 1000;
+
+    @Test
+    public void testGameView() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Serra Angel", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Talisman of Progress", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 3);
+        addCard(Zone.GRAVEYARD, playerA, "Grizzly Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 6);
+        addCard(Zone.BATTLEFIELD, playerB, "Shivan Dragon", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Goblin Piker", 4);
+        addCard(Zone.GRAVEYARD, playerB, "Shock", 4);
+
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+        Copier<GameView> copier = new Copier<>();
+
+        byte[] java = copier.serialize(gameView);
+        byte[] zipped = copier.copyCompressed(gameView);
+        byte[] compact = CompactSerialization.serialize(gameView);
+        Assert.assertNotNull(CompactSerialization.deserialize(compact));
+
+        // next update after a permanent was tapped
+        getPermanent("Forest", playerA).setTapped(true);
+        byte[] nextCompact = CompactSerialization.serialize(new GameView(currentGame.getState(), currentGame, playerA.getId(), null));
+        byte[] delta = ByteArrayDelta.encode(compact, nextCompact);
+
+        System.out.println("Java serialization: " + java.length + " bytes, " + measure(() -> copier.serialize(gameView)) + " us");
+        System.out.println("Java serialization + GZIP: " + zipped.length + " bytes, " + measure(() -> new ZippedObjectImpl<>(gameView)) + " us");
+        System.out.println("Compact: " + compact.length + " bytes, " + measure(() -> CompactSerialization.serialize(gameView)) + " us");
+        System.out.println("Compact delta of next update: " + delta.length + " bytes, " + measure(() -> ByteArrayDelta.encode(compact, nextCompact)) + " us");
+    }
+
+    private long measure(Runnable encode) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            encode.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            encode.run();
+        }
+        return (System.nanoTime() - start) / RUNS / 1000;
+    }
+}
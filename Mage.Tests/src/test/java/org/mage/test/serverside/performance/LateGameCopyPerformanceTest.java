@@ -0,0 +1,66 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameState;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures the cost of copying the game state of a late game board (many
+ * permanents, full graveyards and hands) like the AI and the bookmarks do.
+ *
+ * Ignored because it only reports timings, run it manually.
+ */
+@Ignore
+public class LateGameCopyPerformanceTest extends CardTestPlayerBase {
+
+    private static final int WARMUP_COPIES = 500;
+    private static final int COPIES = 5000;
+
+    @Test
+    public void testCopyLateGameBoard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 8);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 4);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+        addCard(Zone.GRAVEYARD, playerA, "Silvercoat Lion", 15);
+        addCard(Zone.HAND, playerA, "Llanowar Elves", 7);
+
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 8);
+        addCard(Zone.BATTLEFIELD, playerB, "Raging Goblin", 6);
+        addCard(Zone.GRAVEYARD, playerB, "Lightning Bolt", 15);
+        addCard(Zone.HAND, playerB, "Hill Giant", 7);
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        measure(currentGame);
+    }
+
+    private void measure(Game game) {
+        for (int i = 0; i < WARMUP_COPIES; i++) {
+            game.getState().copy();
+        }
+        long t1 = System.nanoTime();
+        for (int i = 0; i < COPIES; i++) {
+            GameState copy = game.getState().copy();
+        }
+        long stateTime = System.nanoTime() - t1;
+
+        long t2 = System.nanoTime();
+        for (int i = 0; i < COPIES; i++) {
+            Game copy = game.copy();
+        }
+        long gameTime = System.nanoTime() - t2;
+
+        System.out.println("Permanents on battlefield: " + game.getBattlefield().getAllPermanents().size());
+        System.out.println("GameState.copy(): " + (stateTime / COPIES / 1000) + " us per copy");
+        System.out.println("Game.copy(): " + (gameTime / COPIES / 1000) + " us per copy");
+    }
+}
@@ -0,0 +1,72 @@
+package org.mage.test.serverside.performance;
+
+import mage.abilities.mana.ManaOptions;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures the calculation of the available mana and the playable cards on
+ * boards with many lands and mana rocks that produce different colors (see
+ * ManaOptionsTest for the correctness of the results).
+ *
+ * Ignored because it only reports timings, run it manually.
+ */
+@Ignore
+public class ManaOptionsPerformanceTest extends CardTestPlayerBase {
+
+    private static final int WARMUP_RUNS = 200;
+    private static final int RUNS = 2000;
+
+    @Test
+    public void testDualLands() {
+        addCard(Zone.BATTLEFIELD, playerA, "Savannah", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Plateau", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Bayou", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Tundra", 2);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 3);
+
+        measure("10 dual lands");
+    }
+
+    @Test
+    public void testTriLandsAndManaRocks() {
+        addCard(Zone.BATTLEFIELD, playerA, "Crumbling Necropolis", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Seaside Citadel", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Savannah", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Talisman of Progress", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mind Stone", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Birds of Paradise", 2);
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 3);
+
+        measure("8 lands with 2 or 3 colors, 4 mana rocks, 2 mana creatures");
+    }
+
+    private void measure(String board) {
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        ManaOptions options = null;
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            options = playerA.getManaAvailable(currentGame);
+        }
+        long t1 = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            options = playerA.getManaAvailable(currentGame);
+        }
+        long manaTime = System.nanoTime() - t1;
+
+        long t2 = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            playerA.getPlayable(currentGame, true);
+        }
+        long playableTime = System.nanoTime() - t2;
+
+        System.out.println(board + ": " + options.size() + " mana options");
+        System.out.println("getManaAvailable(): " + (manaTime / RUNS / 1000) + " us per call");
+        System.out.println("getPlayable(): " + (playableTime / RUNS / 1000) + " us per call");
+    }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import mage.cards.Card;
 import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardScanner;
+import mage.sets.DragonsMaze;
 import mage.sets.FateReforged;
 import mage.sets.MastersEditionII;
 import mage.sets.MastersEditionIV;
@@ -99,6 +100,58 @@ public class BoosterGenerationTest extends MageTestBase {
         }
     }
 
+    @Test
+    public void testCreateBoostersInParallel() {
+        List<String> urzaLand = Arrays.asList(
+                "Urza's Mine",
+                "Urza's Power Plant",
+                "Urza's Tower"
+        );
+
+        MastersEditionIV.getInstance().removeSavedCards();
+        List<List<Card>> boosters = MastersEditionIV.getInstance().createBoosters(16);
+        Assert.assertEquals(16, boosters.size());
+        for (List<Card> booster : boosters) {
+            Assert.assertEquals(str(booster), 15, booster.size());
+            assertTrue(str(booster), contains(booster, urzaLand, "ME4"));
+        }
+    }
+
+    @Test
+    public void testDragonsMaze_SpecialRareList() {
+        List<String> shockland = Arrays.asList(
+                "Breeding Pool", "Godless Shrine", "Sacred Foundry", "Stomping Ground", "Watery Grave",
+                "Blood Crypt", "Hallowed Fountain", "Overgrown Tomb", "Steam Vents", "Temple Garden");
+
+        DragonsMaze.getInstance().removeSavedCards();
+        List<CardInfo> specialRares = DragonsMaze.getInstance().getSpecialRare();
+        Assert.assertFalse("the shocklands of GTC and RTR must be found", specialRares.isEmpty());
+        List<String> foundShockland = new ArrayList<>();
+        for (CardInfo cardInfo : specialRares) {
+            Assert.assertTrue("card " + cardInfo.getName() + " must be a shockland", shockland.contains(cardInfo.getName()));
+            Assert.assertTrue(cardInfo.getSetCode().equals("GTC") || cardInfo.getSetCode().equals("RTR"));
+            foundShockland.add(cardInfo.getName());
+        }
+        for (String needName : shockland) {
+            Assert.assertTrue("can't find need card " + needName + " in special rare list", foundShockland.contains(needName));
+        }
+
+        // every call gets its own copy of the saved cards
+        specialRares.clear();
+        Assert.assertEquals(foundShockland.size(), DragonsMaze.getInstance().getSpecialRare().size());
+    }
+
+    @Test
+    public void testDragonsMaze_CreateBoostersInParallel() {
+        DragonsMaze.getInstance().removeSavedCards();
+        List<List<Card>> boosters = DragonsMaze.getInstance().createBoosters(16);
+        Assert.assertEquals(16, boosters.size());
+        for (List<Card> booster : boosters) {
+            // 10 commons, 3 uncommons, 1 rare or mythic and 1 card of the special slot
+            Assert.assertEquals(str(booster), 15, booster.size());
+        }
+    }
+
     private static String str(List<Card> cards) {
         StringBuilder sb = new StringBuilder("[");
         Iterator<Card> iterator = cards.iterator();
@@ -0,0 +1,171 @@
+package org.mage.test.simulation;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measurements of the games of a simulation, the games update them from
+ * their own threads.
+ *
+ * @see SimulationMetricsWatcher
+ */
+public class SimulationMetrics {
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder actions = new LongAdder();
+    private final LongAdder gameNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder effectsApplied = new LongAdder();
+    private final LongAdder effectsSkipped = new LongAdder();
+    private final Map<String, LongAdder> stepNanos = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> wins = new ConcurrentHashMap<>();
+
+    /**
+     * Time measurement of the steps of a single game.
+     */
+    public class GameRun {
+
+        private String step;
+        private long stepStart;
+
+        void startStep(String step) {
+            endStep();
+            this.step = step;
+            this.stepStart = System.nanoTime();
+        }
+
+        void endStep() {
+            if (step != null) {
+                stepNanos.computeIfAbsent(step, k -> new LongAdder()).add(System.nanoTime() - stepStart);
+                step = null;
+            }
+        }
+
+        void addAction() {
+            actions.increment();
+        }
+    }
+
+    public GameRun startGame() {
+        return new GameRun();
+    }
+
+    /**
+     * @param run
+     * @param turns
+     * @param winner name of the winning player or null for a draw
+     * @param nanos
+     * @param allocated bytes allocated by the game thread, -1 if unknown
+     */
+    public void endGame(GameRun run, int turns, String winner, long nanos, long allocated) {
+        run.endStep();
+        this.games.increment();
+        this.turns.add(turns);
+        this.gameNanos.add(nanos);
+        if (allocated > 0) {
+            this.allocatedBytes.add(allocated);
+        }
+        if (winner == null) {
+            draws.increment();
+        } else {
+            wins.computeIfAbsent(winner, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * @param applied how often a game applied the continuous effects
+     * @param skipped how often a game skipped applying them because nothing
+     * changed
+     */
+    public void addEffects(int applied, int skipped) {
+        effectsApplied.add(applied);
+        effectsSkipped.add(skipped);
+    }
+
+    public void addError() {
+        errors.increment();
+    }
+
+    public long getGames() {
+        return games.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @param settings the settings of the simulation, added to the report
+     * @param wallNanos
+     * @return report in JSON
+     */
+    public String toJson(Map<String, Object> settings, long wallNanos) {
+        long gameCount = games.sum();
+        double wallSeconds = wallNanos / 1e9;
+        StringBuilder sb = new StringBuilder("{\n");
+        sb.append("  \"settings\": {");
+        appendValues(sb, settings);
+        sb.append("},\n");
+        appendValue(sb.append("  "), "games", gameCount).append(",\n");
+        appendValue(sb.append("  "), "errors", errors.sum()).append(",\n");
+        appendValue(sb.append("  "), "draws", draws.sum()).append(",\n");
+        appendValue(sb.append("  "), "wallSeconds", wallSeconds).append(",\n");
+        appendValue(sb.append("  "), "gamesPerSecond", gameCount / wallSeconds).append(",\n");
+        appendValue(sb.append("  "), "actionsPerSecond", actions.sum() / wallSeconds).append(",\n");
+        appendValue(sb.append("  "), "turnsPerGame", gameCount == 0 ? 0 : (double) turns.sum() / gameCount).append(",\n");
+        appendValue(sb.append("  "), "actionsPerGame", gameCount == 0 ? 0 : (double) actions.sum() / gameCount).append(",\n");
+        appendValue(sb.append("  "), "millisPerGame", gameCount == 0 ? 0 : gameNanos.sum() / 1e6 / gameCount).append(",\n");
+        appendValue(sb.append("  "), "allocatedBytesPerGame", gameCount == 0 ? 0 : allocatedBytes.sum() / gameCount).append(",\n");
+        appendValue(sb.append("  "), "effectsAppliedPerGame", gameCount == 0 ? 0 : effectsApplied.sum() / gameCount).append(",\n");
+        appendValue(sb.append("  "), "effectsSkippedPerGame", gameCount == 0 ? 0 : effectsSkipped.sum() / gameCount).append(",\n");
+        sb.append("  \"stepMillis\": {");
+        appendValues(sb, sortedSums(stepNanos, 1e6));
+        sb.append("},\n");
+        sb.append("  \"wins\": {");
+        appendValues(sb, sortedSums(wins, 1));
+        sb.append("}\n}\n");
+        return sb.toString();
+    }
+
+    private static Map<String, Object> sortedSums(Map<String, LongAdder> values, double divisor) {
+        Map<String, Object> result = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : values.entrySet()) {
+            long sum = entry.getValue().sum();
+            result.put(entry.getKey(), divisor == 1 ? (Object) sum : (Object) (sum / divisor));
+        }
+        return result;
+    }
+
+    private static void appendValues(StringBuilder sb, Map<String, Object> values) {
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (!first) {
+                sb.append(", ");
+            }
+            appendValue(sb, entry.getKey(), entry.getValue());
+            first = false;
+        }
+    }
+
+    private static StringBuilder appendValue(StringBuilder sb, String name, Object value) {
+        sb.append('"').append(escape(name)).append("\": ");
+        if (value instanceof Double) {
+            sb.append(String.format(Locale.ENGLISH, "%.3f", (Double) value));
+        } else if (value instanceof Number || value instanceof Boolean) {
+            sb.append(value);
+        } else {
+            sb.append('"').append(escape(String.valueOf(value))).append('"');
+        }
+        return sb;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
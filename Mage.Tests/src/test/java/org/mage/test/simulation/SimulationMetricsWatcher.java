@@ -0,0 +1,71 @@
+package org.mage.test.simulation;
+
+import java.util.EnumSet;
+import java.util.Set;
+import mage.constants.WatcherScope;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import mage.watchers.Watcher;
+
+/**
+ * Measures the time of the steps and counts the actions of the players
+ * (spells cast, abilities activated, lands played, attackers and blockers
+ * declared) of a simulated game.
+ *
+ * The copies of the watcher (e.g. the game states the AI players simulate)
+ * share the measurement of the game, the events of simulations are ignored.
+ */
+public class SimulationMetricsWatcher extends Watcher {
+
+    private static final Set<EventType> STEP_EVENTS = EnumSet.noneOf(EventType.class);
+    private static final Set<EventType> ACTION_EVENTS = EnumSet.of(
+            EventType.SPELL_CAST, EventType.ACTIVATED_ABILITY, EventType.LAND_PLAYED,
+            EventType.ATTACKER_DECLARED, EventType.BLOCKER_DECLARED);
+    private static final Set<EventType> WATCHED_EVENTS;
+
+    static {
+        for (EventType type : EventType.values()) {
+            if (type.name().endsWith("_STEP_PRE")) {
+                STEP_EVENTS.add(type);
+            }
+        }
+        WATCHED_EVENTS = EnumSet.copyOf(STEP_EVENTS);
+        WATCHED_EVENTS.addAll(ACTION_EVENTS);
+    }
+
+    private final transient SimulationMetrics.GameRun run;
+
+    public SimulationMetricsWatcher(SimulationMetrics.GameRun run) {
+        super(SimulationMetricsWatcher.class.getSimpleName(), WatcherScope.GAME);
+        this.run = run;
+    }
+
+    public SimulationMetricsWatcher(final SimulationMetricsWatcher watcher) {
+        super(watcher);
+        this.run = watcher.run;
+    }
+
+    @Override
+    public void watch(GameEvent event, Game game) {
+        if (run == null || game.isSimulation()) {
+            return;
+        }
+        if (STEP_EVENTS.contains(event.getType())) {
+            String name = event.getType().name();
+            run.startStep(name.substring(0, name.length() - "_STEP_PRE".length()));
+        } else {
+            run.addAction();
+        }
+    }
+
+    @Override
+    public Set<EventType> getWatchedEventTypes() {
+        return WATCHED_EVENTS;
+    }
+
+    @Override
+    public SimulationMetricsWatcher copy() {
+        return new SimulationMetricsWatcher(this);
+    }
+}
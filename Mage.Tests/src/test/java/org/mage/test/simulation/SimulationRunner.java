@@ -0,0 +1,264 @@
+package org.mage.test.simulation;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import mage.cards.decks.Deck;
+import mage.cards.decks.importer.DeckImporterUtil;
+import mage.cards.repository.CardScanner;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.RangeOfInfluence;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.GameOptions;
+import mage.game.TwoPlayerDuel;
+import mage.player.ai.ComputerPlayer;
+import mage.players.Player;
+import mage.players.PlayerType;
+import mage.server.game.PlayerFactory;
+import mage.util.RandomUtil;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.mage.test.serverside.base.MageTestBase;
+
+/**
+ * Plays AI vs AI games without server and clients on a work stealing pool
+ * and reports the throughput (games and player actions per second), the time
+ * of the steps and the allocated memory of the games in JSON.
+ *
+ * The players are given by {@link #COMPUTER_PLAYER} (the basic AI) or the
+ * name of a {@link PlayerType} of the AI plugins (e.g. COMPUTER_MAD), the
+ * decks by their files. The players and decks of a game are chosen round
+ * robin by the number of the game. Every game has its own seed (seed + number
+ * of the game) for the random values of the game thread, so the library
+ * shuffles of a game can be repeated. The threads of the AI players are not
+ * seeded.
+ *
+ * Run from the Mage.Tests folder (plugins and config of the tests):
+ * <pre>
+ * SimulationRunner games=200 threads=8 seed=1 maxTurns=40 players=COMPUTER_MAD,COMPUTER_PLAYER
+ *     "decks=RB Aggro.dck,UW Control.dck" report=simulation.json
+ * </pre>
+ */
+public class SimulationRunner {
+
+    private static final Logger logger = Logger.getLogger(SimulationRunner.class);
+
+    public static final String COMPUTER_PLAYER = "COMPUTER_PLAYER";
+
+    private final List<String> decks;
+    private final List<String> players;
+    private int games = 100;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 1;
+    private int maxTurns = 40;
+    private int skill = 4;
+
+    private final SimulationMetrics metrics = new SimulationMetrics();
+    private long wallNanos;
+
+    public SimulationRunner(List<String> decks, List<String> players) {
+        if (decks.isEmpty() || players.isEmpty()) {
+            throw new IllegalArgumentException("At least one deck and one player type are needed");
+        }
+        this.decks = new ArrayList<>(decks);
+        this.players = new ArrayList<>(players);
+    }
+
+    public SimulationRunner setGames(int games) {
+        this.games = games;
+        return this;
+    }
+
+    public SimulationRunner setThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public SimulationRunner setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * @param maxTurns games that last longer are ended as draw
+     * @return
+     */
+    public SimulationRunner setMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+        return this;
+    }
+
+    public SimulationRunner setSkill(int skill) {
+        this.skill = skill;
+        return this;
+    }
+
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Plays all games, the cards and the player plugins have to be loaded.
+     *
+     * @throws InterruptedException
+     */
+    public void run() throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> results = new ArrayList<>(games);
+            for (int i = 0; i < games; i++) {
+                int number = i;
+                results.add(pool.submit(() -> playGame(number)));
+            }
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException ex) {
+                    metrics.addError();
+                    logger.error("Simulated game failed", ex.getCause());
+                }
+            }
+            wallNanos = System.nanoTime() - start;
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private void playGame(int number) {
+        RandomUtil.setSeed(seed + number);
+        try {
+            Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ALL, 0, 20);
+            Player playerA = addPlayer(game, "A", number, 0);
+            addPlayer(game, "B", number, 1);
+            GameOptions options = new GameOptions();
+            options.testMode = true;
+            options.stopOnTurn = maxTurns + 1;
+            game.setGameOptions(options);
+
+            SimulationMetrics.GameRun run = metrics.startGame();
+            game.getState().addWatcher(new SimulationMetricsWatcher(run));
+
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            game.start(playerA.getId());
+            long nanos = System.nanoTime() - start;
+            long allocatedAfter = allocatedBytes();
+
+            String winner = null;
+            for (Player player : game.getPlayers().values()) {
+                if (player.hasWon()) {
+                    winner = player.getName();
+                }
+            }
+            metrics.addEffects(game.getState().getEffectsAppliedCount(), game.getState().getEffectsSkippedCount());
+            metrics.endGame(run, game.getTurnNum(), winner, nanos,
+                    allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore);
+        } catch (GameException ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            RandomUtil.clearSeed();
+        }
+    }
+
+    private Player addPlayer(Game game, String seat, int number, int index) throws GameException {
+        String type = players.get((number + index) % players.size());
+        String deckName = decks.get((number + index) % decks.size());
+        Player player = createPlayer(seat + " - " + type, type);
+        Deck deck = Deck.load(DeckImporterUtil.importDeck(deckName), false, false);
+        if (deck.getCards().size() < 40) {
+            throw new IllegalArgumentException("Couldn't load deck " + deckName + ", deck size=" + deck.getCards().size());
+        }
+        game.addPlayer(player, deck);
+        game.loadCards(deck.getCards(), player.getId());
+        return player;
+    }
+
+    private Player createPlayer(String name, String type) {
+        if (COMPUTER_PLAYER.equals(type)) {
+            return new ComputerPlayer(name, RangeOfInfluence.ALL);
+        }
+        Optional<Player> playerOptional = PlayerFactory.instance.createPlayer(PlayerType.valueOf(type), name, RangeOfInfluence.ALL, skill);
+        return playerOptional.orElseThrow(() -> new IllegalStateException("Player type " + type + " is not loaded"));
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * @return the report of the last run in JSON
+     */
+    public String getReport() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("games", games);
+        settings.put("threads", threads);
+        settings.put("seed", seed);
+        settings.put("maxTurns", maxTurns);
+        settings.put("skill", skill);
+        settings.put("players", String.join(",", players));
+        settings.put("decks", String.join(",", decks));
+        return metrics.toJson(settings, wallNanos);
+    }
+
+    /**
+     * @param args name=value pairs: decks, players (comma separated), games,
+     * threads, seed, maxTurns, skill and report (file, default is the
+     * console)
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (index < 0) {
+                System.err.println("Usage: SimulationRunner decks=<deck files> players=<player types> [games=<n>] [threads=<n>] [seed=<n>] [maxTurns=<n>] [skill=<n>] [report=<file>]");
+                System.exit(2);
+            }
+            options.put(arg.substring(0, index), arg.substring(index + 1));
+        }
+        SimulationRunner runner = new SimulationRunner(
+                Arrays.asList(options.getOrDefault("decks", "RB Aggro.dck,UW Control.dck").split(",")),
+                Arrays.asList(options.getOrDefault("players", COMPUTER_PLAYER).split(",")));
+        if (options.containsKey("games")) {
+            runner.setGames(Integer.parseInt(options.get("games")));
+        }
+        if (options.containsKey("threads")) {
+            runner.setThreads(Integer.parseInt(options.get("threads")));
+        }
+        if (options.containsKey("seed")) {
+            runner.setSeed(Long.parseLong(options.get("seed")));
+        }
+        if (options.containsKey("maxTurns")) {
+            runner.setMaxTurns(Integer.parseInt(options.get("maxTurns")));
+        }
+        if (options.containsKey("skill")) {
+            runner.setSkill(Integer.parseInt(options.get("skill")));
+        }
+
+        MageTestBase.init();
+        Logger.getRootLogger().setLevel(Level.WARN);
+        CardScanner.scan();
+        runner.run();
+
+        String report = runner.getReport();
+        if (options.containsKey("report")) {
+            Files.write(new File(options.get("report")).toPath(), report.getBytes(StandardCharsets.UTF_8));
+        } else {
+            System.out.print(report);
+        }
+        System.exit(runner.getMetrics().getErrors() > 0 ? 1 : 0);
+    }
+}
@@ -0,0 +1,35 @@
+package org.mage.test.simulation;
+
+import java.util.Arrays;
+import mage.cards.repository.CardScanner;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.MageTestBase;
+
+/**
+ * Plays a few short AI vs AI games with the simulation runner. Longer runs
+ * for throughput numbers are started with {@link SimulationRunner#main}.
+ */
+public class SimulationRunnerTest extends MageTestBase {
+
+    private static final int GAMES = 2;
+
+    @Test
+    public void testComputerPlayers() throws Exception {
+        CardScanner.scan();
+        SimulationRunner runner = new SimulationRunner(
+                Arrays.asList("RB Aggro.dck", "UW Control.dck"),
+                Arrays.asList(SimulationRunner.COMPUTER_PLAYER, SimulationRunner.COMPUTER_PLAYER))
+                .setGames(GAMES)
+                .setThreads(GAMES)
+                .setSeed(42)
+                .setMaxTurns(6);
+        runner.run();
+
+        Assert.assertEquals(0, runner.getMetrics().getErrors());
+        Assert.assertEquals(GAMES, runner.getMetrics().getGames());
+        String report = runner.getReport();
+        Assert.assertTrue(report, report.contains("\"games\": " + GAMES));
+        Assert.assertTrue(report, report.contains("\"errors\": 0"));
+    }
+}
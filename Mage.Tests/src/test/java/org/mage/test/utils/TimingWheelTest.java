@@ -0,0 +1,114 @@
+package org.mage.test.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import mage.utils.timer.TimingWheel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link TimingWheel}.
+ */
+public class TimingWheelTest {
+
+    private static final long TICK = 10;
+    // one revolution of the hand takes WHEEL_SIZE * TICK ms
+    private static final int WHEEL_SIZE = 4;
+
+    // due timers are run by the wheel thread itself
+    private final TimingWheel wheel = new TimingWheel("TEST_TIMING_WHEEL", TICK, TimeUnit.MILLISECONDS, WHEEL_SIZE, Runnable::run);
+
+    @After
+    public void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    public void shouldFireInDeadlineOrder() throws InterruptedException {
+        // given
+        List<Integer> fired = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(3);
+
+        // when
+        for (int delay : new int[]{60, 20, 40}) {
+            wheel.schedule(() -> {
+                fired.add(delay);
+                done.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        // then
+        Assert.assertTrue(done.await(2, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList(20, 40, 60), fired);
+        Assert.assertEquals(0, wheel.getScheduledCount());
+        Assert.assertEquals(3, wheel.getExpiredCount());
+    }
+
+    @Test
+    public void shouldWaitMoreThanOneRevolution() throws InterruptedException {
+        // given
+        long delay = 3 * WHEEL_SIZE * TICK + 2 * TICK;
+        AtomicLong firedAfter = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        // when
+        wheel.schedule(() -> {
+            firedAfter.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            done.countDown();
+        }, delay, TimeUnit.MILLISECONDS);
+
+        // then
+        Assert.assertTrue(done.await(2, TimeUnit.SECONDS));
+        // the hand passed the bucket of the timer 3 times before
+        Assert.assertTrue("fired after " + firedAfter.get() + " ms", firedAfter.get() >= delay - TICK);
+    }
+
+    @Test
+    public void shouldNotRunCancelledTimer() throws InterruptedException {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        ScheduledFuture<?> future = wheel.schedule(runs::incrementAndGet, 5 * TICK, TimeUnit.MILLISECONDS);
+
+        // when
+        boolean cancelled = future.cancel(false);
+
+        // then
+        Assert.assertTrue(cancelled);
+        Assert.assertTrue(future.isCancelled());
+        Assert.assertEquals(0, wheel.getScheduledCount());
+        Thread.sleep(3 * WHEEL_SIZE * TICK);
+        Assert.assertEquals(0, runs.get());
+        Assert.assertEquals(0, wheel.getExpiredCount());
+    }
+
+    @Test
+    public void shouldRunPeriodicTimerAgain() throws InterruptedException {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(3);
+
+        // when
+        ScheduledFuture<?> future = wheel.scheduleAtFixedRate(() -> {
+            runs.incrementAndGet();
+            done.countDown();
+        }, TICK, 2 * TICK, TimeUnit.MILLISECONDS);
+
+        // then
+        Assert.assertTrue(done.await(2, TimeUnit.SECONDS));
+        Assert.assertFalse(future.isDone());
+        Assert.assertTrue(future.cancel(false));
+        int runsAtCancel = runs.get();
+        Thread.sleep(3 * WHEEL_SIZE * TICK);
+        Assert.assertEquals(runsAtCancel, runs.get());
+        Assert.assertEquals(0, wheel.getScheduledCount());
+    }
+}
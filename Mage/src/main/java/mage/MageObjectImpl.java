@@ -51,6 +51,7 @@ import mage.constants.SubLayer;
 import mage.constants.SubType;
 import mage.constants.SubTypeSet;
 import mage.constants.SuperType;
+import mage.game.CardState;
 import mage.game.Game;
 import mage.game.events.ZoneChangeEvent;
 import mage.util.GameLog;
@@ -166,8 +167,8 @@ public abstract class MageObjectImpl implements MageObject {
         if (this.getAbilities().containsKey(abilityId)) {
             return true;
         }
-        Abilities<Ability> otherAbilities = game.getState().getAllOtherAbilities(getId());
-        return otherAbilities != null && otherAbilities.containsKey(abilityId);
+        CardState cardState = game.getState().getCardStateForRead(getId());
+        return cardState != null && cardState.getAbilities().containsKey(abilityId);
     }
 
     @Override
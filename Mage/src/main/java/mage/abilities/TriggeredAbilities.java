@@ -49,6 +49,10 @@ import java.util.concurrent.ConcurrentHashMap;
 public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbility> {
 
     private final Map<String, List<UUID>> sources = new HashMap<>();
+    // abilities by the event types they declare, so only interested abilities are checked for an event
+    private final Map<GameEvent.EventType, Map<String, TriggeredAbility>> byEventType = new EnumMap<>(GameEvent.EventType.class);
+    // abilities without declared event types, they are checked for all events
+    private final Map<String, TriggeredAbility> forAllEventTypes = new ConcurrentHashMap<>();
 
     public TriggeredAbilities() {
     }
@@ -72,8 +76,15 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext(); ) {
-            TriggeredAbility ability = it.next();
+        Map<String, TriggeredAbility> interested = byEventType.get(event.getType());
+        if (interested != null) {
+            checkTriggers(interested.values(), event, game);
+        }
+        checkTriggers(forAllEventTypes.values(), event, game);
+    }
+
+    private void checkTriggers(Collection<TriggeredAbility> abilities, GameEvent event, Game game) {
+        for (TriggeredAbility ability : abilities) {
             if (ability.checkEventType(event, game)) {
                 checkTrigger(ability, event, game);
             }
@@ -153,6 +164,53 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
         this.put(getKey(ability, attachedTo), ability);
     }
 
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility ability) {
+        TriggeredAbility old = super.put(key, ability);
+        if (old != null) {
+            removeFromIndex(key, old);
+        }
+        Set<GameEvent.EventType> eventTypes = ability.getTriggerEventTypes();
+        if (eventTypes == null) {
+            forAllEventTypes.put(key, ability);
+        } else {
+            for (GameEvent.EventType eventType : eventTypes) {
+                byEventType.computeIfAbsent(eventType, type -> new ConcurrentHashMap<>()).put(key, ability);
+            }
+        }
+        return old;
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility old = super.remove(key);
+        if (old != null) {
+            removeFromIndex((String) key, old);
+        }
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        byEventType.clear();
+        forAllEventTypes.clear();
+    }
+
+    private void removeFromIndex(String key, TriggeredAbility ability) {
+        Set<GameEvent.EventType> eventTypes = ability.getTriggerEventTypes();
+        if (eventTypes == null) {
+            forAllEventTypes.remove(key);
+        } else {
+            for (GameEvent.EventType eventType : eventTypes) {
+                Map<String, TriggeredAbility> interested = byEventType.get(eventType);
+                if (interested != null) {
+                    interested.remove(key);
+                }
+            }
+        }
+    }
+
     private String getKey(TriggeredAbility ability, MageObject target) {
         String key = ability.getId() + "_";
         if (target != null) {
@@ -162,21 +220,31 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     }
 
 
+    // removals have to go through remove(key) to keep the event type index up to date
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        String source = sourceId.toString();
+        for (String key : keySet()) {
+            if (key.endsWith(source)) {
+                remove(key);
+            }
+        }
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        for (String key : sources.keySet()) {
+            remove(key);
+        }
         sources.clear();
     }
 
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
-
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
-
+        for (Map.Entry<String, TriggeredAbility> entry : entrySet()) {
+            if (game.getObject(entry.getValue().getSourceId()) == null
+                    && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId()))) {
+                remove(entry.getKey());
+            }
+        }
     }
 
     public TriggeredAbilities copy() {
@@ -27,6 +27,7 @@
  */
 package mage.abilities;
 
+import java.util.Set;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -50,6 +51,16 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Event types checkEventType can return true for. If declared, the ability
+     * is only checked for events of these types. The returned types must not
+     * change during the lifetime of the ability object.
+     *
+     * @return the event types or null if the ability has to be checked for all
+     * events
+     */
+    Set<GameEvent.EventType> getTriggerEventTypes();
+
     boolean checkTrigger(GameEvent event, Game game);
 
     boolean checkInterveningIfClause(Game game);
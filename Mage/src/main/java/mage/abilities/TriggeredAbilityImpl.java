@@ -27,6 +27,7 @@
  */
 package mage.abilities;
 
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.effects.Effect;
@@ -78,6 +79,11 @@ public abstract class TriggeredAbilityImpl extends AbilityImpl implements Trigge
         }
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return null;
+    }
+
     @Override
     public boolean checkInterveningIfClause(Game game) {
         return true;
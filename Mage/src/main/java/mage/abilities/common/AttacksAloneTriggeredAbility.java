@@ -27,7 +27,9 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -61,6 +63,11 @@ public class AttacksAloneTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == EventType.DECLARED_ATTACKERS;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.DECLARED_ATTACKERS);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if(game.getActivePlayerId().equals(this.controllerId) ) {
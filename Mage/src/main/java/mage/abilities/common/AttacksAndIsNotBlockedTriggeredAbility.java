@@ -37,6 +37,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class AttacksAndIsNotBlockedTriggeredAbility extends TriggeredAbilityImpl {
 
     private final boolean setTargetPointer;
@@ -69,6 +72,11 @@ public class AttacksAndIsNotBlockedTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == EventType.DECLARE_BLOCKERS_STEP;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.DECLARE_BLOCKERS_STEP);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent sourcePermanent = game.getPermanentOrLKIBattlefield(getSourceId());
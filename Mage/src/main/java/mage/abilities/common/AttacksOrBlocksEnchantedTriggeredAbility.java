@@ -9,6 +9,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class AttacksOrBlocksEnchantedTriggeredAbility extends TriggeredAbilityImpl {
 
     public AttacksOrBlocksEnchantedTriggeredAbility(Zone zone, Effect effect) {
@@ -29,6 +32,11 @@ public class AttacksOrBlocksEnchantedTriggeredAbility extends TriggeredAbilityIm
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED || event.getType() == GameEvent.EventType.BLOCKER_DECLARED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED, GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent enchantment = game.getPermanent(this.getSourceId());
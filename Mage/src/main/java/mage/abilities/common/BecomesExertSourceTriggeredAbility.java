@@ -33,6 +33,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -57,6 +60,11 @@ public class BecomesExertSourceTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.BECOMES_EXERTED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BECOMES_EXERTED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getSourceId().equals(this.getSourceId());
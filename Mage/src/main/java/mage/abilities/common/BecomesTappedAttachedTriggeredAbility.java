@@ -34,6 +34,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LoneFox
@@ -66,6 +69,11 @@ public class BecomesTappedAttachedTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.TAPPED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TAPPED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent enchantment = game.getPermanent(this.getSourceId());
@@ -35,6 +35,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LoneFox
@@ -67,6 +70,11 @@ public class BecomesTargetAttachedTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == EventType.TARGETED;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.TARGETED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent enchantment = game.getPermanent(sourceId);
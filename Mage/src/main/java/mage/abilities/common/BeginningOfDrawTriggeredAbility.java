@@ -36,6 +36,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfDrawTriggeredAbility extends TriggeredAbilityImpl {
 
     private TargetController targetController;
@@ -72,6 +75,11 @@ public class BeginningOfDrawTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DRAW_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DRAW_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -38,6 +38,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
 
     private TargetController targetController;
@@ -69,6 +72,11 @@ public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == EventType.END_TURN_STEP_PRE;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -17,6 +17,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -52,6 +55,11 @@ public class BeginningOfPostCombatMainTriggeredAbility extends TriggeredAbilityI
         return event.getType() == GameEvent.EventType.POSTCOMBAT_MAIN_PHASE_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.POSTCOMBAT_MAIN_PHASE_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -13,6 +13,9 @@ import mage.game.events.GameEvent;
 import mage.players.Player;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author Jeff
@@ -45,6 +48,11 @@ public class BeginningOfUntapTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.UNTAP_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UNTAP_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -6,6 +6,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Beginning of controlled end step triggered ability
  * @author Loki
@@ -30,6 +33,11 @@ public class BeginningOfYourEndStepTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.END_TURN_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getPlayerId().equals(this.controllerId);
@@ -27,6 +27,7 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -76,6 +77,11 @@ public class ControlledCreaturesDealCombatDamagePlayerTriggeredAbility extends T
                 || event.getType() == EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER, EventType.COMBAT_DAMAGE_STEP_PRIORITY, EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == EventType.DAMAGED_PLAYER) {
@@ -40,6 +40,9 @@ import mage.target.Target;
 import mage.target.TargetPlayer;
 import mage.target.common.TargetCreaturePermanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author North
@@ -116,6 +119,11 @@ public class CreatureEntersBattlefieldTriggeredAbility extends TriggeredAbilityI
         return event.getType() == EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent permanent = ((EntersTheBattlefieldEvent) event).getTarget();
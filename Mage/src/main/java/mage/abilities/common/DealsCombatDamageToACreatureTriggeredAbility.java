@@ -36,6 +36,9 @@ import mage.game.events.DamagedCreatureEvent;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX
@@ -68,6 +71,11 @@ public class DealsCombatDamageToACreatureTriggeredAbility extends TriggeredAbili
         return event.getType() == GameEvent.EventType.DAMAGED_CREATURE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_CREATURE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
       if (event.getSourceId().equals(this.sourceId)
@@ -17,6 +17,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -66,6 +69,11 @@ public class DealsDamageToACreatureAllTriggeredAbility extends TriggeredAbilityI
         return event.getType() == EventType.DAMAGED_CREATURE;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_CREATURE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!combatDamageOnly || ((DamagedCreatureEvent) event).isCombatDamage()) {
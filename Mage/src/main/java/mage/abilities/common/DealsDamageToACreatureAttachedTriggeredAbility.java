@@ -37,6 +37,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX
  */
@@ -69,6 +72,11 @@ public class DealsDamageToACreatureAttachedTriggeredAbility extends TriggeredAbi
         return event.getType() == GameEvent.EventType.DAMAGED_CREATURE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_CREATURE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!combatOnly || ((DamagedCreatureEvent) event).isCombatDamage()) {
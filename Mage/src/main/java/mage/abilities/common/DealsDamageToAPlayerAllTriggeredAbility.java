@@ -38,6 +38,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -72,6 +75,11 @@ public class DealsDamageToAPlayerAllTriggeredAbility extends TriggeredAbilityImp
         return event.getType() == GameEvent.EventType.DAMAGED_PLAYER;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!onlyCombat || ((DamagedPlayerEvent) event).isCombatDamage()) {
@@ -35,6 +35,9 @@ import mage.game.events.DamagedPlayerEvent;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author noxx
  */
@@ -76,6 +79,11 @@ public class DealsDamageToOpponentTriggeredAbility extends TriggeredAbilityImpl
         return event.getType() == GameEvent.EventType.DAMAGED_PLAYER;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getSourceId().equals(this.sourceId)
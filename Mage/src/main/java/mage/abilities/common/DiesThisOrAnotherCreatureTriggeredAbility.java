@@ -37,6 +37,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author noxx
  */
@@ -68,6 +71,11 @@ public class DiesThisOrAnotherCreatureTriggeredAbility extends TriggeredAbilityI
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean isInUseableZone(Game game, MageObject source, GameEvent event) {
         Permanent sourcePermanent = null;
@@ -35,6 +35,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author Styxo
@@ -63,6 +66,11 @@ public class DiscardedByOpponentTriggerAbility extends TriggeredAbilityImpl {
         return event.getType() == EventType.DISCARDED_CARD;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.DISCARDED_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (getSourceId().equals(event.getTargetId())) {
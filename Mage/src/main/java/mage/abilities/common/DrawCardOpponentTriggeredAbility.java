@@ -35,6 +35,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -64,6 +67,11 @@ public class DrawCardOpponentTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DREW_CARD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (game.getPlayer(this.getControllerId()).hasOpponent(event.getPlayerId(), game)) {
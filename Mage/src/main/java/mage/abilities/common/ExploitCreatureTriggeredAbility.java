@@ -36,6 +36,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -68,6 +71,11 @@ public class ExploitCreatureTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.EXPLOITED_CREATURE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.EXPLOITED_CREATURE);
+    }
+
     @Override
     public boolean isInUseableZone(Game game, MageObject source, GameEvent event) {
         if (event.getTargetId().equals(getSourceId()) && event.getSourceId().equals(getSourceId())) {
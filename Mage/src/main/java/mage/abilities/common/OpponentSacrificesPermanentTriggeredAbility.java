@@ -36,6 +36,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class OpponentSacrificesPermanentTriggeredAbility extends TriggeredAbilityImpl {
 
     public OpponentSacrificesPermanentTriggeredAbility(Effect effect) {
@@ -51,6 +54,11 @@ public class OpponentSacrificesPermanentTriggeredAbility extends TriggeredAbilit
         return event.getType() == GameEvent.EventType.SACRIFICED_PERMANENT;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SACRIFICED_PERMANENT);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
     if (game.getPlayer(this.getControllerId()).hasOpponent(event.getPlayerId(), game)) {
@@ -38,6 +38,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author Lonefox
@@ -62,6 +65,11 @@ public class SacrificeIfCastAtInstantTimeTriggeredAbility extends TriggeredAbili
         return event.getType() == EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         // The sacrifice occurs only if you cast it using its own ability. If you cast it using some other
@@ -14,6 +14,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.stack.Spell;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author fireshoes
@@ -42,6 +45,11 @@ public class SpellCounteredControllerTriggeredAbility extends TriggeredAbilityIm
         return event.getType() == EventType.COUNTERED;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.COUNTERED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         StackObject stackObjectThatCountered = game.getStack().getStackObject(event.getSourceId());
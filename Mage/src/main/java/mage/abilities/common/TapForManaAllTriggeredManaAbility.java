@@ -39,6 +39,9 @@ import mage.game.events.ManaEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -66,6 +69,11 @@ public class TapForManaAllTriggeredManaAbility extends TriggeredManaAbility {
         return event.getType() == GameEvent.EventType.TAPPED_FOR_MANA;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TAPPED_FOR_MANA);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent permanent = game.getPermanentOrLKIBattlefield(event.getSourceId());
@@ -5,6 +5,9 @@ import mage.abilities.effects.Effect;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class AtTheEndOfCombatDelayedTriggeredAbility extends DelayedTriggeredAbility {
     public AtTheEndOfCombatDelayedTriggeredAbility(Effect effect) {
         super(effect);
@@ -24,6 +27,11 @@ public class AtTheEndOfCombatDelayedTriggeredAbility extends DelayedTriggeredAbi
         return event.getType() == GameEvent.EventType.END_COMBAT_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_COMBAT_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return true;
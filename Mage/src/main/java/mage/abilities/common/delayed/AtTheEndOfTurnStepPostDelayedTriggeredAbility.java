@@ -32,6 +32,9 @@ import mage.abilities.effects.Effect;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author nantuko
  */
@@ -61,6 +64,11 @@ public class AtTheEndOfTurnStepPostDelayedTriggeredAbility extends DelayedTrigge
         return event.getType() == GameEvent.EventType.END_TURN_STEP_POST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_POST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return true;
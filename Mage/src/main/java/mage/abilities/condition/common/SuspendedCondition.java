@@ -34,6 +34,7 @@ import mage.abilities.condition.Condition;
 import mage.abilities.keyword.SuspendAbility;
 import mage.cards.Card;
 import mage.counters.CounterType;
+import mage.game.CardState;
 import mage.game.Game;
 
 
@@ -56,7 +57,8 @@ public enum SuspendedCondition implements Condition {
             boolean found = card.getAbilities().stream().anyMatch(ability -> ability instanceof SuspendAbility);
 
             if (!found) {
-                found = game.getState().getAllOtherAbilities(source.getSourceId()).stream().anyMatch(ability -> ability instanceof SuspendAbility);
+                CardState cardState = game.getState().getCardStateForRead(source.getSourceId());
+                found = cardState != null && cardState.getAbilities().stream().anyMatch(ability -> ability instanceof SuspendAbility);
 
             }
             if (found) {
@@ -28,6 +28,7 @@
 package mage.abilities.costs.mana;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.Mana;
 import mage.abilities.Ability;
 import mage.abilities.costs.Cost;
@@ -55,7 +56,8 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
     protected final UUID id;
     protected String text = null;
 
-    private static Map<String, ManaCosts> costs = new HashMap<>();
+    // parsed costs by their text, shared by all cards (also created by several threads)
+    private static final Map<String, ManaCosts> costs = new ConcurrentHashMap<>();
 
     public ManaCostsImpl() {
         this.id = UUID.randomUUID();
@@ -349,8 +351,8 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
     @Override
     public final void load(String mana) {
         this.clear();
-        if (costs.containsKey(mana)) {
-            ManaCosts<ManaCost> savedCosts = costs.get(mana);
+        ManaCosts<ManaCost> savedCosts = mana == null ? null : costs.get(mana);
+        if (savedCosts != null) {
             for (ManaCost cost : savedCosts) {
                 this.add(cost.copy());
             }
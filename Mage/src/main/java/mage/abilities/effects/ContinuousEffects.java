@@ -64,6 +64,8 @@ public class ContinuousEffects implements Serializable {
     private static final Logger logger = Logger.getLogger(ContinuousEffects.class);
 
     private long order = 0;
+    // incremented on every change of the effects, used to detect if the effects have to be applied again
+    private int changeCount;
 
     //transient Continuous effects
     private ContinuousEffectsList<ContinuousEffect> layeredEffects = new ContinuousEffectsList<>();
@@ -116,6 +118,7 @@ public class ContinuousEffects implements Serializable {
         }
         collectAllEffects();
         order = effect.order;
+        changeCount = effect.changeCount;
     }
 
     private synchronized void collectAllEffects() {
@@ -145,7 +148,16 @@ public class ContinuousEffects implements Serializable {
         return restrictionEffects;
     }
 
+    /**
+     * @return number of changes of the effects (added, removed, order or
+     * controller changed)
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
     public synchronized void removeEndOfCombatEffects() {
+        changeCount++;
         layeredEffects.removeEndOfCombatEffects();
         continuousRuleModifyingEffects.removeEndOfCombatEffects();
         replacementEffects.removeEndOfCombatEffects();
@@ -160,6 +172,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public synchronized void removeEndOfTurnEffects() {
+        changeCount++;
         layeredEffects.removeEndOfTurnEffects();
         continuousRuleModifyingEffects.removeEndOfTurnEffects();
         replacementEffects.removeEndOfTurnEffects();
@@ -174,6 +187,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public synchronized void removeInactiveEffects(Game game) {
+        changeCount++;
         layeredEffects.removeInactiveEffects(game);
         continuousRuleModifyingEffects.removeInactiveEffects(game);
         replacementEffects.removeInactiveEffects(game);
@@ -240,6 +254,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public void setOrder(ContinuousEffect effect) {
+        changeCount++;
         effect.setOrder(order++);
     }
 
@@ -1098,6 +1113,7 @@ public class ContinuousEffects implements Serializable {
         } else if (source == null) {
             logger.warn("Adding effect without ability : " + effect.toString());
         }
+        changeCount++;
         switch (effect.getEffectType()) {
             case REPLACEMENT:
             case REDIRECTION:
@@ -1148,6 +1164,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public void setController(UUID cardId, UUID controllerId) {
+        changeCount++;
         for (ContinuousEffectsList effectsList : allEffectsLists) {
             setControllerForEffect(effectsList, cardId, controllerId);
         }
@@ -1170,6 +1187,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public synchronized void clear() {
+        changeCount++;
         for (ContinuousEffectsList effectsList : allEffectsLists) {
             effectsList.clear();
         }
@@ -1177,6 +1195,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public synchronized void removeAllTemporaryEffects() {
+        changeCount++;
         for (Map.Entry<ContinuousEffect, Set<Ability>> entry : temporaryEffects.entrySet()) {
             switch (entry.getKey().getEffectType()) {
                 case REPLACEMENT:
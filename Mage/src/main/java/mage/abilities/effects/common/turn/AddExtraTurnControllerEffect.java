@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common.turn;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.DelayedTriggeredAbility;
@@ -110,6 +112,11 @@ class LoseGameDelayedTriggeredAbility extends DelayedTriggeredAbility {
         return event.getType() == EventType.END_TURN_STEP_PRE;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return connectedTurnMod != null && connectedTurnMod.equals(game.getState().getTurnId());
@@ -40,6 +40,9 @@ import mage.game.combat.CombatGroup;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BushidoAbility extends TriggeredAbilityImpl {
 
     private DynamicValue value;
@@ -73,6 +76,11 @@ public class BushidoAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DECLARE_BLOCKERS_STEP;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DECLARE_BLOCKERS_STEP);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent source = game.getPermanent(getSourceId());
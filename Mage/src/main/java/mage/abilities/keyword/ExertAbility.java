@@ -27,6 +27,7 @@
  */
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import mage.MageObjectReference;
@@ -193,6 +194,11 @@ class ExertedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BECOMES_EXERTED);
+    }
+
     public Set<MageObjectReference> getExertedThisTurnCreatures() {
         return this.exertedThisTurnCreatures;
     }
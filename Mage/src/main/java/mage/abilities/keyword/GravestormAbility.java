@@ -41,6 +41,9 @@ import mage.game.stack.Spell;
 import mage.game.stack.StackObject;
 import mage.watchers.common.GravestormWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author emerald000
@@ -65,6 +68,11 @@ public class GravestormAbility extends TriggeredAbilityImpl {
         return event.getType() == EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getSourceId().equals(this.getSourceId())) {
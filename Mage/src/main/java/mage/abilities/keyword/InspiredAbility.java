@@ -35,6 +35,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Inspired ability word
  *
@@ -66,6 +69,11 @@ public class InspiredAbility extends TriggeredAbilityImpl {
         return event.getType() == EventType.UNTAPPED;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.UNTAPPED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getTargetId().equals(this.getSourceId());
@@ -1,5 +1,7 @@
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -160,6 +162,11 @@ class MadnessTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.MADNESS_CARD_EXILED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MADNESS_CARD_EXILED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getSourceId().equals(madnessOriginalId); // Check that the event was from the connected replacement effect
@@ -42,6 +42,9 @@ import mage.players.Player;
 import mage.target.targetpointer.FixedTarget;
 import mage.watchers.common.MiracleWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 702.92. Miracle
  *
@@ -117,6 +120,11 @@ public class MiracleAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.MIRACLE_CARD_REVEALED;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MIRACLE_CARD_REVEALED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getSourceId().equals(getSourceId())) {
@@ -18,6 +18,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -46,6 +49,11 @@ public class RenownAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DAMAGED_PLAYER;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public boolean checkInterveningIfClause(Game game) {
         Permanent sourcePermanent = game.getPermanentOrLKIBattlefield(getSourceId());
@@ -34,6 +34,7 @@ import java.util.Set;
 
 import mage.Mana;
 import mage.game.Game;
+import mage.util.StateHash;
 
 /**
  *
@@ -82,30 +83,101 @@ public class ManaOptions extends ArrayList<Mana> {
                 //perform a union of all existing options and the new options
                 List<Mana> copy = copy();
                 this.clear();
+                List<Mana> netManas = new ArrayList<>();
                 for (ActivatedManaAbilityImpl ability : abilities) {
-                    for (Mana netMana : ability.getNetMana(game)) {
-                        SkipAddMana:
-                        for (Mana mana : copy) {
-                            Mana newMana = new Mana();
-                            newMana.add(mana);
-                            newMana.add(netMana);
-                            for (Mana existingMana : this) {
-                                if (existingMana.equalManaValue(newMana)) {
-                                    continue SkipAddMana;
-                                }
-                                Mana moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
-                                if (moreValuable != null) {
-                                    // only keep the more valuable mana
-                                    existingMana.setToMana(moreValuable);
-                                    continue SkipAddMana;
-                                }
-                            }
-                            this.add(newMana);
+                    netManas.addAll(ability.getNetMana(game));
+                }
+                if (!addManaUnion(copy, netManas)) {
+                    addManaUnionByMana(copy, netManas);
+                }
+            }
+        }
+    }
+
+    /**
+     * Union of the options in addMana(abilities, game) that compares Mana
+     * objects, used for amounts that are too big to be packed.
+     *
+     * @param copy the options before the abilities were added (this list is
+     * empty)
+     * @param netManas mana of all the abilities in ability order
+     */
+    void addManaUnionByMana(List<Mana> copy, List<Mana> netManas) {
+        for (Mana netMana : netManas) {
+            SkipAddMana:
+            for (Mana mana : copy) {
+                Mana newMana = new Mana();
+                newMana.add(mana);
+                newMana.add(netMana);
+                for (Mana existingMana : this) {
+                    if (existingMana.equalManaValue(newMana)) {
+                        continue SkipAddMana;
+                    }
+                    Mana moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
+                    if (moreValuable != null) {
+                        // only keep the more valuable mana
+                        existingMana.setToMana(moreValuable);
+                        continue SkipAddMana;
+                    }
+                }
+                this.add(newMana);
+            }
+        }
+    }
+
+    /**
+     * Same as the union of the options in addMana(abilities, game), but
+     * compares packed mana vectors instead of Mana objects, so only the
+     * options that are really added or replaced create Mana objects.
+     *
+     * @param copy the options before the abilities were added (this list is
+     * empty)
+     * @param netManas mana of all the abilities in ability order
+     * @return false if the mana amounts are too big to be packed, nothing was
+     * added then
+     */
+    boolean addManaUnion(List<Mana> copy, List<Mana> netManas) {
+        long[] copyKeys = new long[copy.size()];
+        for (int i = 0; i < copyKeys.length; i++) {
+            copyKeys[i] = pack(copy.get(i));
+            if (copyKeys[i] == INVALID_KEY) {
+                return false;
+            }
+        }
+        long[] netKeys = new long[netManas.size()];
+        for (int i = 0; i < netKeys.length; i++) {
+            netKeys[i] = pack(netManas.get(i));
+            if (netKeys[i] == INVALID_KEY) {
+                return false;
+            }
+        }
+        long[] keys = new long[Math.max(4, copyKeys.length * netKeys.length)];
+        int size = 0;
+        for (long netKey : netKeys) {
+            SkipAddMana:
+            for (long copyKey : copyKeys) {
+                // both are below 64 in all lanes, so there is no carry into the next lane
+                long newKey = copyKey + netKey;
+                for (int i = 0; i < size; i++) {
+                    long existingKey = keys[i];
+                    if (existingKey == newKey) {
+                        continue SkipAddMana;
+                    }
+                    long moreValuable = getMoreValuableKey(newKey, existingKey);
+                    if (moreValuable != INVALID_KEY) {
+                        // only keep the more valuable mana
+                        if (moreValuable != existingKey) {
+                            keys[i] = moreValuable;
+                            this.get(i).setToMana(unpack(moreValuable));
                         }
+                        continue SkipAddMana;
                     }
                 }
+                keys[size++] = newKey;
+                this.add(unpack(newKey));
             }
         }
+        return true;
     }
 
     public void addManaWithCost(List<ActivatedManaAbilityImpl> abilities, Game game) {
@@ -332,6 +404,39 @@ public class ManaOptions extends ArrayList<Mana> {
 
 
     public void removeDuplicated(){
+        long[] keys = new long[this.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = pack(this.get(i));
+            if (keys[i] == INVALID_KEY) {
+                removeDuplicatedByString();
+                return;
+            }
+        }
+        // keeps the last of equal options like the string based version
+        long[] seen = new long[Integer.highestOneBit(Math.max(1, keys.length) * 2) * 2];
+        int mask = seen.length - 1;
+        List<Mana> kept = new ArrayList<>(keys.length);
+        for (int i = keys.length - 1; i >= 0; i--) {
+            // stored + 1 so that 0 marks an empty slot
+            long stored = keys[i] + 1;
+            int slot = (int) StateHash.mix(keys[i]) & mask;
+            while (seen[slot] != 0 && seen[slot] != stored) {
+                slot = (slot + 1) & mask;
+            }
+            if (seen[slot] == 0) {
+                seen[slot] = stored;
+                kept.add(this.get(i));
+            }
+        }
+        if (kept.size() < keys.length) {
+            this.clear();
+            for (int i = kept.size() - 1; i >= 0; i--) {
+                this.add(kept.get(i));
+            }
+        }
+    }
+
+    void removeDuplicatedByString() {
         Set<String> list = new HashSet<>();
 
         for(int i = this.size() - 1; i >= 0; i--){
@@ -344,4 +449,83 @@ public class ManaOptions extends ArrayList<Mana> {
             }
         }
     }
+
+    /*
+     * Packed mana vectors: one byte lane per mana type. Packing is only used
+     * for values below 64, so the sum of two packed values can't carry into
+     * the next lane and the lanes can be compared with SWAR operations.
+     */
+    private static final long INVALID_KEY = -1;
+    private static final long LANE_HIGH_BITS = 0x8080808080808080L;
+    private static final int WHITE_LANE = 0;
+    private static final int BLUE_LANE = 8;
+    private static final int BLACK_LANE = 16;
+    private static final int RED_LANE = 24;
+    private static final int GREEN_LANE = 32;
+    private static final int COLORLESS_LANE = 40;
+    private static final int GENERIC_LANE = 48;
+    private static final int ANY_LANE = 56;
+    // the generic amount is not compared by getMoreValuableMana
+    private static final long COMPARED_LANES_HIGH_BITS = LANE_HIGH_BITS & ~(0x80L << GENERIC_LANE);
+
+    private static long pack(Mana mana) {
+        if (!fitsLane(mana.getWhite()) || !fitsLane(mana.getBlue()) || !fitsLane(mana.getBlack()) || !fitsLane(mana.getRed())
+                || !fitsLane(mana.getGreen()) || !fitsLane(mana.getColorless()) || !fitsLane(mana.getGeneric()) || !fitsLane(mana.getAny())) {
+            return INVALID_KEY;
+        }
+        return (long) mana.getWhite() << WHITE_LANE
+                | (long) mana.getBlue() << BLUE_LANE
+                | (long) mana.getBlack() << BLACK_LANE
+                | (long) mana.getRed() << RED_LANE
+                | (long) mana.getGreen() << GREEN_LANE
+                | (long) mana.getColorless() << COLORLESS_LANE
+                | (long) mana.getGeneric() << GENERIC_LANE
+                | (long) mana.getAny() << ANY_LANE;
+    }
+
+    private static boolean fitsLane(int value) {
+        return value >= 0 && value < 64;
+    }
+
+    private static Mana unpack(long key) {
+        return new Mana(lane(key, RED_LANE), lane(key, GREEN_LANE), lane(key, BLUE_LANE), lane(key, WHITE_LANE),
+                lane(key, BLACK_LANE), lane(key, GENERIC_LANE), lane(key, ANY_LANE), lane(key, COLORLESS_LANE));
+    }
+
+    private static int lane(long key, int lane) {
+        return (int) (key >>> lane) & 0xFF;
+    }
+
+    private static int countColored(long key) {
+        return lane(key, WHITE_LANE) + lane(key, BLUE_LANE) + lane(key, BLACK_LANE) + lane(key, RED_LANE)
+                + lane(key, GREEN_LANE) + lane(key, ANY_LANE);
+    }
+
+    private static int count(long key) {
+        return countColored(key) + lane(key, COLORLESS_LANE) + lane(key, GENERIC_LANE);
+    }
+
+    /**
+     * Packed version of {@link Mana#getMoreValuableMana(Mana, Mana)}.
+     *
+     * @return the more valuable key or INVALID_KEY if none of them is more
+     * valuable
+     */
+    private static long getMoreValuableKey(long key1, long key2) {
+        long moreKey;
+        long lessKey;
+        if (countColored(key2) > countColored(key1) || lane(key2, ANY_LANE) > lane(key1, ANY_LANE) || count(key2) > count(key1)) {
+            moreKey = key2;
+            lessKey = key1;
+        } else {
+            moreKey = key1;
+            lessKey = key2;
+        }
+        // high bit of a lane stays set if the lane of moreKey is >= the lane of lessKey
+        long notLess = ((moreKey | LANE_HIGH_BITS) - lessKey) & COMPARED_LANES_HIGH_BITS;
+        if (notLess != COMPARED_LANES_HIGH_BITS) {
+            return INVALID_KEY;
+        }
+        return moreKey;
+    }
 }
@@ -27,8 +27,11 @@
  */
 package mage.cards;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.MageObject;
 import mage.MageObjectImpl;
 import mage.Mana;
@@ -73,6 +76,22 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     private static final Logger logger = Logger.getLogger(CardImpl.class);
 
+    // the cards are created very often (decks, boosters, AI), so the class
+    // lookup and the constructor resolution are only done once per class
+    private static final ConcurrentHashMap<String, Class<?>> cardClasses = new ConcurrentHashMap<>();
+    private static final ClassValue<MethodHandle> cardConstructors = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return findCardConstructor(type, UUID.class);
+        }
+    };
+    private static final ClassValue<MethodHandle> cardSetInfoConstructors = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return findCardConstructor(type, UUID.class, CardSetInfo.class);
+        }
+    };
+
     protected UUID ownerId;
     protected String cardNumber;
     public String expansionSetCode;
@@ -188,17 +207,21 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     }
 
     public static Card createCard(String name, CardSetInfo setInfo) {
-        try {
-            return createCard(Class.forName(name), setInfo);
-        } catch (ClassNotFoundException ex) {
+        Class<?> clazz = cardClasses.get(name);
+        if (clazz == null) {
             try {
-                return createCard(PluginClassloaderRegistery.forName(name), setInfo);
-            } catch (ClassNotFoundException ex2) {
-                // ignored
+                clazz = Class.forName(name);
+            } catch (ClassNotFoundException ex) {
+                try {
+                    clazz = PluginClassloaderRegistery.forName(name);
+                } catch (ClassNotFoundException ex2) {
+                    logger.fatal("Error loading card: " + name, ex);
+                    return null;
+                }
             }
-            logger.fatal("Error loading card: " + name, ex);
-            return null;
+            cardClasses.put(name, clazz);
         }
+        return createCard(clazz, setInfo);
     }
 
     public static Card createCard(Class<?> clazz, CardSetInfo setInfo) {
@@ -209,14 +232,15 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         try {
             Card card;
             if (setInfo == null) {
-                Constructor<?> con = clazz.getConstructor(UUID.class);
-                card = (Card) con.newInstance(new Object[]{null});
+                card = (Card) cardConstructors.get(clazz).invokeExact((UUID) null);
             } else {
-                Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
-                card = (Card) con.newInstance(null, setInfo);
+                card = (Card) cardSetInfoConstructors.get(clazz).invokeExact((UUID) null, setInfo);
             }
             return card;
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // invokeExact throws the exceptions of the constructor unwrapped, checked ones too
             String err = "Error loading card: " + clazz.getCanonicalName();
             if (errorList != null) {
                 errorList.add(err);
@@ -226,6 +250,16 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         }
     }
 
+    private static MethodHandle findCardConstructor(Class<?> clazz, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(clazz, MethodType.methodType(void.class, parameterTypes))
+                    .asType(MethodType.methodType(Card.class, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new IllegalArgumentException("No public constructor for card " + clazz.getName(), ex);
+        }
+    }
+
     @Override
     public UUID getOwnerId() {
         return ownerId;
@@ -267,7 +301,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         try {
             List<String> rules = getRules();
             if (game != null) {
-                CardState cardState = game.getState().getCardState(objectId);
+                CardState cardState = game.getState().getCardStateForRead(objectId);
                 if (cardState != null) {
                     for (String data : cardState.getInfo().values()) {
                         rules.add(data);
@@ -653,7 +687,8 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     @Override
     public boolean isFaceDown(Game game) {
-        return game.getState().getCardState(objectId).isFaceDown();
+        CardState cardState = game.getState().getCardStateForRead(objectId);
+        return cardState != null && cardState.isFaceDown();
     }
 
     @Override
@@ -37,7 +37,10 @@ import mage.util.RandomUtil;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -124,7 +127,10 @@ public abstract class ExpansionSet implements Serializable {
 
     protected int maxCardNumberInBooster; // used to omit cards with collector numbers beyond the regular cards in a set for boosters
 
-    protected final EnumMap<Rarity, List<CardInfo>> savedCards;
+    // the card pools of the booster slots, they are only read after they were
+    // saved, so boosters can be created by several threads at once
+    protected final Map<Rarity, List<CardInfo>> savedCards;
+    private final Map<String, List<CardInfo>> savedSlotCards = new ConcurrentHashMap<>();
 
     public ExpansionSet(String name, String code, Date releaseDate, SetType setType) {
         this.name = name;
@@ -132,7 +138,7 @@ public abstract class ExpansionSet implements Serializable {
         this.releaseDate = releaseDate;
         this.setType = setType;
         this.maxCardNumberInBooster = Integer.MAX_VALUE;
-        savedCards = new EnumMap<>(Rarity.class);
+        savedCards = Collections.synchronizedMap(new EnumMap<>(Rarity.class));
     }
 
     public String getName() {
@@ -209,6 +215,18 @@ public abstract class ExpansionSet implements Serializable {
         }
     }
 
+    /**
+     * Creates several boosters in parallel, e.g. for all players of a draft.
+     *
+     * @param count
+     * @return
+     */
+    public List<List<Card>> createBoosters(int count) {
+        return IntStream.range(0, count).parallel()
+                .mapToObj(i -> createBooster())
+                .collect(Collectors.toList());
+    }
+
     public List<Card> createBooster() {
         List<Card> booster = new ArrayList<>();
         if (!hasBoosters) {
@@ -269,22 +287,40 @@ public abstract class ExpansionSet implements Serializable {
      */
     public void addDoubleFace(List<Card> booster) {
         for (int i = 0; i < numBoosterDoubleFaced; i++) {
-            CardCriteria criteria = new CardCriteria();
-            criteria.setCodes(this.code).doubleFaced(true);
+            Rarity rarity;
             if (RandomUtil.nextInt(15) < 10) {
-                criteria.rarities(Rarity.COMMON);
+                rarity = Rarity.COMMON;
             } else if (RandomUtil.nextInt(5) < 4) {
-                criteria.rarities(Rarity.UNCOMMON);
+                rarity = Rarity.UNCOMMON;
             } else if (RandomUtil.nextInt(8) < 7) {
-                criteria.rarities(Rarity.RARE);
+                rarity = Rarity.RARE;
             } else {
-                criteria.rarities(Rarity.MYTHIC);
+                rarity = Rarity.MYTHIC;
             }
-            List<CardInfo> doubleFacedCards = CardRepository.instance.findCards(criteria);
-            addToBooster(booster, doubleFacedCards);
+            addToBooster(booster, getDoubleFacedCardsByRarity(rarity));
         }
     }
 
+    public List<CardInfo> getDoubleFacedCardsByRarity(Rarity rarity) {
+        return getSavedCards("doubleFaced " + rarity, () -> {
+            CardCriteria criteria = new CardCriteria();
+            criteria.setCodes(this.code).rarities(rarity).doubleFaced(true);
+            return CardRepository.instance.findCards(criteria);
+        });
+    }
+
+    /**
+     * Returns a copy of the cards of a booster slot, the cards are only looked
+     * up the first time.
+     *
+     * @param slot name of the slot, unique for the set
+     * @param cards looks up the cards of the slot
+     * @return
+     */
+    protected List<CardInfo> getSavedCards(String slot, Supplier<List<CardInfo>> cards) {
+        return new ArrayList<>(savedSlotCards.computeIfAbsent(slot, k -> Collections.unmodifiableList(cards.get())));
+    }
+
     public static Date buildDate(int year, int month, int day) {
         // The month starts with 0 = jan ... dec = 11
         return new GregorianCalendar(year, month - 1, day).getTime();
@@ -434,6 +470,7 @@ public abstract class ExpansionSet implements Serializable {
 
     public void removeSavedCards() {
         savedCards.clear();
+        savedSlotCards.clear();
     }
 
     public int getMaxCardNumberInBooster() { return maxCardNumberInBooster; }
@@ -0,0 +1,275 @@
+package mage.cards.repository;
+
+import java.util.*;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+
+/**
+ * Immutable in-memory copy of the card database with the indexes needed by
+ * the queries of {@link CardRepository}.
+ *
+ * Every card has a fixed position (the order of the database), the indexes
+ * are bit sets of these positions so the criteria of a search can be combined
+ * with bit operations. The bit sets returned by the index getters are shared
+ * and must not be changed.
+ *
+ * @see CardCriteria#filter(CardCatalog)
+ */
+final class CardCatalog {
+
+    private static final BitSet NO_CARDS = new BitSet();
+
+    private final CardInfo[] cards;
+
+    private final Map<String, List<CardInfo>> cardsByName = new HashMap<>();
+    private final Map<String, List<CardInfo>> cardsByLowerCaseName = new HashMap<>();
+    private final Map<String, CardInfo> cardsBySetCodeAndNumber = new HashMap<>();
+    private final Set<String> classNames = new HashSet<>();
+
+    private final Map<String, BitSet> setCodeIndex = new HashMap<>();
+    private final Map<Rarity, BitSet> rarityIndex = new EnumMap<>(Rarity.class);
+    private final Map<CardType, BitSet> typeIndex = new EnumMap<>(CardType.class);
+    private final Map<Integer, BitSet> convertedManaCostIndex = new HashMap<>();
+    private final BitSet blackCards = new BitSet();
+    private final BitSet blueCards = new BitSet();
+    private final BitSet greenCards = new BitSet();
+    private final BitSet redCards = new BitSet();
+    private final BitSet whiteCards = new BitSet();
+    private final BitSet colorlessCards = new BitSet();
+    private final BitSet nightCards = new BitSet();
+    private final BitSet splitCardHalves = new BitSet();
+    private final BitSet doubleFacedCards = new BitSet();
+    // card numbers as int, only valid for the cards of numberedCards
+    private final int[] cardNumbers;
+    private final BitSet numberedCards = new BitSet();
+
+    private final SortedSet<String> names = new TreeSet<>();
+    private final SortedSet<String> nonLandNames = new TreeSet<>();
+    private final SortedSet<String> creatureNames = new TreeSet<>();
+    private final SortedSet<String> artifactNames = new TreeSet<>();
+    private final SortedSet<String> nonLandAndNonCreatureNames = new TreeSet<>();
+    private final SortedSet<String> nonArtifactAndNonLandNames = new TreeSet<>();
+
+    CardCatalog(List<CardInfo> cardList) {
+        this.cards = cardList.toArray(new CardInfo[cardList.size()]);
+        this.cardNumbers = new int[cards.length];
+        for (int i = 0; i < cards.length; i++) {
+            CardInfo card = cards[i];
+            // the catalog is kept for the server run, so are the texts of its cards
+            card.shareTexts();
+            if (card.getName() != null) {
+                cardsByName.computeIfAbsent(card.getName(), k -> new ArrayList<>()).add(card);
+                cardsByLowerCaseName.computeIfAbsent(card.getName().toLowerCase(), k -> new ArrayList<>()).add(card);
+            }
+            if (!card.isNightCard()) {
+                cardsBySetCodeAndNumber.putIfAbsent(card.getSetCode() + '#' + card.getCardNumber(), card);
+            }
+            if (card.getClassName() != null) {
+                classNames.add(card.getClassName());
+            }
+
+            setCodeIndex.computeIfAbsent(card.getSetCode(), k -> new BitSet()).set(i);
+            if (card.getRarity() != null) {
+                rarityIndex.computeIfAbsent(card.getRarity(), k -> new BitSet()).set(i);
+            }
+            EnumSet<CardType> types = card.getTypes();
+            for (CardType type : types) {
+                typeIndex.computeIfAbsent(type, k -> new BitSet()).set(i);
+            }
+            convertedManaCostIndex.computeIfAbsent(card.getConvertedManaCost(), k -> new BitSet()).set(i);
+            blackCards.set(i, card.black);
+            blueCards.set(i, card.blue);
+            greenCards.set(i, card.green);
+            redCards.set(i, card.red);
+            whiteCards.set(i, card.white);
+            colorlessCards.set(i, !card.black && !card.blue && !card.green && !card.red && !card.white);
+            nightCards.set(i, card.isNightCard());
+            splitCardHalves.set(i, card.isSplitCardHalf());
+            doubleFacedCards.set(i, card.isDoubleFaced());
+            try {
+                cardNumbers[i] = card.getCardNumberAsInt();
+                numberedCards.set(i);
+            } catch (RuntimeException e) {
+                // card number is no number, can't match a card number range
+            }
+
+            if (card.getName() != null) {
+                addNames(names, card);
+                boolean land = types.contains(CardType.LAND);
+                boolean creature = types.contains(CardType.CREATURE);
+                boolean artifact = types.contains(CardType.ARTIFACT);
+                if (!land) {
+                    addNames(nonLandNames, card);
+                }
+                if (creature) {
+                    addNames(creatureNames, card);
+                }
+                if (artifact) {
+                    addNames(artifactNames, card);
+                }
+                if (!land && !creature) {
+                    addNames(nonLandAndNonCreatureNames, card);
+                }
+                if (!land && !artifact) {
+                    addNames(nonArtifactAndNonLandNames, card);
+                }
+            }
+        }
+    }
+
+    private static void addNames(Set<String> names, CardInfo card) {
+        // split cards can be named by both halves
+        int result = card.getName().indexOf(" // ");
+        if (result > 0) {
+            names.add(card.getName().substring(0, result));
+            names.add(card.getName().substring(result + 4));
+        } else {
+            names.add(card.getName());
+        }
+    }
+
+    int size() {
+        return cards.length;
+    }
+
+    CardInfo getCard(int index) {
+        return cards[index];
+    }
+
+    int getCardNumber(int index) {
+        return cardNumbers[index];
+    }
+
+    /**
+     * @return new set with all cards, can be changed
+     */
+    BitSet getAllCards() {
+        BitSet all = new BitSet(cards.length);
+        all.set(0, cards.length);
+        return all;
+    }
+
+    BitSet getCardsOfSet(String setCode) {
+        return setCodeIndex.getOrDefault(setCode, NO_CARDS);
+    }
+
+    BitSet getCardsOfRarity(Rarity rarity) {
+        return rarityIndex.getOrDefault(rarity, NO_CARDS);
+    }
+
+    BitSet getCardsOfType(CardType type) {
+        return typeIndex.getOrDefault(type, NO_CARDS);
+    }
+
+    BitSet getCardsWithConvertedManaCost(int convertedManaCost) {
+        return convertedManaCostIndex.getOrDefault(convertedManaCost, NO_CARDS);
+    }
+
+    BitSet getBlackCards() {
+        return blackCards;
+    }
+
+    BitSet getBlueCards() {
+        return blueCards;
+    }
+
+    BitSet getGreenCards() {
+        return greenCards;
+    }
+
+    BitSet getRedCards() {
+        return redCards;
+    }
+
+    BitSet getWhiteCards() {
+        return whiteCards;
+    }
+
+    BitSet getColorlessCards() {
+        return colorlessCards;
+    }
+
+    BitSet getNightCards() {
+        return nightCards;
+    }
+
+    BitSet getSplitCardHalves() {
+        return splitCardHalves;
+    }
+
+    BitSet getDoubleFacedCards() {
+        return doubleFacedCards;
+    }
+
+    BitSet getNumberedCards() {
+        return numberedCards;
+    }
+
+    List<CardInfo> findCards(String name) {
+        return new ArrayList<>(cardsByName.getOrDefault(name, Collections.emptyList()));
+    }
+
+    List<CardInfo> findCardsCaseInsensitive(String name) {
+        return new ArrayList<>(cardsByLowerCaseName.getOrDefault(name.toLowerCase(), Collections.emptyList()));
+    }
+
+    /**
+     * @param setCode
+     * @param cardNumber
+     * @return the card (not the night side) or null
+     */
+    CardInfo findCard(String setCode, String cardNumber) {
+        return cardsBySetCodeAndNumber.get(setCode + '#' + cardNumber);
+    }
+
+    boolean containsClassName(String className) {
+        return classNames.contains(className);
+    }
+
+    List<String> getClassNames() {
+        List<String> result = new ArrayList<>(cards.length);
+        for (CardInfo card : cards) {
+            result.add(card.getClassName());
+        }
+        return result;
+    }
+
+    /**
+     * @param knownClassNames
+     * @return the cards with other class names
+     */
+    List<CardInfo> getMissingCards(Collection<String> knownClassNames) {
+        Set<String> known = new HashSet<>(knownClassNames);
+        List<CardInfo> result = new ArrayList<>();
+        for (CardInfo card : cards) {
+            if (!known.contains(card.getClassName())) {
+                result.add(card);
+            }
+        }
+        return result;
+    }
+
+    SortedSet<String> getNames() {
+        return new TreeSet<>(names);
+    }
+
+    SortedSet<String> getNonLandNames() {
+        return new TreeSet<>(nonLandNames);
+    }
+
+    SortedSet<String> getCreatureNames() {
+        return new TreeSet<>(creatureNames);
+    }
+
+    SortedSet<String> getArtifactNames() {
+        return new TreeSet<>(artifactNames);
+    }
+
+    SortedSet<String> getNonLandAndNonCreatureNames() {
+        return new TreeSet<>(nonLandAndNonCreatureNames);
+    }
+
+    SortedSet<String> getNonArtifactAndNonLandNames() {
+        return new TreeSet<>(nonArtifactAndNonLandNames);
+    }
+}
@@ -27,15 +27,17 @@
  */
 package mage.cards.repository;
 
-import com.j256.ormlite.stmt.QueryBuilder;
-import com.j256.ormlite.stmt.SelectArg;
-import com.j256.ormlite.stmt.Where;
-import java.sql.SQLException;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import mage.constants.CardType;
 import mage.constants.Rarity;
+import org.apache.log4j.Logger;
 
 /**
  *
@@ -202,137 +204,191 @@ public class CardCriteria {
         return this;
     }
 
-    public void buildQuery(QueryBuilder qb) throws SQLException {
-        Where where = qb.where();
-        where.eq("nightCard", false);
-        where.eq("splitCardHalf", false);
-        int clausesCount = 2;
-        if (name != null) {
-            where.like("name", new SelectArg('%' + name + '%'));
-            clausesCount++;
-        }
-        if (nameExact != null) {
-            where.like("name", new SelectArg(nameExact));
-            clausesCount++;
-        }
-        if (rules != null) {
-            where.like("rules", new SelectArg('%' + rules + '%'));
-            clausesCount++;
-        }
+    /**
+     * @param catalog
+     * @return the cards of the catalog that match the criteria
+     */
+    List<CardInfo> filter(CardCatalog catalog) {
+        BitSet result = catalog.getAllCards();
+        result.andNot(catalog.getNightCards());
+        result.andNot(catalog.getSplitCardHalves());
 
         if (doubleFaced != null) {
-            where.eq("doubleFaced", doubleFaced);
-            clausesCount++;
+            if (doubleFaced) {
+                result.and(catalog.getDoubleFacedCards());
+            } else {
+                result.andNot(catalog.getDoubleFacedCards());
+            }
         }
 
-        for (Rarity rarity : rarities) {
-            where.eq("rarity", rarity);
-        }
         if (!rarities.isEmpty()) {
-            where.or(rarities.size());
-            clausesCount++;
+            BitSet selected = new BitSet();
+            for (Rarity rarity : rarities) {
+                selected.or(catalog.getCardsOfRarity(rarity));
+            }
+            result.and(selected);
         }
 
-        for (String setCode : setCodes) {
-            where.eq("setCode", setCode);
-        }
         if (!setCodes.isEmpty()) {
-            where.or(setCodes.size());
-            clausesCount++;
+            BitSet selected = new BitSet();
+            for (String setCode : setCodes) {
+                selected.or(catalog.getCardsOfSet(setCode));
+            }
+            result.and(selected);
         }
 
-        if (types.size() != 7) { //if all types selected - no selection needed (Tribal and Conspiracy not selectable yet)
+        if (types.size() != 7 && !types.isEmpty()) { //if all types selected - no selection needed (Tribal and Conspiracy not selectable yet)
+            BitSet selected = new BitSet();
             for (CardType type : types) {
-                where.like("types", new SelectArg('%' + type.name() + '%'));
-            }
-            if (!types.isEmpty()) {
-                where.or(types.size());
-                clausesCount++;
+                selected.or(catalog.getCardsOfType(type));
             }
+            result.and(selected);
         }
 
         for (CardType type : notTypes) {
-            where.not().like("types", new SelectArg('%' + type.name() + '%'));
-            clausesCount++;
-        }
-
-        for (String superType : supertypes) {
-            where.like("supertypes", new SelectArg('%' + superType + '%'));
-            clausesCount++;
-        }
-        for (String subType : notSupertypes) {
-            where.not().like("supertypes", new SelectArg('%' + subType + '%'));
-            clausesCount++;
-        }
-
-        for (String subType : subtypes) {
-            where.like("subtypes", new SelectArg('%' + subType + '%'));
-            clausesCount++;
+            result.andNot(catalog.getCardsOfType(type));
         }
 
         if (convertedManaCost != null) {
-            where.eq("convertedManaCost", convertedManaCost);
-            clausesCount++;
+            result.and(catalog.getCardsWithConvertedManaCost(convertedManaCost));
         }
 
         if (!black || !blue || !green || !red || !white || !colorless) {
-            int colorClauses = 0;
+            BitSet selected = new BitSet();
             if (black) {
-                where.eq("black", true);
-                colorClauses++;
+                selected.or(catalog.getBlackCards());
             }
             if (blue) {
-                where.eq("blue", true);
-                colorClauses++;
+                selected.or(catalog.getBlueCards());
             }
             if (green) {
-                where.eq("green", true);
-                colorClauses++;
+                selected.or(catalog.getGreenCards());
             }
             if (red) {
-                where.eq("red", true);
-                colorClauses++;
+                selected.or(catalog.getRedCards());
             }
             if (white) {
-                where.eq("white", true);
-                colorClauses++;
+                selected.or(catalog.getWhiteCards());
             }
             if (colorless) {
-                where.eq("black", false).eq("blue", false).eq("green", false).eq("red", false).eq("white", false);
-                where.and(5);
-                colorClauses++;
-            }
-            if (colorClauses > 0) {
-                where.or(colorClauses);
-                clausesCount++;
+                selected.or(catalog.getColorlessCards());
             }
+            result.and(selected);
         }
 
-        if (minCardNumber != Integer.MIN_VALUE) {
-            where.ge("cardNumber", minCardNumber);
-            clausesCount++;
+        if (minCardNumber != Integer.MIN_VALUE || maxCardNumber != Integer.MAX_VALUE) {
+            result.and(catalog.getNumberedCards());
+        }
+
+        // the text criteria are checked card by card for the remaining cards
+        Predicate<CardInfo> textCriteria = card -> true;
+        if (name != null) {
+            Predicate<String> like = like('%' + name + '%');
+            textCriteria = textCriteria.and(card -> like.test(card.name));
+        }
+        if (nameExact != null) {
+            Predicate<String> like = like(nameExact);
+            textCriteria = textCriteria.and(card -> like.test(card.name));
+        }
+        if (rules != null) {
+            Predicate<String> like = like('%' + rules + '%');
+            textCriteria = textCriteria.and(card -> like.test(card.rules));
+        }
+        for (String superType : supertypes) {
+            Predicate<String> like = like('%' + superType + '%');
+            textCriteria = textCriteria.and(card -> like.test(card.supertypes));
+        }
+        for (String superType : notSupertypes) {
+            Predicate<String> like = like('%' + superType + '%');
+            textCriteria = textCriteria.and(card -> card.supertypes != null && !like.test(card.supertypes));
+        }
+        for (String subType : subtypes) {
+            Predicate<String> like = like('%' + subType + '%');
+            textCriteria = textCriteria.and(card -> like.test(card.subtypes));
         }
 
-        if (maxCardNumber != Integer.MAX_VALUE) {
-            where.le("cardNumber", maxCardNumber);
-            clausesCount++;
+        List<CardInfo> cards = new ArrayList<>();
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+            if (catalog.getCardNumber(i) < minCardNumber || catalog.getCardNumber(i) > maxCardNumber) {
+                continue;
+            }
+            CardInfo card = catalog.getCard(i);
+            if (textCriteria.test(card)) {
+                cards.add(card);
+            }
         }
 
-        if (clausesCount > 0) {
-            where.and(clausesCount);
-        } else {
-            where.eq("cardNumber", new SelectArg(0));
+        if (sortBy != null) {
+            Comparator<CardInfo> comparator = orderBy(sortBy);
+            if (comparator != null) {
+                cards.sort(comparator);
+            }
+        }
+        int from = start == null ? 0 : (int) Math.min(Math.max(start, 0), cards.size());
+        int to = count == null ? cards.size() : (int) Math.min(from + Math.max(count, 0), cards.size());
+        if (from > 0 || to < cards.size()) {
+            return new ArrayList<>(cards.subList(from, to));
         }
+        return cards;
+    }
 
-        if (start != null) {
-            qb.offset(start);
+    /**
+     * @param pattern SQL LIKE pattern: % for any characters, _ for one
+     * character and a backslash to escape them
+     * @return test of values (null matches nothing, as in SQL)
+     */
+    private static Predicate<String> like(String pattern) {
+        boolean wildcards = false;
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < pattern.length()) {
+                literal.append(pattern.charAt(++i));
+            } else if (c == '%' || c == '_') {
+                regex.append(Pattern.quote(literal.toString())).append(c == '%' ? ".*" : ".");
+                literal.setLength(0);
+                wildcards = true;
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!wildcards) {
+            String value = literal.toString();
+            return text -> value.equals(text);
         }
-        if (count != null) {
-            qb.limit(count);
+        regex.append(Pattern.quote(literal.toString()));
+        String inner = pattern.length() > 2 ? pattern.substring(1, pattern.length() - 1) : "";
+        if (pattern.startsWith("%") && pattern.endsWith("%") && inner.indexOf('%') < 0 && inner.indexOf('_') < 0 && inner.indexOf('\\') < 0) {
+            // most searches are for a part of the text
+            return text -> text != null && text.contains(inner);
         }
+        Pattern compiled = Pattern.compile(regex.toString(), Pattern.DOTALL);
+        return text -> text != null && compiled.matcher(text).matches();
+    }
 
-        if (sortBy != null) {
-            qb.orderBy(sortBy, true);
+    private static Comparator<CardInfo> orderBy(String column) {
+        Field field;
+        try {
+            field = CardInfo.class.getDeclaredField(column);
+        } catch (NoSuchFieldException e) {
+            Logger.getLogger(CardCriteria.class).error("Unknown card column to sort by: " + column);
+            return null;
+        }
+        return Comparator.comparing(card -> sortValue(field, card), Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> sortValue(Field field, CardInfo card) {
+        try {
+            Object value = field.get(card);
+            if (value instanceof Enum) {
+                // enums are stored by name
+                value = ((Enum) value).name();
+            }
+            return (Comparable<Object>) value;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -41,6 +41,7 @@ import mage.cards.mock.MockCard;
 import mage.cards.mock.MockSplitCard;
 import mage.constants.*;
 import mage.util.CardUtil;
+import mage.util.SharedStrings;
 import mage.util.SubTypeList;
 import org.apache.log4j.Logger;
 
@@ -220,6 +221,29 @@ public class CardInfo {
         }
     }
 
+    /**
+     * Replaces the texts of the card with the ones of the shared pool, equal
+     * texts of other cards (e.g. reprints) are then kept only once.
+     */
+    void shareTexts() {
+        name = SharedStrings.share(name);
+        cardNumber = SharedStrings.share(cardNumber);
+        setCode = SharedStrings.share(setCode);
+        className = SharedStrings.share(className);
+        power = SharedStrings.share(power);
+        toughness = SharedStrings.share(toughness);
+        startingLoyalty = SharedStrings.share(startingLoyalty);
+        types = SharedStrings.share(types);
+        subtypes = SharedStrings.share(subtypes);
+        supertypes = SharedStrings.share(supertypes);
+        manaCosts = SharedStrings.share(manaCosts);
+        rules = SharedStrings.share(rules);
+        frameColor = SharedStrings.share(frameColor);
+        frameStyle = SharedStrings.share(frameStyle);
+        flipCardName = SharedStrings.share(flipCardName);
+        secondSideName = SharedStrings.share(secondSideName);
+    }
+
     public Card getCard() {
         return CardImpl.createCard(className, new CardSetInfo(name, setCode, cardNumber, rarity, new CardGraphicInfo(FrameStyle.valueOf(frameStyle), variousArt)));
     }
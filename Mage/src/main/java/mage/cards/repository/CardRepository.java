@@ -29,11 +29,7 @@ package mage.cards.repository;
 
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
-import com.j256.ormlite.dao.GenericRawResults;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
-import com.j256.ormlite.stmt.QueryBuilder;
-import com.j256.ormlite.stmt.SelectArg;
-import com.j256.ormlite.stmt.Where;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.support.DatabaseConnection;
 import com.j256.ormlite.table.TableUtils;
@@ -41,7 +37,6 @@ import java.io.File;
 import java.sql.SQLException;
 import java.util.*;
 import mage.cards.CardSetInfo;
-import mage.constants.CardType;
 import mage.constants.SetType;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
@@ -56,11 +51,12 @@ public enum CardRepository {
     private static final String JDBC_URL = "jdbc:h2:file:./db/cards.h2;AUTO_SERVER=TRUE";
     private static final String VERSION_ENTITY_NAME = "card";
     // raise this if db structure was changed
-    private static final long CARD_DB_VERSION = 51;
+    static final long CARD_DB_VERSION = 51;
     // raise this if new cards were added to the server
-    private static final long CARD_CONTENT_VERSION = 104;
+    static final long CARD_CONTENT_VERSION = 104;
     private Dao<CardInfo, Object> cardDao;
-    private Set<String> classNames;
+    // all queries are answered from this copy of the database, null if it has to be (re)loaded
+    private volatile CardCatalog catalog;
 
     CardRepository() {
         File file = new File("db");
@@ -88,9 +84,6 @@ public enum CardRepository {
                 try {
                     for (CardInfo card : cards) {
                         cardDao.create(card);
-                        if (classNames != null) {
-                            classNames.add(card.getClassName());
-                        }
                     }
                 } catch (SQLException ex) {
                     Logger.getLogger(CardRepository.class).error("Error adding cards to DB - ", ex);
@@ -99,219 +92,51 @@ public enum CardRepository {
             });
         } catch (Exception ex) {
         }
+        catalog = null;
     }
 
     public boolean cardExists(String className) {
-        try {
-            if (classNames == null) {
-                QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-                qb.distinct().selectColumns("className").where().isNotNull("className");
-                List<CardInfo> results = cardDao.query(qb.prepare());
-                classNames = new TreeSet<>();
-                for (CardInfo card : results) {
-                    classNames.add(card.getClassName());
-                }
-            }
-            return classNames.contains(className);
-        } catch (SQLException ex) {
-        }
-        return false;
+        return getCatalog().containsClassName(className);
     }
 
     public boolean cardExists(CardSetInfo className) {
-        try {
-            if (classNames == null) {
-                QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-                qb.distinct().selectColumns("className").where().isNotNull("className");
-                List<CardInfo> results = cardDao.query(qb.prepare());
-                classNames = new TreeSet<>();
-                for (CardInfo card : results) {
-                    classNames.add(card.getClassName());
-                }
-            }
-            return classNames.contains(className.getName());
-        } catch (SQLException ex) {
-        }
-        return false;
+        return getCatalog().containsClassName(className.getName());
     }
 
     public Set<String> getNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting names from DB : " + ex);
-        }
-        return names;
+        return getCatalog().getNames();
     }
 
     public Set<String> getNonLandNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            qb.where().not().like("types", new SelectArg('%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB : " + ex);
-
-        }
-        return names;
+        return getCatalog().getNonLandNames();
     }
 
     public Set<String> getCreatureNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            qb.where().like("types", new SelectArg('%' + CardType.CREATURE.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting creature names from DB : " + ex);
-
-        }
-        return names;
+        return getCatalog().getCreatureNames();
     }
 
     public Set<String> getArtifactNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            qb.where().like("types", new SelectArg('%' + CardType.ARTIFACT.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting artifact names from DB : " + ex);
-
-        }
-        return names;
+        return getCatalog().getArtifactNames();
     }
 
     public Set<String> getNonLandAndNonCreatureNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            Where where = qb.where();
-            where.and(where.not().like("types", '%' + CardType.CREATURE.name() + '%'), where.not().like("types", '%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land and non-creature names from DB : " + ex);
-        }
-        return names;
+        return getCatalog().getNonLandAndNonCreatureNames();
     }
 
     public Set<String> getNonArtifactAndNonLandNames() {
-        Set<String> names = new TreeSet<>();
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
-            qb.distinct().selectColumns("name");
-            Where where = qb.where();
-            where.and(where.not().like("types", '%' + CardType.ARTIFACT.name() + '%'), where.not().like("types", '%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                int result = card.getName().indexOf(" // ");
-                if (result > 0) {
-                    names.add(card.getName().substring(0, result));
-                    names.add(card.getName().substring(result + 4));
-                } else {
-                    names.add(card.getName());
-                }
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-artifact non-land names from DB : " + ex);
-
-        }
-        return names;
+        return getCatalog().getNonArtifactAndNonLandNames();
     }
 
     public CardInfo findCard(String setCode, String cardNumber) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            queryBuilder.limit(1L).where().eq("setCode", new SelectArg(setCode)).and().eq("cardNumber", cardNumber).and().eq("nightCard", false);
-            List<CardInfo> result = cardDao.query(queryBuilder.prepare());
-            if (!result.isEmpty()) {
-                return result.get(0);
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error finding card from DB : " + ex);
-
-        }
-        return null;
+        return getCatalog().findCard(setCode, cardNumber);
     }
 
     public List<String> getClassNames() {
-        List<String> names = new ArrayList<>();
-        try {
-            List<CardInfo> results = cardDao.queryForAll();
-            for (CardInfo card : results) {
-                names.add(card.getClassName());
-            }
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting classnames from DB : " + ex);
-        }
-        return names;
+        return getCatalog().getClassNames();
     }
 
     public List<CardInfo> getMissingCards(List<String> classNames) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            queryBuilder.where().not().in("className", classNames);
-
-            return cardDao.query(queryBuilder.prepare());
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error getting missing cards from DB : " + ex);
-
-        }
-
-        return Collections.emptyList();
+        return getCatalog().getMissingCards(classNames);
     }
 
     /**
@@ -386,42 +211,42 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCards(String name) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            queryBuilder.where().eq("name", new SelectArg(name));
-            return cardDao.query(queryBuilder.prepare());
-        } catch (SQLException ex) {
-        }
-        return Collections.emptyList();
+        return getCatalog().findCards(name);
     }
 
     public List<CardInfo> findCardsCaseInsensitive(String name) {
-        try {
-            String sqlName = name.toLowerCase().replaceAll("\'", "\'\'");
-            GenericRawResults<CardInfo> rawResults = cardDao.queryRaw(
-                    "select * from " + CardRepository.VERSION_ENTITY_NAME + " where lower(name) = '" + sqlName + '\'',
-                    cardDao.getRawRowMapper());
-            List<CardInfo> result = new ArrayList<>();
-            for (CardInfo cardinfo : rawResults) {
-                result.add(cardinfo);
+        return getCatalog().findCardsCaseInsensitive(name);
+    }
+
+    public List<CardInfo> findCards(CardCriteria criteria) {
+        return criteria.filter(getCatalog());
+    }
+
+    private CardCatalog getCatalog() {
+        CardCatalog current = catalog;
+        if (current == null) {
+            synchronized (this) {
+                current = catalog;
+                if (current == null) {
+                    current = loadCatalog();
+                }
             }
-            return result;
-        } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement", ex);
         }
-        return Collections.emptyList();
+        return current;
     }
 
-    public List<CardInfo> findCards(CardCriteria criteria) {
+    private CardCatalog loadCatalog() {
         try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
-            criteria.buildQuery(queryBuilder);
-
-            return cardDao.query(queryBuilder.prepare());
+            long start = System.currentTimeMillis();
+            CardCatalog loaded = new CardCatalog(cardDao.queryForAll());
+            catalog = loaded;
+            Logger.getLogger(CardRepository.class).debug("Loaded " + loaded.size() + " cards from DB in " + (System.currentTimeMillis() - start) + " ms");
+            return loaded;
         } catch (SQLException ex) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of card repository query statement", ex);
+            Logger.getLogger(CardRepository.class).error("Error loading cards from DB : " + ex);
+            // try again with the next query
+            return new CardCatalog(Collections.emptyList());
         }
-        return Collections.emptyList();
     }
 
     public long getContentVersionFromDB() {
@@ -463,6 +288,7 @@ public enum CardRepository {
         try {
             ConnectionSource connectionSource = new JdbcConnectionSource(JDBC_URL);
             cardDao = DaoManager.createDao(connectionSource, CardInfo.class);
+            catalog = null;
         } catch (SQLException ex) {
             Logger.getLogger(CardRepository.class).error("Error opening card repository - ", ex);
         }
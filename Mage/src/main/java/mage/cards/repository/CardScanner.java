@@ -28,7 +28,9 @@
 package mage.cards.repository;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
@@ -81,24 +83,37 @@ public final class CardScanner {
             logger.info("DB: need to update " + setsUpdatedCount + " sets");
         }
 
+        long start = System.currentTimeMillis();
+        Map<String, List<CardInfo>> snapshot = null;
+        int snapshotCount = 0;
+        int createdCount = 0;
         for (ExpansionSet set : Sets.getInstance().values()) {
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
                 if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber()) == null) {
-                    Card card = CardImpl.createCard(
-                            setInfo.getCardClass(),
-                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
-                            errorsList);
-                    if (card != null) {
-                        cardsToAdd.add(new CardInfo(card));
-                        if (card instanceof SplitCard) {
-                            SplitCard splitCard = (SplitCard) card;
-                            cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                            cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
+                    if (snapshot == null) {
+                        snapshot = CardSnapshot.load();
+                        if (snapshot == null) {
+                            snapshot = Collections.emptyMap();
                         }
                     }
+                    List<CardInfo> cards = snapshot.get(CardSnapshot.getKey(set.getCode(), setInfo.getCardNumber(), setInfo.getCardClass()));
+                    if (cards != null) {
+                        snapshotCount++;
+                    } else {
+                        // not in the snapshot (e.g. set of an extension package)
+                        cards = CardSnapshot.createCardInfos(set, setInfo, errorsList);
+                        createdCount++;
+                    }
+                    if (cards != null) {
+                        cardsToAdd.addAll(cards);
+                    }
                 }
             }
         }
+        if (snapshotCount > 0 || createdCount > 0) {
+            logger.info("DB: " + snapshotCount + " cards taken from the snapshot, " + createdCount + " cards created in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        }
 
         if (!cardsToAdd.isEmpty()) {
             logger.info("DB: need to add " + cardsToAdd.size() + " new cards");
@@ -0,0 +1,262 @@
+package mage.cards.repository;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import mage.cards.*;
+import mage.constants.Rarity;
+import org.apache.log4j.Logger;
+
+/**
+ * Precomputed rows of the card database.
+ *
+ * The snapshot is written by {@link #main(String[])} while the sets are built
+ * and packed with them as the resource {@link #RESOURCE}. The
+ * {@link CardScanner} takes the rows of a card from the snapshot and only
+ * creates the cards that are not in it (e.g. the sets of extension packages).
+ */
+public final class CardSnapshot {
+
+    private static final Logger logger = Logger.getLogger(CardSnapshot.class);
+
+    public static final String RESOURCE = "mage/cards/repository/cards.snapshot";
+
+    private static final int MAGIC = 0x4d434453;
+    // change it if the layout of the snapshot is changed, changes of the
+    // CardInfo fields are covered by the card db version in the header
+    private static final int FORMAT_VERSION = 2;
+
+    private CardSnapshot() {
+    }
+
+    /**
+     * Key of the rows created for a card of a set.
+     *
+     * @param setCode
+     * @param cardNumber
+     * @param cardClass
+     * @return
+     */
+    public static String getKey(String setCode, String cardNumber, Class<?> cardClass) {
+        return setCode + '#' + cardNumber + '#' + cardClass.getName();
+    }
+
+    /**
+     * @return the rows of the snapshot by key, or null if there is no snapshot
+     * for the current card db and content version
+     */
+    public static Map<String, List<CardInfo>> load() {
+        InputStream resource = CardSnapshot.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (resource == null) {
+            logger.info("DB: no card snapshot found, cards are created from their classes");
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(resource)))) {
+            return read(in);
+        } catch (IOException ex) {
+            logger.error("DB: can't read the card snapshot, cards are created from their classes", ex);
+            return null;
+        }
+    }
+
+    private static Map<String, List<CardInfo>> read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a card snapshot");
+        }
+        int formatVersion = in.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            logger.info("DB: card snapshot is outdated (format " + formatVersion + "), cards are created from their classes");
+            return null;
+        }
+        long dbVersion = in.readLong();
+        long contentVersion = in.readLong();
+        if (dbVersion != CardRepository.CARD_DB_VERSION || contentVersion != CardRepository.CARD_CONTENT_VERSION) {
+            logger.info("DB: card snapshot is outdated (db " + dbVersion + ", content " + contentVersion + "), cards are created from their classes");
+            return null;
+        }
+        int count = in.readInt();
+        Map<String, List<CardInfo>> snapshot = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String key = in.readUTF();
+            int rows = in.readInt();
+            List<CardInfo> cards = new ArrayList<>(rows);
+            for (int j = 0; j < rows; j++) {
+                cards.add(readCard(in));
+            }
+            snapshot.put(key, cards);
+        }
+        return snapshot;
+    }
+
+    public static void write(Map<String, List<CardInfo>> snapshot, OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(output)));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(CardRepository.CARD_DB_VERSION);
+        out.writeLong(CardRepository.CARD_CONTENT_VERSION);
+        out.writeInt(snapshot.size());
+        for (Map.Entry<String, List<CardInfo>> entry : snapshot.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (CardInfo card : entry.getValue()) {
+                writeCard(out, card);
+            }
+        }
+        out.close();
+    }
+
+    private static CardInfo readCard(DataInputStream in) throws IOException {
+        CardInfo card = new CardInfo();
+        card.name = readString(in);
+        card.cardNumber = readString(in);
+        card.setCode = readString(in);
+        card.className = readString(in);
+        card.power = readString(in);
+        card.toughness = readString(in);
+        card.startingLoyalty = readString(in);
+        card.convertedManaCost = in.readInt();
+        String rarity = readString(in);
+        card.rarity = rarity == null ? null : Rarity.valueOf(rarity);
+        card.types = readString(in);
+        card.subtypes = readString(in);
+        card.supertypes = readString(in);
+        card.manaCosts = readString(in);
+        card.rules = readString(in);
+        card.black = in.readBoolean();
+        card.blue = in.readBoolean();
+        card.green = in.readBoolean();
+        card.red = in.readBoolean();
+        card.white = in.readBoolean();
+        card.frameColor = readString(in);
+        card.frameStyle = readString(in);
+        card.variousArt = in.readBoolean();
+        card.splitCard = in.readBoolean();
+        card.splitCardFuse = in.readBoolean();
+        card.splitCardAftermath = in.readBoolean();
+        card.splitCardHalf = in.readBoolean();
+        card.flipCard = in.readBoolean();
+        card.doubleFaced = in.readBoolean();
+        card.nightCard = in.readBoolean();
+        card.flipCardName = readString(in);
+        card.secondSideName = readString(in);
+        return card;
+    }
+
+    private static void writeCard(DataOutputStream out, CardInfo card) throws IOException {
+        writeString(out, card.name);
+        writeString(out, card.cardNumber);
+        writeString(out, card.setCode);
+        writeString(out, card.className);
+        writeString(out, card.power);
+        writeString(out, card.toughness);
+        writeString(out, card.startingLoyalty);
+        out.writeInt(card.convertedManaCost);
+        writeString(out, card.rarity == null ? null : card.rarity.name());
+        writeString(out, card.types);
+        writeString(out, card.subtypes);
+        writeString(out, card.supertypes);
+        writeString(out, card.manaCosts);
+        writeString(out, card.rules);
+        out.writeBoolean(card.black);
+        out.writeBoolean(card.blue);
+        out.writeBoolean(card.green);
+        out.writeBoolean(card.red);
+        out.writeBoolean(card.white);
+        writeString(out, card.frameColor);
+        writeString(out, card.frameStyle);
+        out.writeBoolean(card.variousArt);
+        out.writeBoolean(card.splitCard);
+        out.writeBoolean(card.splitCardFuse);
+        out.writeBoolean(card.splitCardAftermath);
+        out.writeBoolean(card.splitCardHalf);
+        out.writeBoolean(card.flipCard);
+        out.writeBoolean(card.doubleFaced);
+        out.writeBoolean(card.nightCard);
+        writeString(out, card.flipCardName);
+        writeString(out, card.secondSideName);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * Creates the rows of a card of a set, like they are stored in the card
+     * database.
+     *
+     * @param set
+     * @param setInfo
+     * @param errorsList
+     * @return the rows or null if the card can't be created
+     */
+    static List<CardInfo> createCardInfos(ExpansionSet set, ExpansionSet.SetCardInfo setInfo, List<String> errorsList) {
+        Card card = CardImpl.createCard(
+                setInfo.getCardClass(),
+                new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
+                errorsList);
+        if (card == null) {
+            return null;
+        }
+        List<CardInfo> cards = new ArrayList<>();
+        cards.add(new CardInfo(card));
+        if (card instanceof SplitCard) {
+            SplitCard splitCard = (SplitCard) card;
+            cards.add(new CardInfo(splitCard.getLeftHalfCard()));
+            cards.add(new CardInfo(splitCard.getRightHalfCard()));
+        }
+        return cards;
+    }
+
+    /**
+     * Writes the snapshot of all sets found on the class path, called by the
+     * build of the sets.
+     *
+     * @param args the file to write
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: CardSnapshot <file>");
+            System.exit(2);
+        }
+        long start = System.currentTimeMillis();
+        List<String> errorsList = new ArrayList<>();
+        Map<String, List<CardInfo>> snapshot = new HashMap<>();
+        for (ExpansionSet set : Sets.getInstance().values()) {
+            for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
+                List<CardInfo> cards = createCardInfos(set, setInfo, errorsList);
+                if (cards != null) {
+                    snapshot.put(getKey(set.getCode(), setInfo.getCardNumber(), setInfo.getCardClass()), cards);
+                }
+            }
+        }
+        if (!errorsList.isEmpty()) {
+            for (String error : errorsList) {
+                System.err.println(error);
+            }
+            System.err.println(errorsList.size() + " cards can't be created");
+            System.exit(1);
+        }
+        File file = new File(args[0]);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            write(snapshot, out);
+        }
+        System.out.println("Card snapshot with " + snapshot.size() + " cards written to " + file
+                + " in " + (System.currentTimeMillis() - start) + " ms");
+        System.exit(0);
+    }
+}
@@ -100,6 +100,9 @@ public abstract class GameImpl implements Game, Serializable {
 
     private static final Logger logger = Logger.getLogger(GameImpl.class);
 
+    // compare the object indexes of stack and command zone with their content on every object lookup (for tests)
+    private static boolean checkObjectIndex = false;
+
     private transient Object customData;
     protected boolean simulation = false;
 
@@ -301,31 +304,46 @@ public abstract class GameImpl implements Game, Serializable {
         return state.getPlayer(playerId);
     }
 
+    /**
+     * Enables the consistency check of the object indexes of the stack and
+     * the command zone on every getObject call. Slow, only for tests.
+     *
+     * @param check
+     */
+    public static void setCheckObjectIndex(boolean check) {
+        checkObjectIndex = check;
+    }
+
     @Override
     public MageObject getObject(UUID objectId) {
         if (objectId == null) {
             return null;
         }
+        if (checkObjectIndex) {
+            state.getStack().checkIndex();
+            state.getCommand().checkIndex();
+        }
         MageObject object;
         if (state.getBattlefield().containsPermanent(objectId)) {
             object = state.getBattlefield().getPermanent(objectId);
             state.setZone(objectId, Zone.BATTLEFIELD); // why is this neccessary?
             return object;
         }
-        for (StackObject item : state.getStack()) {
-            if (item.getId().equals(objectId)) {
-                state.setZone(objectId, Zone.STACK); // why is this neccessary?
-                return item;
-            }
-            if (item.getSourceId().equals(objectId) && item instanceof Spell) {
-                return item;
+        if (state.getStack().containsObjectOrSource(objectId)) {
+            for (StackObject item : state.getStack()) {
+                if (item.getId().equals(objectId)) {
+                    state.setZone(objectId, Zone.STACK); // why is this neccessary?
+                    return item;
+                }
+                if (item.getSourceId().equals(objectId) && item instanceof Spell) {
+                    return item;
+                }
             }
         }
 
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        CommandObject commandObject = state.getCommand().findObject(objectId);
+        if (commandObject != null) {
+            return commandObject;
         }
 
         object = getCard(objectId);
@@ -364,18 +382,13 @@ public abstract class GameImpl implements Game, Serializable {
         if (object != null) {
             return object;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject instanceof Commander && commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        CommandObject commandObject = state.getCommand().findObject(objectId);
+        if (commandObject instanceof Commander) {
+            return commandObject;
         }
         object = getCard(objectId);
         if (object == null) {
-            for (CommandObject commandObject : state.getCommand()) {
-                if (commandObject.getId().equals(objectId)) {
-                    return commandObject;
-                }
-            }
+            return commandObject;
         }
         return object;
     }
@@ -385,12 +398,7 @@ public abstract class GameImpl implements Game, Serializable {
         if (objectId == null) {
             return null;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
-        }
-        return null;
+        return state.getCommand().findObject(objectId);
     }
 
     @Override
@@ -675,7 +683,13 @@ public abstract class GameImpl implements Game, Serializable {
                 } else {
                     int stateNum = savedStates.get(bookmark - 1);
                     removeBookmark(bookmark);
-                    GameState restore = gameStates.rollback(stateNum);
+                    GameState restore;
+                    try {
+                        restore = gameStates.rollback(stateNum);
+                    } catch (IllegalStateException ex) {
+                        logger.error("Game " + getId() + ": undo failed, saved state " + stateNum + " can't be restored, context: " + context, ex);
+                        throw ex;
+                    }
                     if (restore != null) {
                         state.restore(restore);
                         playerList.setCurrent(state.getPlayerByOrderId());
@@ -1311,7 +1325,7 @@ public abstract class GameImpl implements Game, Serializable {
                             if (!resuming) {
                                 // 603.3. Once an ability has triggered, its controller puts it on the stack as an object that's not a card the next time a player would receive priority
                                 checkStateAndTriggered();
-                                applyEffects();
+                                applyEffectsIfChanged();
                                 if (state.getStack().isEmpty()) {
                                     resetLKI();
                                 }
@@ -1325,7 +1339,7 @@ public abstract class GameImpl implements Game, Serializable {
                                         return;
                                     }
                                     getState().handleSimultaneousEvent(this); // needed here to handle triggers e.g. from paying costs like sacrificing a creatures before LKIShort is cleared
-                                    applyEffects();
+                                    applyEffectsIfChanged();
                                 }
                                 if (isPaused()) {
                                     return;
@@ -1343,7 +1357,7 @@ public abstract class GameImpl implements Game, Serializable {
                                 //20091005 - 115.4
                                 resolve();
                                 checkConcede();
-                                applyEffects();
+                                applyEffectsIfChanged();
                                 state.getPlayers().resetPassed();
                                 fireUpdatePlayersEvent();
                                 resetShortLivingLKI();
@@ -1470,6 +1484,16 @@ public abstract class GameImpl implements Game, Serializable {
         state.applyEffects(this);
     }
 
+    /**
+     * Same as applyEffects, but skips applying the continuous effects if
+     * nothing changed since they were applied the last time. Used in the
+     * priority loop, that applies the effects again and again.
+     */
+    private synchronized void applyEffectsIfChanged() {
+        resetShortLivingLKI();
+        state.applyEffectsIfChanged(this);
+    }
+
     @Override
     public void addEffect(ContinuousEffect continuousEffect, Ability source) {
         Ability newAbility = source.copy();
@@ -1665,7 +1689,7 @@ public abstract class GameImpl implements Game, Serializable {
                 }
             }
             state.handleSimultaneousEvent(this);
-            applyEffects(); // needed e.g if boost effects end and cause creatures to die
+            applyEffectsIfChanged(); // needed e.g if boost effects end and cause creatures to die
             somethingHappened = true;
         }
         checkConcede();
@@ -29,12 +29,14 @@ package mage.game;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.MageObject;
 import mage.abilities.*;
 import mage.abilities.effects.ContinuousEffect;
 import mage.abilities.effects.ContinuousEffects;
 import mage.abilities.effects.Effect;
 import mage.cards.Card;
+import mage.cards.Cards;
 import mage.cards.SplitCard;
 import mage.constants.Zone;
 import mage.designations.Designation;
@@ -55,7 +57,9 @@ import mage.players.Player;
 import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
+import mage.util.CopyOnWriteHashMap;
 import mage.util.Copyable;
+import mage.util.StateHash;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -108,14 +112,29 @@ public class GameState implements Serializable, Copyable<GameState> {
     private List<TriggeredAbility> triggered = new ArrayList<>();
     private Combat combat;
     private Map<String, Object> values = new HashMap<>();
-    private Map<UUID, Zone> zones = new HashMap<>();
+    // zones, card states and zone change counters are shared with copies of this state until they are changed
+    private CopyOnWriteHashMap<UUID, Zone> zones = new CopyOnWriteHashMap<>();
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
-    private Map<UUID, CardState> cardState = new HashMap<>();
+    private CopyOnWriteHashMap<UUID, CardState> cardState = new CopyOnWriteHashMap<>();
+    // card states that are exclusively owned by this state, all others have to be copied before they are changed
+    private Set<UUID> ownedCardStates = new HashSet<>();
+    // number of copies taken from this state, a copy shares all card states, so copiers (possibly
+    // several threads at once) only count up and ownedCardStates is dropped by this state when it changed
+    private final AtomicInteger copies = new AtomicInteger();
+    private int copiesOfOwnedCardStates;
     private Map<UUID, CardAttribute> cardAttribute = new HashMap<>();
-    private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
+    private CopyOnWriteHashMap<UUID, Integer> zoneChangeCounter = new CopyOnWriteHashMap<>();
     private Map<UUID, Card> copiedCards = new HashMap<>();
     private int permanentOrderNumber;
 
+    // incremented on every change (events, values, zones) that can change the result of applying the continuous effects
+    private int changeCount;
+    // change counts of the state and the effects as the continuous effects were applied the last time (-1 = not applied yet)
+    private int appliedEffectsChangeCount = -1;
+    private int appliedEffectsEffectsChangeCount = -1;
+    private int effectsAppliedCount;
+    private int effectsSkippedCount;
+
     public GameState() {
         players = new Players();
         playerList = new PlayerList();
@@ -175,17 +194,20 @@ public class GameState implements Serializable, Copyable<GameState> {
                 this.values.put(entry.getKey(), entry.getValue());
             }
         }
-        this.zones.putAll(state.zones);
+        this.zones = state.zones.copy();
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        for (Map.Entry<UUID, CardState> entry : state.cardState.entrySet()) {
-            cardState.put(entry.getKey(), entry.getValue().copy());
-        }
+        this.cardState = state.cardState.copy();
+        state.copies.incrementAndGet();
         for (Map.Entry<UUID, CardAttribute> entry : state.cardAttribute.entrySet()) {
             cardAttribute.put(entry.getKey(), entry.getValue().copy());
         }
-        this.zoneChangeCounter.putAll(state.zoneChangeCounter);
+        this.zoneChangeCounter = state.zoneChangeCounter.copy();
         this.copiedCards.putAll(state.copiedCards);
         this.permanentOrderNumber = state.permanentOrderNumber;
+        // the applied change counts are not copied, so the effects of a copy are always applied the first time
+        this.changeCount = state.changeCount;
+        this.effectsAppliedCount = state.effectsAppliedCount;
+        this.effectsSkippedCount = state.effectsSkippedCount;
     }
 
     public void restoreForRollBack(GameState state) {
@@ -221,13 +243,17 @@ public class GameState implements Serializable, Copyable<GameState> {
             Player origPlayer = players.get(copyPlayer.getId());
             origPlayer.restore(copyPlayer);
         }
-        this.zones = state.zones;
+        this.zones = state.zones.copy();
         this.simultaneousEvents = state.simultaneousEvents;
-        this.cardState = state.cardState;
+        this.cardState = state.cardState.copy();
+        this.ownedCardStates.clear();
+        state.copies.incrementAndGet();
         this.cardAttribute = state.cardAttribute;
-        this.zoneChangeCounter = state.zoneChangeCounter;
+        this.zoneChangeCounter = state.zoneChangeCounter.copy();
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
+        this.appliedEffectsChangeCount = -1;
+        changed();
     }
 
     @Override
@@ -384,6 +410,121 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * 64 bit hash of the same state parts getValue(boolean) uses. Much
+     * cheaper than getValue(useHidden).hashCode() because no strings are
+     * built.
+     *
+     * @param useHidden
+     * @return
+     */
+    public long getStateHash(boolean useHidden) {
+        return getStateHash(null, useHidden, null);
+    }
+
+    /**
+     * 64 bit hash of the same state parts getValue(boolean, Game) uses.
+     *
+     * @param useHidden
+     * @param game
+     * @return
+     */
+    public long getStateHash(boolean useHidden, Game game) {
+        return getStateHash(game, useHidden, null);
+    }
+
+    /**
+     * 64 bit hash of the same state parts getValue(Game, UUID) uses, only the
+     * hand of the given player is known.
+     *
+     * @param game
+     * @param playerId
+     * @return
+     */
+    public long getStateHash(Game game, UUID playerId) {
+        return getStateHash(game, false, playerId);
+    }
+
+    private long getStateHash(Game game, boolean useHidden, UUID playerId) {
+        long hash = StateHash.of(turnNum);
+        hash = StateHash.combine(hash, StateHash.of(turn.getPhaseType()));
+        hash = StateHash.combine(hash, StateHash.of(turn.getStepType()));
+        hash = StateHash.combine(hash, StateHash.of(activePlayerId));
+        hash = StateHash.combine(hash, StateHash.of(priorityPlayerId));
+        hash = StateHash.combine(hash, StateHash.of(playerByOrderId));
+
+        for (Player player : players.values()) {
+            hash = StateHash.combine(hash, StateHash.of(player.getId()));
+            if (game != null) {
+                hash = StateHash.combine(hash, StateHash.of(player.isPassed()));
+            }
+            hash = StateHash.combine(hash, StateHash.of(player.getLife()));
+            if (useHidden || Objects.equals(playerId, player.getId())) {
+                hash = StateHash.combine(hash, getCardsHash(player.getHand(), game));
+            } else {
+                hash = StateHash.combine(hash, StateHash.of(player.getHand().size()));
+            }
+            hash = StateHash.combine(hash, StateHash.of(player.getLibrary().size()));
+            hash = StateHash.combine(hash, getCardsHash(player.getGraveyard(), game));
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            permanentsHash += permanent.getStateHash(this);
+        }
+        hash = StateHash.combine(hash, permanentsHash);
+
+        for (StackObject spell : stack) {
+            hash = StateHash.combine(hash, StateHash.of(spell.getControllerId()));
+            hash = StateHash.combine(hash, StateHash.of(spell.getName()));
+            if (game != null) {
+                hash = StateHash.combine(hash, StateHash.of(spell.getStackAbility().getOriginalId()));
+                hash = StateHash.combine(hash, StateHash.of(spell.getStackAbility().getSourceId()));
+                for (UUID modeId : spell.getStackAbility().getModes().getSelectedModes()) {
+                    Mode mode = spell.getStackAbility().getModes().get(modeId);
+                    for (Target target : mode.getTargets()) {
+                        for (UUID targetId : target.getTargets()) {
+                            hash = StateHash.combine(hash, StateHash.of(targetId));
+                        }
+                    }
+                }
+            }
+        }
+
+        for (ExileZone zone : exile.getExileZones()) {
+            hash = StateHash.combine(hash, StateHash.of(zone.getName()));
+            hash = StateHash.combine(hash, getCardsHash(zone, game));
+        }
+
+        for (CombatGroup group : combat.getGroups()) {
+            hash = StateHash.combine(hash, StateHash.of(group.getDefenderId()));
+            for (UUID attackerId : group.getAttackers()) {
+                hash = StateHash.combine(hash, StateHash.of(attackerId));
+            }
+            for (UUID blockerId : group.getBlockers()) {
+                hash = StateHash.combine(hash, StateHash.of(blockerId));
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Cards are identified by name if the game is known (like
+     * Cards.getValue(game) does) and by id otherwise.
+     */
+    private static long getCardsHash(Cards cards, Game game) {
+        long hash = StateHash.of(cards.size());
+        for (UUID cardId : cards) {
+            if (game != null) {
+                Card card = game.getCard(cardId);
+                hash += StateHash.of(card == null ? null : card.getName());
+            } else {
+                hash += StateHash.of(cardId);
+            }
+        }
+        return hash;
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -398,6 +539,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setActivePlayerId(UUID activePlayerId) {
         this.activePlayerId = activePlayerId;
+        changed();
     }
 
     public UUID getPlayerByOrderId() {
@@ -422,6 +564,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setMonarchId(UUID monarchId) {
         this.monarchId = monarchId;
+        changed();
     }
 
     public UUID getChoosingPlayerId() {
@@ -493,6 +636,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void increaseStepNum() {
         this.stepNum++;
+        changed();
     }
 
     public int getTurnNum() {
@@ -501,6 +645,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setTurnNum(int turnNum) {
         this.turnNum = turnNum;
+        changed();
     }
 
     public UUID getTurnId() {
@@ -554,6 +699,46 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.reset();
         effects.apply(game);
         combat.checkForRemoveFromCombat(game);
+        appliedEffectsChangeCount = changeCount;
+        appliedEffectsEffectsChangeCount = effects.getChangeCount();
+        effectsAppliedCount++;
+    }
+
+    /**
+     * Applies the continuous effects only if an event happened or the state or
+     * the effects were changed since they were applied the last time.
+     * Otherwise applying them again would give the same result.
+     *
+     * @param game
+     * @return true if the effects were applied
+     */
+    public boolean applyEffectsIfChanged(Game game) {
+        if (appliedEffectsChangeCount == changeCount
+                && appliedEffectsEffectsChangeCount == effects.getChangeCount()) {
+            effectsSkippedCount++;
+            return false;
+        }
+        applyEffects(game);
+        return true;
+    }
+
+    /**
+     * @return how often the continuous effects were fully applied
+     */
+    public int getEffectsAppliedCount() {
+        return effectsAppliedCount;
+    }
+
+    /**
+     * @return how often applying the continuous effects was skipped because
+     * nothing changed
+     */
+    public int getEffectsSkippedCount() {
+        return effectsSkippedCount;
+    }
+
+    private void changed() {
+        changeCount++;
     }
 
     // Remove End of Combat effects
@@ -653,6 +838,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setZone(UUID id, Zone zone) {
         zones.put(id, zone);
+        changed();
     }
 
     public void addSimultaneousEvent(GameEvent event, Game game) {
@@ -678,6 +864,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        changed();
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -688,6 +875,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        changed();
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -775,6 +963,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         if (copiedCards.containsKey(card.getId())) {
             copiedCards.remove(card.getId());
             cardState.remove(card.getId());
+            ownedCardStates.remove(card.getId());
             zones.remove(card.getId());
             zoneChangeCounter.remove(card.getId());
         }
@@ -924,6 +1113,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      */
     public void setValue(String valueId, Object value) {
         values.put(valueId, value);
+        changed();
     }
 
     /**
@@ -942,18 +1132,27 @@ public class GameState implements Serializable, Copyable<GameState> {
      */
     public Abilities<ActivatedAbility> getActivatedOtherAbilities(UUID objectId, Zone zone) {
         if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities().getActivatedAbilities(zone);
+            return getOtherAbilitiesState(objectId).getAbilities().getActivatedAbilities(zone);
         }
         return null;
     }
 
     public Abilities<Ability> getAllOtherAbilities(UUID objectId) {
         if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities();
+            return getOtherAbilitiesState(objectId).getAbilities();
         }
         return null;
     }
 
+    private CardState getOtherAbilitiesState(UUID objectId) {
+        CardState state = cardState.get(objectId);
+        if (!state.getAbilities().isEmpty() && !ownsCardState(objectId)) {
+            // the returned abilities are used by the game, so they must not be shared with other copies of the state
+            return getCardState(objectId);
+        }
+        return state;
+    }
+
     /**
      * Adds the ability to continuous or triggered abilities
      *
@@ -981,10 +1180,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         newAbility.setSourceId(attachedTo.getId());
         newAbility.setControllerId(attachedTo.getOwnerId());
-        if (!cardState.containsKey(attachedTo.getId())) {
-            cardState.put(attachedTo.getId(), new CardState());
-        }
-        cardState.get(attachedTo.getId()).addAbility(newAbility);
+        getCardState(attachedTo.getId()).addAbility(newAbility);
         addAbility(newAbility, attachedTo.getId(), attachedTo);
     }
 
@@ -1006,8 +1202,19 @@ public class GameState implements Serializable, Copyable<GameState> {
         triggers.removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
         this.setLegendaryRuleActive(true);
-        for (CardState state : cardState.values()) {
-            state.clearAbilities();
+        List<UUID> sharedWithAbilities = new ArrayList<>();
+        for (Map.Entry<UUID, CardState> entry : cardState.entrySet()) {
+            if (entry.getValue().getAbilities().isEmpty()) {
+                continue;
+            }
+            if (ownsCardState(entry.getKey())) {
+                entry.getValue().clearAbilities();
+            } else {
+                sharedWithAbilities.add(entry.getKey());
+            }
+        }
+        for (UUID cardId : sharedWithAbilities) {
+            getCardState(cardId).clearAbilities();
         }
         cardAttribute.clear();
     }
@@ -1031,6 +1238,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         gameOver = false;
         specialActions.clear();
         cardState.clear();
+        ownedCardStates.clear();
         combat.clear();
         turnMods.clear();
         watchers.clear();
@@ -1070,11 +1278,49 @@ public class GameState implements Serializable, Copyable<GameState> {
         return triggers;
     }
 
+    /**
+     * Returns the card state of the card for modification. Card states shared
+     * with other copies of the game state are copied first.
+     *
+     * @param cardId
+     * @return
+     */
     public CardState getCardState(UUID cardId) {
-        cardState.putIfAbsent(cardId, new CardState());
+        CardState state = cardState.get(cardId);
+        if (state == null) {
+            state = new CardState();
+        } else if (ownsCardState(cardId)) {
+            return state;
+        } else {
+            state = state.copy();
+        }
+        cardState.put(cardId, state);
+        ownedCardStates.add(cardId);
+        return state;
+    }
+
+    /**
+     * Returns the card state of the card for reading, a card state shared
+     * with other copies of the game state is not copied. Don't change the
+     * returned state.
+     *
+     * @param cardId
+     * @return the card state or null if the card has none
+     */
+    public CardState getCardStateForRead(UUID cardId) {
         return cardState.get(cardId);
     }
 
+    private boolean ownsCardState(UUID cardId) {
+        int copyCount = copies.get();
+        if (copyCount != copiesOfOwnedCardStates) {
+            // copies were taken since, they share all card states
+            ownedCardStates.clear();
+            copiesOfOwnedCardStates = copyCount;
+        }
+        return ownedCardStates.contains(cardId);
+    }
+
     public CardAttribute getCardAttribute(UUID cardId) {
         return cardAttribute.get(cardId);
     }
@@ -1096,16 +1342,18 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void updateZoneChangeCounter(UUID objectId) {
+        changed();
         Integer value = getZoneChangeCounter(objectId);
         value++;
         this.zoneChangeCounter.put(objectId, value);
         // card is changing zone so clear state
         if (cardState.containsKey(objectId)) {
-            this.cardState.get(objectId).clear();
+            getCardState(objectId).clear();
         }
     }
 
     public void setZoneChangeCounter(UUID objectId, int value) {
+        changed();
         this.zoneChangeCounter.put(objectId, value);
     }
 
@@ -27,64 +27,222 @@
  */
 package mage.game;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import mage.util.ByteArrayDelta;
+import mage.util.Copier;
 import org.apache.log4j.Logger;
 
 /**
+ * Saved game states used for bookmarks (undo, rollback) and replays.
+ *
+ * The states are stored in serialized form: periodically as compressed key
+ * frame and in between as delta to the last key frame. So the used memory
+ * depends on the amount of change between the states and not on the number of
+ * saved states. States are restored from that data on request.
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
-    private final List<GameState> states;
+    // max number of deltas that are based on the same key frame
+    private static final int KEY_FRAME_INTERVAL = 25;
+
+    private final List<SavedState> states;
+    private long dataSize;
+
+    // serialized key frame new states are encoded against
+    private transient byte[] keyFrameData;
+    private transient int keyFrameIndex;
+    private transient int deltasSinceKeyFrame;
+    // last restored key frame, so following states (e.g. replay) can be restored without decompressing it again
+    private transient byte[] restoredKeyFrameData;
+    private transient int restoredKeyFrameIndex;
 
     public GameStates() {
-        this.states = new LinkedList<>();
+        this.states = new ArrayList<>();
     }
 
     public void save(GameState gameState) {
-//        states.add(new Copier<GameState>().copyCompressed(gameState));
-        states.add(gameState.copy());
-        logger.trace("Saved game state: " + states.size());
+        byte[] data = new Copier<GameState>().serialize(gameState);
+        if (data == null) {
+            // can't be serialized, so keep a full copy and start with a new key frame next time
+            logger.debug("Game state can't be serialized, saving a full copy");
+            states.add(new SavedState(gameState.copy()));
+            keyFrameData = null;
+        } else {
+            byte[] delta = null;
+            if (keyFrameData != null && deltasSinceKeyFrame < KEY_FRAME_INTERVAL) {
+                delta = ByteArrayDelta.encode(keyFrameData, data);
+                if (delta.length > data.length / 4) {
+                    // state has changed too much since the key frame
+                    delta = null;
+                }
+            }
+            if (delta != null) {
+                states.add(new SavedState(delta, keyFrameIndex));
+                deltasSinceKeyFrame++;
+            } else {
+                states.add(new SavedState(compress(data), -1));
+                keyFrameData = data;
+                keyFrameIndex = states.size() - 1;
+                deltasSinceKeyFrame = 0;
+            }
+            dataSize += states.get(states.size() - 1).data.length;
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("Saved game state: " + states.size() + " (" + dataSize + " bytes)");
+        }
     }
 
     public int getSize() {
         return states.size();
     }
 
+    /**
+     * @return size in bytes of all serialized states (without the states that
+     * are saved as full copy)
+     */
+    public long getDataSize() {
+        return dataSize;
+    }
+
+    /**
+     * Restores a state and removes all states after it
+     *
+     * @param index
+     * @return the restored state, null if there is no state with the index
+     * @throws IllegalStateException if the state can't be restored, the saved
+     * states are not changed then
+     */
     public GameState rollback(int index) {
         if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index + 1) {
-                states.remove(states.size() - 1);
-            }
             logger.trace("Rolling back state: " + index);
-//            return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            GameState restored = restore(index);
+            removeFrom(index + 1);
+            return restored;
         }
         return null;
     }
 
     public int remove(int index) {
         if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index && !states.isEmpty()) {
-                states.remove(states.size() - 1);
-            }
+            removeFrom(index);
         }
         return states.size();
     }
 
     public GameState get(int index) {
         if (index < states.size()) {
-//             return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            return restore(index);
         }
         return null;
     }
 
     public void clear() {
         states.clear();
+        dataSize = 0;
+        keyFrameData = null;
+        restoredKeyFrameData = null;
+    }
+
+    private void removeFrom(int index) {
+        while (states.size() > index) {
+            SavedState removed = states.remove(states.size() - 1);
+            if (removed.data != null) {
+                dataSize -= removed.data.length;
+            }
+        }
+        if (keyFrameIndex >= states.size()) {
+            keyFrameData = null;
+        }
+        if (restoredKeyFrameIndex >= states.size()) {
+            restoredKeyFrameData = null;
+        }
+    }
+
+    private GameState restore(int index) {
+        SavedState saved = states.get(index);
+        if (saved.state != null) {
+            return saved.state;
+        }
+        try {
+            byte[] data;
+            if (saved.keyFrame < 0) {
+                data = getKeyFrameData(index);
+            } else {
+                data = ByteArrayDelta.decode(getKeyFrameData(saved.keyFrame), saved.data);
+            }
+            return new Copier<GameState>().deserialize(data);
+        } catch (RuntimeException ex) {
+            throw new IllegalStateException("Can't restore saved game state " + index + " (key frame "
+                    + (saved.keyFrame < 0 ? index : saved.keyFrame) + ')', ex);
+        }
+    }
+
+    private byte[] getKeyFrameData(int index) {
+        if (keyFrameData != null && keyFrameIndex == index) {
+            return keyFrameData;
+        }
+        if (restoredKeyFrameData == null || restoredKeyFrameIndex != index) {
+            restoredKeyFrameData = uncompress(states.get(index).data);
+            restoredKeyFrameIndex = index;
+        }
+        return restoredKeyFrameData;
+    }
+
+    private static byte[] compress(byte[] data) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length / 4);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bos, new Deflater(Deflater.BEST_SPEED))) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't compress game state", e);
+        }
+        return bos.toByteArray();
+    }
+
+    private static byte[] uncompress(byte[] data) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length * 4);
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                bos.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't uncompress game state", e);
+        }
+        return bos.toByteArray();
+    }
+
+    private static class SavedState implements Serializable {
+
+        // compressed key frame or delta to the key frame
+        private final byte[] data;
+        // index of the key frame the delta is based on, -1 for key frames
+        private final int keyFrame;
+        // full copy of a state that could not be serialized
+        private final GameState state;
+
+        SavedState(byte[] data, int keyFrame) {
+            this.data = data;
+            this.keyFrame = keyFrame;
+            this.state = null;
+        }
+
+        SavedState(GameState state) {
+            this.data = null;
+            this.keyFrame = -1;
+            this.state = state;
+        }
     }
 }
@@ -184,6 +184,8 @@ public class Table implements Serializable {
         seat.setPlayer(player);
         if (isReady()) {
             setState(TableState.READY_TO_START);
+        } else {
+            fireUpdateEvent();
         }
         return seat.getPlayer().getId();
     }
@@ -230,6 +232,8 @@ public class Table implements Serializable {
                 seats[i].setPlayer(null);
                 if (getState() == TableState.READY_TO_START) {
                     setState(TableState.WAITING);
+                } else {
+                    fireUpdateEvent();
                 }
                 break;
             }
@@ -244,6 +248,7 @@ public class Table implements Serializable {
         if (state == TableState.FINISHED) {
             this.recorder.record(this);
         }
+        fireUpdateEvent();
     }
 
     public TableState getState() {
@@ -266,6 +271,14 @@ public class Table implements Serializable {
         tableEventSource.addListener(listener);
     }
 
+    /**
+     * Informs the listeners that the table, its match or its tournament
+     * changed, e.g. so the room can update the view of the table
+     */
+    public void fireUpdateEvent() {
+        tableEventSource.fireTableEvent(TableEvent.EventType.UPDATE);
+    }
+
     public Match getMatch() {
         return match;
     }
@@ -29,6 +29,9 @@
 package mage.game.command;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  *
@@ -36,6 +39,10 @@ import java.util.ArrayList;
  */
 public class Command extends ArrayList<CommandObject> {
 
+    // index of the objects by id, rebuilt when the list was changed (modCount of ArrayList)
+    private transient Map<UUID, CommandObject> objectsById;
+    private transient int indexedModCount;
+
     public Command () {}
 
     public Command(final Command command) {
@@ -51,4 +58,47 @@ public class Command extends ArrayList<CommandObject> {
     public Command copy() {
         return new Command(this);
     }
+
+    /**
+     * @param objectId
+     * @return the object with the given id or null if it's not in the
+     * command zone
+     */
+    public CommandObject findObject(UUID objectId) {
+        if (objectsById == null || indexedModCount != modCount) {
+            Map<UUID, CommandObject> index = new HashMap<>();
+            for (CommandObject commandObject : this) {
+                index.putIfAbsent(commandObject.getId(), commandObject);
+            }
+            objectsById = index;
+            indexedModCount = modCount;
+        }
+        return objectsById.get(objectId);
+    }
+
+    @Override
+    public CommandObject set(int index, CommandObject element) {
+        // not a structural modification, so modCount is not changed
+        objectsById = null;
+        return super.set(index, element);
+    }
+
+    /**
+     * Compares the index with the objects in the command zone, used by the
+     * tests to find modifications that bypass the index.
+     *
+     * @throws IllegalStateException if the index does not match the objects
+     */
+    public void checkIndex() {
+        if (objectsById == null || indexedModCount != modCount) {
+            return; // rebuilt on the next lookup
+        }
+        Map<UUID, CommandObject> index = new HashMap<>();
+        for (CommandObject commandObject : this) {
+            index.putIfAbsent(commandObject.getId(), commandObject);
+        }
+        if (!index.equals(objectsById)) {
+            throw new IllegalStateException("Command zone index out of sync - command zone: " + index.keySet() + " index: " + objectsById.keySet());
+        }
+    }
 }
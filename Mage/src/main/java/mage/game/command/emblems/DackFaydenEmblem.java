@@ -28,7 +28,9 @@
 package mage.game.command.emblems;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.SpellAbility;
@@ -82,6 +84,11 @@ class DackFaydenEmblemTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         boolean returnValue = false;
@@ -36,6 +36,9 @@ import mage.game.command.Emblem;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author spjspj
@@ -65,6 +68,11 @@ class ObNixilisEmblemTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == EventType.DREW_CARD;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.DREW_CARD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getPlayerId() != null;
@@ -42,6 +42,9 @@ import mage.target.Target;
 import mage.target.TargetPermanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author spjspj
@@ -88,6 +91,11 @@ class VenserTheSojournerSpellCastTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<EventType> getTriggerEventTypes() {
+        return EnumSet.of(EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getPlayerId().equals(this.getControllerId())) {
@@ -54,7 +54,6 @@ public class BoosterDraft extends DraftImpl {
                 fireUpdatePlayersEvent();
             }
         }
-        resetBufferedCards();
         this.fireEndDraftEvent();
     }
 
@@ -70,8 +70,6 @@ public interface Draft extends MageItem, Serializable {
     void addPlayerQueryEventListener(Listener<PlayerQueryEvent> listener);
     void firePickCardEvent(UUID playerId);
 
-    void resetBufferedCards();
-
     boolean isAbort();
     void setAbort(boolean abort);
 
@@ -220,11 +220,14 @@ public abstract class DraftImpl implements Draft {
 
     protected void openBooster() {
         if (boosterNum < numberBoosters) {
-            for (DraftPlayer player : players.values()) {
-                if (draftCube != null) {
+            if (draftCube != null) {
+                for (DraftPlayer player : players.values()) {
                     player.setBooster(draftCube.createBooster());
-                } else {
-                    player.setBooster(sets.get(boosterNum).createBooster());
+                }
+            } else {
+                Iterator<List<Card>> boosters = sets.get(boosterNum).createBoosters(players.size()).iterator();
+                for (DraftPlayer player : players.values()) {
+                    player.setBooster(boosters.next());
                 }
             }
         }
@@ -337,16 +340,4 @@ public abstract class DraftImpl implements Draft {
         started = true;
     }
 
-    @Override
-    public void resetBufferedCards() {
-        Set<ExpansionSet> setsDone = new HashSet<>();
-        for (ExpansionSet set : sets) {
-            if (!setsDone.contains(set)) {
-                set.removeSavedCards();
-                setsDone.add(set);
-            }
-        }
-
-    }
-
 }
@@ -169,6 +169,15 @@ public interface Permanent extends Card, Controllable {
 
     String getValue(GameState state);
 
+    /**
+     * Hash of the same parts of the permanent that getValue uses, without
+     * building a string.
+     *
+     * @param state
+     * @return
+     */
+    long getStateHash(GameState state);
+
     @Deprecated
     void addAbility(Ability ability, Game game);
 
@@ -59,6 +59,7 @@ import mage.players.Player;
 import mage.target.TargetCard;
 import mage.util.CardUtil;
 import mage.util.GameLog;
+import mage.util.StateHash;
 import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
 
@@ -232,6 +233,33 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return sb.toString();
     }
 
+    @Override
+    public long getStateHash(GameState state) {
+        long hash = StateHash.of(controllerId);
+        hash = StateHash.combine(hash, StateHash.of(name));
+        hash = StateHash.combine(hash, StateHash.of(tapped));
+        hash = StateHash.combine(hash, StateHash.of(damage));
+        for (SubType subType : subtype) {
+            hash = StateHash.combine(hash, StateHash.of(subType));
+        }
+        for (SuperType superType : supertype) {
+            hash = StateHash.combine(hash, StateHash.of(superType));
+        }
+        hash = StateHash.combine(hash, StateHash.of(power.getValue()));
+        hash = StateHash.combine(hash, StateHash.of(toughness.getValue()));
+        long abilitiesHash = 0;
+        for (Ability ability : abilities) {
+            // the original id stays the same for copies and for abilities gained again from the same effect
+            abilitiesHash += StateHash.of(ability.getOriginalId());
+        }
+        hash = StateHash.combine(hash, abilitiesHash);
+        long countersHash = 0;
+        for (Counter counter : getCounters(state).values()) {
+            countersHash += StateHash.combine(StateHash.of(counter.getName()), StateHash.of(counter.getCount()));
+        }
+        return StateHash.combine(hash, countersHash);
+    }
+
     @Override
     public void addInfo(String key, String value, Game game) {
         if (info == null) {
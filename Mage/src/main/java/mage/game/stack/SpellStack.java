@@ -28,8 +28,13 @@
 package mage.game.stack;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 import mage.MageObject;
 import mage.constants.Zone;
 import mage.constants.ZoneDetail;
@@ -47,6 +52,11 @@ public class SpellStack extends ArrayDeque<StackObject> {
 
     protected Date dateLastAdded;
 
+    // index of the ids and source ids of the objects on the stack, lets the lookups of objects
+    // that are not on the stack (most lookups) fail without iterating the stack
+    private final Map<UUID, StackObject> objectsById = new HashMap<>();
+    private final Map<UUID, StackObject> objectsBySourceId = new HashMap<>();
+
     public SpellStack() {
     }
 
@@ -76,7 +86,7 @@ public class SpellStack extends ArrayDeque<StackObject> {
     public boolean remove(StackObject object) {
         for (StackObject spell : this) {
             if (spell.getId().equals(object.getId())) {
-                return super.remove(spell);
+                return remove((Object) spell);
             }
         }
         return false;
@@ -122,7 +132,19 @@ public class SpellStack extends ArrayDeque<StackObject> {
         return false;
     }
 
+    /**
+     * @param id
+     * @return true if an object with the id or an object with the id as
+     * source id is on the stack
+     */
+    public boolean containsObjectOrSource(UUID id) {
+        return objectsById.containsKey(id) || objectsBySourceId.containsKey(id);
+    }
+
     public StackObject getStackObject(UUID id) {
+        if (!containsObjectOrSource(id)) {
+            return null;
+        }
         for (StackObject stackObject : this) {
             UUID objectId = stackObject.getId();
             if (objectId.equals(id)) {
@@ -137,6 +159,9 @@ public class SpellStack extends ArrayDeque<StackObject> {
     }
 
     public Spell getSpell(UUID id) {
+        if (!containsObjectOrSource(id)) {
+            return null;
+        }
         for (StackObject stackObject : this) {
             if (stackObject instanceof Spell) {
                 if (stackObject.getId().equals(id) || stackObject.getSourceId().equals(id)) {
@@ -154,9 +179,242 @@ public class SpellStack extends ArrayDeque<StackObject> {
     @Override
     public void push(StackObject e) {
         super.push(e);
+        indexAdded(e);
         this.dateLastAdded = new Date();
     }
 
+    /*
+     * All modifying methods update the index. Some of them call each other
+     * (depending on the JDK), so updating the index has to be idempotent.
+     */
+    @Override
+    public void addFirst(StackObject e) {
+        super.addFirst(e);
+        indexAdded(e);
+    }
+
+    @Override
+    public void addLast(StackObject e) {
+        super.addLast(e);
+        indexAdded(e);
+    }
+
+    @Override
+    public boolean offerFirst(StackObject e) {
+        boolean added = super.offerFirst(e);
+        indexAdded(e);
+        return added;
+    }
+
+    @Override
+    public boolean offerLast(StackObject e) {
+        boolean added = super.offerLast(e);
+        indexAdded(e);
+        return added;
+    }
+
+    @Override
+    public boolean add(StackObject e) {
+        boolean added = super.add(e);
+        indexAdded(e);
+        return added;
+    }
+
+    @Override
+    public boolean offer(StackObject e) {
+        boolean added = super.offer(e);
+        indexAdded(e);
+        return added;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends StackObject> c) {
+        boolean changed = super.addAll(c);
+        for (StackObject e : c) {
+            indexAdded(e);
+        }
+        return changed;
+    }
+
+    @Override
+    public StackObject removeFirst() {
+        return indexRemoved(super.removeFirst());
+    }
+
+    @Override
+    public StackObject removeLast() {
+        return indexRemoved(super.removeLast());
+    }
+
+    @Override
+    public StackObject pollFirst() {
+        return indexRemoved(super.pollFirst());
+    }
+
+    @Override
+    public StackObject pollLast() {
+        return indexRemoved(super.pollLast());
+    }
+
+    @Override
+    public StackObject remove() {
+        return indexRemoved(super.remove());
+    }
+
+    @Override
+    public StackObject poll() {
+        return indexRemoved(super.poll());
+    }
+
+    @Override
+    public StackObject pop() {
+        return indexRemoved(super.pop());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean removed = super.remove(o);
+        if (removed) {
+            indexRemoved((StackObject) o);
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        boolean removed = super.removeFirstOccurrence(o);
+        if (removed) {
+            indexRemoved((StackObject) o);
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        boolean removed = super.removeLastOccurrence(o);
+        if (removed) {
+            indexRemoved((StackObject) o);
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super StackObject> filter) {
+        boolean changed = super.removeIf(filter);
+        rebuildIndex();
+        return changed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean changed = super.removeAll(c);
+        rebuildIndex();
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean changed = super.retainAll(c);
+        rebuildIndex();
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        objectsById.clear();
+        objectsBySourceId.clear();
+    }
+
+    @Override
+    public Iterator<StackObject> iterator() {
+        return new IndexedIterator(super.iterator());
+    }
+
+    @Override
+    public Iterator<StackObject> descendingIterator() {
+        return new IndexedIterator(super.descendingIterator());
+    }
+
+    private void indexAdded(StackObject object) {
+        if (object != null) {
+            objectsById.put(object.getId(), object);
+            objectsBySourceId.put(object.getSourceId(), object);
+        }
+    }
+
+    private StackObject indexRemoved(StackObject object) {
+        if (object != null && !super.contains(object)) {
+            objectsById.remove(object.getId(), object);
+            if (objectsBySourceId.remove(object.getSourceId(), object)) {
+                // there can be other objects with the same source (e.g. several abilities of a permanent)
+                for (Iterator<StackObject> it = super.iterator(); it.hasNext();) {
+                    StackObject other = it.next();
+                    if (other.getSourceId().equals(object.getSourceId())) {
+                        objectsBySourceId.put(other.getSourceId(), other);
+                        break;
+                    }
+                }
+            }
+        }
+        return object;
+    }
+
+    private void rebuildIndex() {
+        objectsById.clear();
+        objectsBySourceId.clear();
+        for (Iterator<StackObject> it = super.iterator(); it.hasNext();) {
+            indexAdded(it.next());
+        }
+    }
+
+    /**
+     * Compares the index with the objects on the stack, used by the tests to
+     * find modifications that bypass the index.
+     *
+     * @throws IllegalStateException if the index does not match the stack
+     */
+    public void checkIndex() {
+        Map<UUID, StackObject> ids = new HashMap<>();
+        Map<UUID, StackObject> sourceIds = new HashMap<>();
+        for (Iterator<StackObject> it = super.iterator(); it.hasNext();) {
+            StackObject object = it.next();
+            ids.put(object.getId(), object);
+            sourceIds.put(object.getSourceId(), object);
+        }
+        if (!ids.equals(objectsById) || !sourceIds.keySet().equals(objectsBySourceId.keySet())) {
+            throw new IllegalStateException("Stack index out of sync - stack: " + ids.keySet() + " / " + sourceIds.keySet()
+                    + " index: " + objectsById.keySet() + " / " + objectsBySourceId.keySet());
+        }
+    }
+
+    private class IndexedIterator implements Iterator<StackObject> {
+
+        private final Iterator<StackObject> iterator;
+        private StackObject last;
+
+        IndexedIterator(Iterator<StackObject> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public StackObject next() {
+            last = iterator.next();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+            indexRemoved(last);
+        }
+    }
+
     public Date getDateLastAdded() {
         return dateLastAdded;
     }
@@ -29,6 +29,7 @@ package mage.game.tournament;
 
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import mage.cards.Card;
 import mage.cards.ExpansionSet;
 import mage.cards.decks.Deck;
 import mage.constants.TournamentPlayerState;
@@ -421,24 +422,18 @@ public abstract class TournamentImpl implements Tournament {
                 for (int i = 0; i < options.getLimitedOptions().getNumberBoosters(); i++) {
                     player.getDeck().getSideboard().addAll(cube.createBooster());
                 }
-            } else {
-                for (ExpansionSet set : sets) {
-                    player.getDeck().getSideboard().addAll(set.createBooster());
-                }
             }
         }
-        resetBufferedCards();
-        nextStep();
-    }
-
-    public void resetBufferedCards() {
-        HashSet<ExpansionSet> setsDone = new HashSet<>();
-        for (ExpansionSet set : sets) {
-            if (!setsDone.contains(set)) {
-                set.removeSavedCards();
-                setsDone.add(set);
+        if (options.getLimitedOptions().getDraftCube() == null) {
+            // the boosters of all players are created at once
+            for (ExpansionSet set : sets) {
+                Iterator<List<Card>> boosters = set.createBoosters(players.size()).iterator();
+                for (TournamentPlayer player : this.players.values()) {
+                    player.getDeck().getSideboard().addAll(boosters.next());
+                }
             }
         }
+        nextStep();
     }
 
     public void playMatch(TournamentPairing pair) {
@@ -0,0 +1,322 @@
+package mage.util;
+
+import java.util.Arrays;
+
+/**
+ * Simple binary delta encoding of a byte array against a base byte array.
+ *
+ * The delta is a sequence of copy (offset and length into the base) and
+ * literal (new bytes) instructions. Matches are found by indexing the base in
+ * fixed blocks and scanning the target with a rolling hash, so data that was
+ * moved around between base and target is still found.
+ *
+ * Format: varint target length, then instructions, each a varint header
+ * (length << 1 | copy flag), followed by a varint offset for copies or the
+ * literal bytes.
+ */
+public final class ByteArrayDelta {
+
+    private static final int BLOCK_SIZE = 16;
+    private static final int HASH_BASE = 257;
+    private static final int HASH_POWER; // HASH_BASE ^ (BLOCK_SIZE - 1)
+
+    static {
+        int power = 1;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            power *= HASH_BASE;
+        }
+        HASH_POWER = power;
+    }
+
+    private ByteArrayDelta() {
+    }
+
+    public static byte[] encode(byte[] base, byte[] target) {
+        int[] index = buildIndex(base);
+        int mask = index.length - 1;
+        Output out = new Output(target.length / 8 + 16);
+        out.writeVarInt(target.length);
+
+        int literalStart = 0;
+        int pos = 0;
+        int hash = target.length >= BLOCK_SIZE ? hash(target, 0) : 0;
+        while (pos + BLOCK_SIZE <= target.length) {
+            int candidate = index[hash & mask] - 1;
+            if (candidate >= 0 && equalBlocks(base, candidate, target, pos)) {
+                // extend the match backwards into the pending literal and forwards as far as possible
+                int start = pos;
+                int baseStart = candidate;
+                while (start > literalStart && baseStart > 0 && base[baseStart - 1] == target[start - 1]) {
+                    start--;
+                    baseStart--;
+                }
+                int end = pos + BLOCK_SIZE;
+                int baseEnd = candidate + BLOCK_SIZE;
+                while (end < target.length && baseEnd < base.length && base[baseEnd] == target[end]) {
+                    end++;
+                    baseEnd++;
+                }
+                if (start > literalStart) {
+                    out.writeLiteral(target, literalStart, start - literalStart);
+                }
+                out.writeVarInt((end - start) << 1 | 1);
+                out.writeVarInt(baseStart);
+                pos = end;
+                literalStart = end;
+                if (pos + BLOCK_SIZE <= target.length) {
+                    hash = hash(target, pos);
+                }
+            } else {
+                if (pos + BLOCK_SIZE < target.length) {
+                    hash = (hash - target[pos] * HASH_POWER) * HASH_BASE + target[pos + BLOCK_SIZE];
+                }
+                pos++;
+            }
+        }
+        if (literalStart < target.length) {
+            out.writeLiteral(target, literalStart, target.length - literalStart);
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] decode(byte[] base, byte[] delta) {
+        int[] pos = new int[1];
+        byte[] target = new byte[readVarInt(delta, pos)];
+        int written = 0;
+        while (pos[0] < delta.length) {
+            int header = readVarInt(delta, pos);
+            int length = header >>> 1;
+            if ((header & 1) == 1) {
+                int offset = readVarInt(delta, pos);
+                System.arraycopy(base, offset, target, written, length);
+            } else {
+                System.arraycopy(delta, pos[0], target, written, length);
+                pos[0] += length;
+            }
+            written += length;
+        }
+        if (written != target.length) {
+            throw new IllegalArgumentException("Delta does not match its base (" + written + " of " + target.length + " bytes restored)");
+        }
+        return target;
+    }
+
+    /**
+     * Combines two consecutive deltas (base to middle and middle to target)
+     * into one delta from base to target, without the data itself.
+     *
+     * @param first delta from base to middle
+     * @param second delta from middle to target
+     * @return delta from base to target
+     */
+    public static byte[] compose(byte[] first, byte[] second) {
+        // instructions of the first delta in the coordinates of the middle data
+        int[] pos = new int[1];
+        int middleLength = readVarInt(first, pos);
+        int count = 0;
+        int[] starts = new int[16];
+        int[] headers = new int[16];
+        int[] offsets = new int[16];
+        int middlePos = 0;
+        while (pos[0] < first.length) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                headers = Arrays.copyOf(headers, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            int header = readVarInt(first, pos);
+            starts[count] = middlePos;
+            headers[count] = header;
+            if ((header & 1) == 1) {
+                offsets[count] = readVarInt(first, pos);
+            } else {
+                offsets[count] = pos[0];
+                pos[0] += header >>> 1;
+            }
+            middlePos += header >>> 1;
+            count++;
+        }
+        if (middlePos != middleLength) {
+            throw new IllegalArgumentException("Broken delta (" + middlePos + " of " + middleLength + " bytes)");
+        }
+
+        pos[0] = 0;
+        Composer out = new Composer(readVarInt(second, pos), second.length);
+        while (pos[0] < second.length) {
+            int header = readVarInt(second, pos);
+            int length = header >>> 1;
+            if ((header & 1) == 0) {
+                out.literal(second, pos[0], length);
+                pos[0] += length;
+                continue;
+            }
+            int offset = readVarInt(second, pos);
+            // the instruction of the first delta that covers the offset
+            int low = 0;
+            int high = count - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (starts[mid] <= offset) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            int i = low;
+            while (length > 0) {
+                int skip = offset - starts[i];
+                int part = Math.min(length, (headers[i] >>> 1) - skip);
+                if ((headers[i] & 1) == 1) {
+                    out.copy(offsets[i] + skip, part);
+                } else {
+                    out.literal(first, offsets[i] + skip, part);
+                }
+                offset += part;
+                length -= part;
+                i++;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static int[] buildIndex(byte[] base) {
+        int blocks = Math.max(1, base.length / BLOCK_SIZE);
+        int size = Integer.highestOneBit(blocks * 2 - 1) << 1;
+        int[] index = new int[size];
+        // later blocks are inserted first so that the earliest block wins on collisions
+        for (int offset = (base.length / BLOCK_SIZE - 1) * BLOCK_SIZE; offset >= 0; offset -= BLOCK_SIZE) {
+            index[hash(base, offset) & (size - 1)] = offset + 1;
+        }
+        return index;
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_BASE + data[i];
+        }
+        return hash;
+    }
+
+    private static boolean equalBlocks(byte[] base, int baseOffset, byte[] target, int targetOffset) {
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            if (base[baseOffset + i] != target[targetOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readVarInt(byte[] data, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Writes the instructions of a composed delta, joins adjacent literals and
+     * adjacent copies.
+     */
+    private static final class Composer {
+
+        private final Output out;
+        private final Output literal;
+        private int copyOffset;
+        private int copyLength;
+
+        Composer(int targetLength, int capacity) {
+            out = new Output(capacity + 16);
+            literal = new Output(64);
+            out.writeVarInt(targetLength);
+        }
+
+        void copy(int offset, int length) {
+            flushLiteral();
+            if (copyLength > 0 && copyOffset + copyLength == offset) {
+                copyLength += length;
+                return;
+            }
+            flushCopy();
+            copyOffset = offset;
+            copyLength = length;
+        }
+
+        void literal(byte[] data, int offset, int length) {
+            flushCopy();
+            literal.write(data, offset, length);
+        }
+
+        private void flushCopy() {
+            if (copyLength > 0) {
+                out.writeVarInt(copyLength << 1 | 1);
+                out.writeVarInt(copyOffset);
+                copyLength = 0;
+            }
+        }
+
+        private void flushLiteral() {
+            if (literal.size > 0) {
+                out.writeLiteral(literal.buffer, 0, literal.size);
+                literal.size = 0;
+            }
+        }
+
+        byte[] toByteArray() {
+            flushCopy();
+            flushLiteral();
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Output {
+
+        private byte[] buffer;
+        private int size;
+
+        Output(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((byte) value);
+        }
+
+        void writeLiteral(byte[] data, int offset, int length) {
+            writeVarInt(length << 1);
+            ensureCapacity(size + length);
+            System.arraycopy(data, offset, buffer, size, length);
+            size += length;
+        }
+
+        void write(byte[] data, int offset, int length) {
+            ensureCapacity(size + length);
+            System.arraycopy(data, offset, buffer, size, length);
+            size += length;
+        }
+
+        private void write(byte b) {
+            ensureCapacity(size + 1);
+            buffer[size++] = b;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+}
@@ -27,37 +27,65 @@
  */
 package mage.util;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
+import java.io.*;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.jar.JarEntry;
-import java.util.jar.JarInputStream;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 /**
+ * Finds the classes of a type in packages.
+ *
+ * A jar or class directory can contain an index of the classes of a type (see
+ * {@link #main(String[])}), then only the listed classes are loaded. All other
+ * locations are scanned for class files. The candidates are loaded in
+ * parallel without being initialized.
  *
  * @author North
  */
 public final class ClassScanner {
 
-    private static void checkClassForInclusion(List<Class> cards, Class type, String name, ClassLoader cl) {
+    public static final String INDEX_PATH = "META-INF/mage/classes/";
+
+    private static Class checkClassForInclusion(Class type, String name, ClassLoader cl) {
         try {
-            Class clazz = Class.forName(name, true, cl);
+            Class clazz = Class.forName(name, false, cl);
             if (clazz.getEnclosingClass() == null && type.isAssignableFrom(clazz)) {
-                cards.add(clazz);
+                return clazz;
             }
-        } catch (ClassNotFoundException ex) {
+        } catch (ClassNotFoundException | LinkageError ex) {
             // ignored
         }
+        return null;
     }
 
     public static List<Class> findClasses(ClassLoader classLoader, List<String> packages, Class<?> type) {
-        List<Class> cards = new ArrayList<>();
+        return findClasses(classLoader, packages, type, true);
+    }
+
+    private static List<Class> findClasses(ClassLoader classLoader, List<String> packages, Class<?> type, boolean useIndex) {
+        List<String> classNames = new ArrayList<>();
         try {
             if(classLoader == null) classLoader = Thread.currentThread().getContextClassLoader();
             assert classLoader != null;
+            final ClassLoader cl = classLoader;
+
+            // indexed locations, jar paths or class directories
+            Set<String> indexed = new HashSet<>();
+            if (useIndex) {
+                String indexName = INDEX_PATH + type.getName();
+                Enumeration<URL> indexes = classLoader.getResources(indexName);
+                while (indexes.hasMoreElements()) {
+                    URL index = indexes.nextElement();
+                    String location = getLocation(index.getFile(), indexName);
+                    if (location != null && indexed.add(location)) {
+                        classNames.addAll(readIndex(index, packages));
+                    }
+                }
+            }
 
             HashMap<String, String> dirs = new HashMap<>();
             TreeSet<String> jars = new TreeSet<>();
@@ -68,6 +96,9 @@ public final class ClassScanner {
                 while (resources.hasMoreElements()) {
                     URL resource = resources.nextElement();
                     String filePath = resource.getFile();
+                    if (indexed.contains(getLocation(filePath, path))) {
+                        continue;
+                    }
                     if (filePath.startsWith("file:")) {
                         filePath = filePath.substring("file:".length(), filePath.lastIndexOf('!'));
                         jars.add(filePath);
@@ -78,51 +109,118 @@ public final class ClassScanner {
             }
 
             for (String filePath : dirs.keySet()) {
-                cards.addAll(findClasses(classLoader, new File(filePath), dirs.get(filePath), type));
+                classNames.addAll(findClasses(new File(filePath), dirs.get(filePath)));
             }
 
             for (String filePath : jars) {
                 File file = new File(URLDecoder.decode(filePath, "UTF-8"));
-                cards.addAll(findClassesInJar(classLoader, file, packages, type));
+                classNames.addAll(findClassesInJar(file, packages));
             }
+
+            return classNames.parallelStream()
+                    .map(name -> checkClassForInclusion(type, name, cl))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
         } catch (IOException ex) {
         }
-        return cards;
+        return new ArrayList<>();
     }
 
-    private static List<Class> findClasses(ClassLoader classLoader, File directory, String packageName, Class<?> type) {
-        List<Class> cards = new ArrayList<>();
-        if (!directory.exists()) return cards;
+    /**
+     * @param filePath file of a resource URL
+     * @param resourceName
+     * @return the jar or class directory of the resource
+     */
+    private static String getLocation(String filePath, String resourceName) {
+        if (filePath.startsWith("file:")) {
+            int end = filePath.lastIndexOf('!');
+            return end < 0 ? null : filePath.substring("file:".length(), end);
+        }
+        if (filePath.endsWith(resourceName)) {
+            return filePath.substring(0, filePath.length() - resourceName.length());
+        }
+        return null;
+    }
+
+    private static List<String> readIndex(URL index, List<String> packages) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            String className;
+            while ((className = reader.readLine()) != null) {
+                int packageNameEnd = className.lastIndexOf('.');
+                String packageName = packageNameEnd != -1 ? className.substring(0, packageNameEnd) : "";
+                if (packages.contains(packageName)) {
+                    classNames.add(className);
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static List<String> findClasses(File directory, String packageName) {
+        List<String> classNames = new ArrayList<>();
+        if (!directory.exists()) return classNames;
 
         for (File file : directory.listFiles()) {
             if (file.getName().endsWith(".class")) {
-                String name = packageName + '.' + file.getName().substring(0, file.getName().length() - 6);
-                checkClassForInclusion(cards, type, name, classLoader);
+                classNames.add(packageName + '.' + file.getName().substring(0, file.getName().length() - 6));
             }
         }
-        return cards;
+        return classNames;
     }
 
-    private static List<Class> findClassesInJar(ClassLoader classLoader, File file, List<String> packages, Class<?> type) {
-        List<Class> cards = new ArrayList<>();
-        if (!file.exists()) return cards;
-
+    private static List<String> findClassesInJar(File file, List<String> packages) {
+        List<String> classNames = new ArrayList<>();
+        if (!file.exists()) return classNames;
 
-        try(JarInputStream jarFile = new JarInputStream(new FileInputStream(file))) {
-            while (true) {
-                JarEntry jarEntry = jarFile.getNextJarEntry();
-                if (jarEntry == null) {
-                    break;
-                }
+        // the central directory of the jar is enough, the entries don't have to be read
+        try (JarFile jarFile = new JarFile(file)) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry jarEntry = entries.nextElement();
                 if (jarEntry.getName().endsWith(".class")) {
                     String className = jarEntry.getName().replace(".class", "").replace('/', '.');
                     int packageNameEnd = className.lastIndexOf('.');
                     String packageName = packageNameEnd != -1 ? className.substring(0, packageNameEnd) : "";
-                    if (packages.contains(packageName)) checkClassForInclusion(cards, type, className, classLoader);
+                    if (packages.contains(packageName)) classNames.add(className);
                 }
             }
         } catch (IOException ex) {
         }
-        return cards;
+        return classNames;
+    }
+
+    /**
+     * Writes the index of the classes of a type, called by the build of a
+     * module after its classes are compiled.
+     *
+     * @param args the class directory of the module, the type and the packages
+     * to scan
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: ClassScanner <class directory> <type> <package>...");
+            System.exit(2);
+        }
+        File directory = new File(args[0]);
+        Class<?> type = Class.forName(args[1]);
+        List<String> packages = Arrays.asList(args).subList(2, args.length);
+        File index = new File(directory, INDEX_PATH + type.getName());
+        index.getParentFile().mkdirs();
+        String location = directory.getCanonicalPath();
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(index), StandardCharsets.UTF_8))) {
+            int count = 0;
+            for (Class clazz : findClasses(null, packages, type, false)) {
+                // only the classes of the module itself
+                URL classFile = clazz.getResource('/' + clazz.getName().replace('.', '/') + ".class");
+                if (classFile != null && "file".equals(classFile.getProtocol())
+                        && new File(URLDecoder.decode(classFile.getFile(), "UTF-8")).getCanonicalPath().startsWith(location)) {
+                    out.println(clazz.getName());
+                    count++;
+                }
+            }
+            System.out.println("Index of " + count + " classes of " + type.getName() + " written to " + index);
+        }
     }
 }
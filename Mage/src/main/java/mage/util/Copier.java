@@ -71,6 +71,43 @@ public class Copier<T> {
 
     }
 
+    /**
+     * Serializes the object to a byte array
+     *
+     * @param obj
+     * @return the serialized object or null if it could not be serialized
+     */
+    public byte[] serialize(T obj) {
+        try {
+            FastByteArrayOutputStream fbos = new FastByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(fbos)) {
+                out.writeObject(obj);
+            }
+            byte[] data = new byte[fbos.getSize()];
+            System.arraycopy(fbos.getByteArray(), 0, data, 0, fbos.getSize());
+            return data;
+        }
+        catch(IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Deserializes an object serialized by {@link #serialize(Object)}
+     *
+     * @param buffer
+     * @return
+     * @throws IllegalStateException if the object could not be deserialized
+     */
+    public T deserialize(byte[] buffer) {
+        try (ObjectInputStream in = new CopierObjectInputStream(loader, new ByteArrayInputStream(buffer))) {
+            return (T) in.readObject();
+        }
+        catch(IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Can't deserialize object", e);
+        }
+    }
+
     public byte[] copyCompressed(T obj) {
         try {
             FastByteArrayOutputStream fbos = new FastByteArrayOutputStream();
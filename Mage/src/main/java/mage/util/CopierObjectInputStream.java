@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamClass;
+import mage.cards.repository.PluginClassloaderRegistery;
 
 /**
  *
@@ -48,16 +49,18 @@ public class CopierObjectInputStream extends ObjectInputStream {
     @Override
     protected Class resolveClass(ObjectStreamClass osc) throws IOException, ClassNotFoundException
     {
-        Class theClass = null;
-
         try {
-            theClass = Class.forName(osc.getName(), true, myLoader);
+            return Class.forName(osc.getName(), true, myLoader);
         }
-        catch (Exception e) {
-            e.printStackTrace();
+        catch (ClassNotFoundException e) {
+            // classes of custom sets are only known by their plugin classloaders
+        }
+        try {
+            return PluginClassloaderRegistery.forName(osc.getName());
+        }
+        catch (ClassNotFoundException e) {
+            return super.resolveClass(osc);
         }
-
-        return theClass;
     }
 
 }
@@ -0,0 +1,171 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A HashMap wrapper whose copy() is O(1): the copy and the original share the
+ * backing map until one of them is modified, at which point the modifying side
+ * takes a private copy of the backing map.
+ *
+ * The values are shared between copies, so only use it for immutable values
+ * (or values that are intentionally shared between game states like the
+ * copied cards).
+ *
+ * Copies may be taken by several threads at once, they only count up the
+ * copies of the original. Changing a map while it is copied is not
+ * supported.
+ *
+ * The collection views are read only, all modifications have to go through the
+ * map methods so the backing map can be detached first.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class CopyOnWriteHashMap<K, V> implements Map<K, V>, Serializable, Copyable<CopyOnWriteHashMap<K, V>> {
+
+    private HashMap<K, V> map;
+    // the backing map was taken from another map
+    private boolean shared;
+    // number of copies taken from this map, the backing map is shared if it changed since the map got its backing map
+    private final AtomicInteger copies = new AtomicInteger();
+    private int copiesOfMap;
+
+    public CopyOnWriteHashMap() {
+        this.map = new HashMap<>();
+    }
+
+    public CopyOnWriteHashMap(final CopyOnWriteHashMap<K, V> other) {
+        this.map = other.map;
+        this.shared = true;
+        other.copies.incrementAndGet();
+    }
+
+    @Override
+    public CopyOnWriteHashMap<K, V> copy() {
+        return new CopyOnWriteHashMap<>(this);
+    }
+
+    /**
+     * @return true if the backing map is (possibly) still used by another copy
+     */
+    public boolean isShared() {
+        return shared || copies.get() != copiesOfMap;
+    }
+
+    private HashMap<K, V> writable() {
+        if (isShared()) {
+            detach(new HashMap<>(map));
+        }
+        return map;
+    }
+
+    private void detach(HashMap<K, V> newMap) {
+        map = newMap;
+        shared = false;
+        copiesOfMap = copies.get();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return map.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return writable().put(key, value);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        V current = map.get(key);
+        if (current != null) {
+            return current;
+        }
+        return writable().putIfAbsent(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!map.containsKey(key)) {
+            return null;
+        }
+        return writable().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        if (!m.isEmpty()) {
+            writable().putAll(m);
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (isShared()) {
+            detach(new HashMap<>());
+        } else {
+            map.clear();
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(map.values());
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(map).entrySet();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return map.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package mage.util;
+
+/**
+ * Hook for the server to release what a game thread holds (its slot of the
+ * running games) while the game waits for the answer of a human player.
+ *
+ * A player that waits for an answer calls {@link #waitStarted()} before and
+ * {@link #waitEnded()} after the wait from the game thread. Without a listener
+ * (e.g. tests and simulations) the calls do nothing.
+ */
+public final class GameThreads {
+
+    public interface WaitListener {
+
+        /**
+         * The game of the current thread starts to wait for a player.
+         */
+        void waitStarted();
+
+        /**
+         * The game of the current thread continues, may block until the game
+         * can run again.
+         */
+        void waitEnded();
+    }
+
+    private static volatile WaitListener waitListener;
+
+    private GameThreads() {
+    }
+
+    public static void setWaitListener(WaitListener listener) {
+        waitListener = listener;
+    }
+
+    public static void waitStarted() {
+        WaitListener listener = waitListener;
+        if (listener != null) {
+            listener.waitStarted();
+        }
+    }
+
+    public static void waitEnded() {
+        WaitListener listener = waitListener;
+        if (listener != null) {
+            listener.waitEnded();
+        }
+    }
+}
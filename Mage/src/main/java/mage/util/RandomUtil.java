@@ -8,18 +8,37 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public final class RandomUtil {
 
+    // set for threads that have to repeat their random values (e.g. simulated games)
+    private static final ThreadLocal<Random> seededRandom = new ThreadLocal<>();
 
-    public static Random getRandom() {return ThreadLocalRandom.current();}
+    public static Random getRandom() {
+        Random random = seededRandom.get();
+        return random != null ? random : ThreadLocalRandom.current();
+    }
 
     public static int nextInt() {
-        return ThreadLocalRandom.current().nextInt();
+        return getRandom().nextInt();
     }
 
     public static int nextInt(int max) {
-        return ThreadLocalRandom.current().nextInt(max);
+        return getRandom().nextInt(max);
     }
 
     public static boolean nextBoolean() {
-        return ThreadLocalRandom.current().nextBoolean();
+        return getRandom().nextBoolean();
+    }
+
+    /**
+     * The random values of the current thread are taken from a random
+     * generator with the given seed until {@link #clearSeed()} is called.
+     *
+     * @param seed
+     */
+    public static void setSeed(long seed) {
+        seededRandom.set(new Random(seed));
+    }
+
+    public static void clearSeed() {
+        seededRandom.remove();
     }
 }
@@ -0,0 +1,32 @@
+package mage.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of the texts of the card definitions (names, rules, mana costs, types),
+ * so equal texts of different cards (e.g. reprints in many sets) are kept only
+ * once for the whole server run.
+ *
+ * Only used when the card definitions are loaded. This saves heap of the card
+ * catalog, not of the games: the cards of a game already reference the texts
+ * of their definition, the card objects themselves are created for each game.
+ */
+public final class SharedStrings {
+
+    private static final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+
+    private SharedStrings() {
+    }
+
+    /**
+     * @param value
+     * @return the pooled string equal to the value
+     */
+    public static String share(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = strings.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+}
@@ -0,0 +1,70 @@
+package mage.util;
+
+import java.util.UUID;
+
+/**
+ * Helpers to build 64 bit (Zobrist style) hashes of game state parts without
+ * building strings.
+ *
+ * Every part of the state is mapped to a well mixed 64 bit key. Ordered parts
+ * (e.g. the stack) are chained with {@link #combine(long, long)}, unordered
+ * parts (e.g. the permanents on the battlefield or the cards in a graveyard)
+ * are summed up, so the result does not depend on the iteration order and
+ * equal objects (e.g. two Forests) don't cancel each other out like they would
+ * with XOR.
+ *
+ * The hashes are only stable within the running JVM (String and enum based
+ * keys), so don't persist them.
+ */
+public final class StateHash {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private StateHash() {
+    }
+
+    /**
+     * Finalizer of the SplitMix64 generator, spreads every input bit over the
+     * whole result.
+     *
+     * @param value
+     * @return
+     */
+    public static long mix(long value) {
+        long z = value + GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Chains an ordered part to the hash.
+     *
+     * @param hash
+     * @param value
+     * @return
+     */
+    public static long combine(long hash, long value) {
+        return mix(hash * 31 + value);
+    }
+
+    public static long of(boolean value) {
+        return value ? mix(1) : mix(2);
+    }
+
+    public static long of(int value) {
+        return mix(value);
+    }
+
+    public static long of(String value) {
+        return value == null ? 0 : mix(value.hashCode());
+    }
+
+    public static long of(UUID value) {
+        return value == null ? 0 : mix(value.getMostSignificantBits() ^ mix(value.getLeastSignificantBits()));
+    }
+
+    public static long of(Enum<?> value) {
+        return value == null ? 0 : mix(((long) value.getDeclaringClass().getName().hashCode() << 32) + value.ordinal());
+    }
+}
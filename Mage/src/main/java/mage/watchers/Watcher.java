@@ -28,6 +28,7 @@
 package mage.watchers;
 
 import java.io.Serializable;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -98,6 +99,17 @@ public abstract class Watcher implements Serializable {
 
     public abstract void watch(GameEvent event, Game game);
 
+    /**
+     * Event types watch does something for. If declared, watch is only called
+     * for events of these types. The returned types must not change during
+     * the lifetime of the watcher object.
+     *
+     * @return the event types or null if watch has to be called for all events
+     */
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return null;
+    }
+
     public abstract Watcher copy();
 
 }
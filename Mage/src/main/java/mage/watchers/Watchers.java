@@ -27,7 +27,12 @@
  */
 package mage.watchers;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -38,6 +43,11 @@ import mage.game.events.GameEvent;
  */
 public class Watchers extends HashMap<String, Watcher> {
 
+    // watchers by the event types they declare, so watch is only called for interested watchers
+    private final Map<GameEvent.EventType, List<Watcher>> byEventType = new EnumMap<>(GameEvent.EventType.class);
+    // watchers without declared event types, they watch all events
+    private final List<Watcher> forAllEventTypes = new ArrayList<>();
+
     public Watchers() {
     }
 
@@ -50,12 +60,67 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void add(Watcher watcher) {
-        putIfAbsent(watcher.getKey(), watcher);
+        if (!containsKey(watcher.getKey())) {
+            put(watcher.getKey(), watcher);
+        }
+    }
+
+    @Override
+    public Watcher put(String key, Watcher watcher) {
+        Watcher old = super.put(key, watcher);
+        if (old != null) {
+            removeFromIndex(old);
+        }
+        Set<GameEvent.EventType> eventTypes = watcher.getWatchedEventTypes();
+        if (eventTypes == null) {
+            forAllEventTypes.add(watcher);
+        } else {
+            for (GameEvent.EventType eventType : eventTypes) {
+                byEventType.computeIfAbsent(eventType, type -> new ArrayList<>()).add(watcher);
+            }
+        }
+        return old;
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        Watcher old = super.remove(key);
+        if (old != null) {
+            removeFromIndex(old);
+        }
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        byEventType.clear();
+        forAllEventTypes.clear();
+    }
+
+    private void removeFromIndex(Watcher watcher) {
+        Set<GameEvent.EventType> eventTypes = watcher.getWatchedEventTypes();
+        if (eventTypes == null) {
+            forAllEventTypes.remove(watcher);
+        } else {
+            for (GameEvent.EventType eventType : eventTypes) {
+                List<Watcher> interested = byEventType.get(eventType);
+                if (interested != null) {
+                    interested.remove(watcher);
+                }
+            }
+        }
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
-            watcher.watch(event, game);
+        List<Watcher> interested = byEventType.get(event.getType());
+        if (interested != null) {
+            for (int i = 0; i < interested.size(); i++) {
+                interested.get(i).watch(event, game);
+            }
+        }
+        for (int i = 0; i < forAllEventTypes.size(); i++) {
+            forAllEventTypes.get(i).watch(event, game);
         }
     }
 
@@ -27,6 +27,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import mage.MageObjectReference;
@@ -58,6 +59,11 @@ public class AttackedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     public Set<MageObjectReference> getAttackedThisTurnCreatures() {
         return this.attackedThisTurnCreatures;
     }
@@ -1,7 +1,9 @@
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -44,6 +46,11 @@ public class FirstSpellCastThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST, GameEvent.EventType.CAST_SPELL);
+    }
+
     @Override
     public FirstSpellCastThisTurnWatcher copy() {
         return new FirstSpellCastThisTurnWatcher(this);
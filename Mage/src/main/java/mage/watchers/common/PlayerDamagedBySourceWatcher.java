@@ -27,6 +27,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -70,6 +71,11 @@ public class PlayerDamagedBySourceWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER);
+    }
+
     /**
      * Checks if the current object with sourceId has damaged the player during the current turn.
      * The zoneChangeCounter will be taken into account.
@@ -68,6 +68,11 @@ public class SourceDidDamageWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_CREATURE, EventType.DAMAGED_PLANESWALKER, EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void reset() {
         super.reset();
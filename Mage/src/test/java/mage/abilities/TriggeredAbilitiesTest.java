@@ -0,0 +1,174 @@
+package mage.abilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for the event type index of {@link TriggeredAbilities}.
+ */
+public class TriggeredAbilitiesTest {
+
+    private final List<String> checked = new ArrayList<>();
+
+    @Test
+    public void shouldCheckDeclaredAndAllTypesAbilities() {
+        // given
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("zone", new TestTriggeredAbility("zone", checked, EnumSet.of(EventType.ZONE_CHANGE)));
+        abilities.put("all", new TestTriggeredAbility("all", checked, null));
+        abilities.put("both", new TestTriggeredAbility("both", checked, EnumSet.of(EventType.ZONE_CHANGE, EventType.DAMAGED_PLAYER)));
+
+        // when, then
+        assertChecked(abilities, EventType.ZONE_CHANGE, "zone", "all", "both");
+        assertChecked(abilities, EventType.DAMAGED_PLAYER, "all", "both");
+        assertChecked(abilities, EventType.UPKEEP_STEP_PRE, "all");
+    }
+
+    @Test
+    public void shouldNotCheckRemovedAbilities() {
+        // given
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("zone", new TestTriggeredAbility("zone", checked, EnumSet.of(EventType.ZONE_CHANGE)));
+        abilities.put("all", new TestTriggeredAbility("all", checked, null));
+
+        // when
+        abilities.remove("zone");
+        abilities.remove("all");
+
+        // then
+        Assert.assertTrue(abilities.isEmpty());
+        assertChecked(abilities, EventType.ZONE_CHANGE);
+    }
+
+    @Test
+    public void shouldReplaceAbilityOfSameKey() {
+        // given
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("key", new TestTriggeredAbility("old", checked, EnumSet.of(EventType.ZONE_CHANGE)));
+
+        // when
+        abilities.put("key", new TestTriggeredAbility("new", checked, EnumSet.of(EventType.DAMAGED_PLAYER)));
+
+        // then
+        assertChecked(abilities, EventType.ZONE_CHANGE);
+        assertChecked(abilities, EventType.DAMAGED_PLAYER, "new");
+    }
+
+    @Test
+    public void shouldRemoveAbilitiesOfSource() {
+        // given
+        UUID sourceId = UUID.randomUUID();
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("a_" + sourceId, new TestTriggeredAbility("source", checked, EnumSet.of(EventType.ZONE_CHANGE)));
+        abilities.put("b_" + UUID.randomUUID(), new TestTriggeredAbility("other", checked, EnumSet.of(EventType.ZONE_CHANGE)));
+
+        // when
+        abilities.removeAbilitiesOfSource(sourceId);
+
+        // then
+        assertChecked(abilities, EventType.ZONE_CHANGE, "other");
+    }
+
+    @Test
+    public void shouldIndexCopy() {
+        // given
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("zone", new TestTriggeredAbility("zone", checked, EnumSet.of(EventType.ZONE_CHANGE)));
+        abilities.put("all", new TestTriggeredAbility("all", checked, null));
+
+        // when
+        TriggeredAbilities copy = abilities.copy();
+        copy.remove("zone");
+
+        // then
+        assertChecked(copy, EventType.ZONE_CHANGE, "all");
+        assertChecked(abilities, EventType.ZONE_CHANGE, "zone", "all");
+    }
+
+    @Test
+    public void shouldNotCheckAfterClear() {
+        // given
+        TriggeredAbilities abilities = new TriggeredAbilities();
+        abilities.put("zone", new TestTriggeredAbility("zone", checked, EnumSet.of(EventType.ZONE_CHANGE)));
+        abilities.put("all", new TestTriggeredAbility("all", checked, null));
+
+        // when
+        abilities.clear();
+        abilities.put("new", new TestTriggeredAbility("new", checked, EnumSet.of(EventType.ZONE_CHANGE)));
+
+        // then
+        assertChecked(abilities, EventType.ZONE_CHANGE, "new");
+    }
+
+    private void assertChecked(TriggeredAbilities abilities, EventType eventType, String... expected) {
+        checked.clear();
+        abilities.checkTriggers(GameEvent.getEvent(eventType, UUID.randomUUID(), null), null);
+        List<String> actual = new ArrayList<>(checked);
+        Collections.sort(actual);
+        List<String> expectedList = new ArrayList<>(Arrays.asList(expected));
+        Collections.sort(expectedList);
+        Assert.assertEquals(expectedList, actual);
+    }
+
+    /**
+     * Records the checks of its event type and never triggers, so the game is
+     * not used.
+     */
+    private static class TestTriggeredAbility extends TriggeredAbilityImpl {
+
+        private final String name;
+        private final List<String> checked;
+        private final Set<EventType> eventTypes;
+
+        TestTriggeredAbility(String name, List<String> checked, Set<EventType> eventTypes) {
+            super(Zone.BATTLEFIELD, null);
+            this.name = name;
+            this.checked = checked;
+            this.eventTypes = eventTypes;
+        }
+
+        TestTriggeredAbility(final TestTriggeredAbility ability) {
+            super(ability);
+            this.name = ability.name;
+            this.checked = ability.checked;
+            this.eventTypes = ability.eventTypes;
+        }
+
+        @Override
+        public Set<EventType> getTriggerEventTypes() {
+            return eventTypes;
+        }
+
+        @Override
+        public boolean checkEventType(GameEvent event, Game game) {
+            checked.add(name);
+            return false;
+        }
+
+        @Override
+        public boolean checkTrigger(GameEvent event, Game game) {
+            return false;
+        }
+
+        @Override
+        public String getRule() {
+            return name;
+        }
+
+        @Override
+        public TestTriggeredAbility copy() {
+            return new TestTriggeredAbility(this);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package mage.abilities.mana;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import mage.Mana;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ManaOptions}: the packed mana vector versions
+ * of the union and of removeDuplicated must give the same options in the same
+ * order as the Mana object versions.
+ */
+public class ManaOptionsUnionTest {
+
+    private static final int RUNS = 500;
+
+    @Test
+    public void shouldGiveSameUnionAsManaObjects() {
+        Random random = new Random(42);
+        for (int run = 0; run < RUNS; run++) {
+            // given
+            List<Mana> copy = randomManas(random, 1 + random.nextInt(6), 4);
+            List<Mana> netManas = randomManas(random, 2 + random.nextInt(4), 2);
+
+            // when
+            ManaOptions packed = new ManaOptions();
+            boolean isPacked = packed.addManaUnion(copy, netManas);
+            ManaOptions objects = new ManaOptions();
+            objects.addManaUnionByMana(copy, netManas);
+
+            // then
+            Assert.assertTrue(isPacked);
+            assertSameOptions(objects, packed);
+        }
+    }
+
+    @Test
+    public void shouldNotPackBigAmounts() {
+        // given
+        List<Mana> copy = new ArrayList<>();
+        copy.add(new Mana(0, 64, 0, 0, 0, 0, 0, 0));
+        List<Mana> netManas = new ArrayList<>();
+        netManas.add(Mana.RedMana(1));
+        netManas.add(Mana.GreenMana(1));
+
+        // when
+        ManaOptions options = new ManaOptions();
+        boolean isPacked = options.addManaUnion(copy, netManas);
+
+        // then
+        Assert.assertFalse(isPacked);
+        Assert.assertTrue(options.isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveSameDuplicatesAsStrings() {
+        Random random = new Random(7);
+        for (int run = 0; run < RUNS; run++) {
+            // given
+            List<Mana> manas = randomManas(random, random.nextInt(12), 2);
+            ManaOptions packed = new ManaOptions();
+            ManaOptions strings = new ManaOptions();
+            for (Mana mana : manas) {
+                packed.add(mana.copy());
+                strings.add(mana.copy());
+            }
+
+            // when
+            packed.removeDuplicated();
+            strings.removeDuplicatedByString();
+
+            // then
+            assertSameOptions(strings, packed);
+        }
+    }
+
+    private static List<Mana> randomManas(Random random, int count, int maxAmount) {
+        List<Mana> manas = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            manas.add(new Mana(random.nextInt(maxAmount), random.nextInt(maxAmount), random.nextInt(maxAmount),
+                    random.nextInt(maxAmount), random.nextInt(maxAmount), random.nextInt(maxAmount),
+                    random.nextInt(2), random.nextInt(maxAmount)));
+        }
+        return manas;
+    }
+
+    private static void assertSameOptions(List<Mana> expected, List<Mana> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertTrue(expected.get(i) + " != " + actual.get(i), expected.get(i).equalManaValue(actual.get(i)));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package mage.cards.repository;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+
+/**
+ * Custom unit tests for {@link CardCatalog} and the filtering of
+ * {@link CardCriteria}
+ */
+public class CardCatalogTest {
+
+    private final CardCatalog catalog = new CardCatalog(Arrays.asList(
+            card("Grizzly Bears", "M10", "175", Rarity.COMMON, 2, CardType.CREATURE, "G"),
+            card("Lightning Bolt", "M10", "146", Rarity.COMMON, 1, CardType.INSTANT, "R"),
+            card("Serra Angel", "M10", "32", Rarity.UNCOMMON, 5, CardType.CREATURE, "W"),
+            card("Ornithopter", "M10", "210", Rarity.UNCOMMON, 0, CardType.ARTIFACT, ""),
+            card("Forest", "M10", "246", Rarity.LAND, 0, CardType.LAND, ""),
+            card("Fire // Ice", "APC", "128", Rarity.UNCOMMON, 4, CardType.INSTANT, "RU"),
+            card("Grizzly Bears", "LEA", "196", Rarity.COMMON, 2, CardType.CREATURE, "G"),
+            night(card("Insectile Aberration", "ISD", "51b", Rarity.COMMON, 0, CardType.CREATURE, "U"))
+    ));
+
+    @Test
+    public void shouldFindCardsByName() {
+        assertEquals(2, catalog.findCards("Grizzly Bears").size());
+        assertEquals(2, catalog.findCardsCaseInsensitive("grizzly BEARS").size());
+        assertTrue(catalog.findCards("Grizzly").isEmpty());
+
+        assertEquals("146", catalog.findCard("M10", "146").getCardNumber());
+        assertNull("night cards are not found by number", catalog.findCard("ISD", "51b"));
+    }
+
+    @Test
+    public void shouldListNames() {
+        assertTrue(catalog.getNames().containsAll(Arrays.asList("Fire", "Ice", "Forest", "Insectile Aberration")));
+        assertFalse(catalog.getNonLandNames().contains("Forest"));
+        assertEquals(Arrays.asList("Grizzly Bears", "Insectile Aberration", "Serra Angel"), names(catalog.getCreatureNames()));
+        assertEquals(Arrays.asList("Fire", "Grizzly Bears", "Ice", "Insectile Aberration", "Lightning Bolt", "Serra Angel"),
+                names(catalog.getNonArtifactAndNonLandNames()));
+    }
+
+    @Test
+    public void shouldFilterByCriteria() {
+        assertEquals(Arrays.asList("Grizzly Bears", "Lightning Bolt", "Serra Angel", "Ornithopter", "Forest", "Fire // Ice", "Grizzly Bears"),
+                cardNames(new CardCriteria()));
+
+        assertEquals(Arrays.asList("Grizzly Bears", "Serra Angel", "Grizzly Bears"),
+                cardNames(new CardCriteria().types(CardType.CREATURE)));
+        assertEquals(Arrays.asList("Lightning Bolt", "Ornithopter", "Fire // Ice"),
+                cardNames(new CardCriteria().notTypes(CardType.CREATURE, CardType.LAND)));
+        assertEquals(Arrays.asList("Serra Angel", "Ornithopter"),
+                cardNames(new CardCriteria().setCodes("M10").rarities(Rarity.UNCOMMON)));
+        assertEquals(Arrays.asList("Grizzly Bears", "Grizzly Bears"),
+                cardNames(new CardCriteria().convertedManaCost(2)));
+        assertEquals(Arrays.asList("Lightning Bolt", "Fire // Ice"),
+                cardNames(new CardCriteria().name("i").types(CardType.INSTANT)));
+        assertEquals(Arrays.asList("Fire // Ice"),
+                cardNames(new CardCriteria().nameExact("Fire // Ice")));
+        assertEquals(Arrays.asList("Grizzly Bears", "Grizzly Bears"),
+                cardNames(new CardCriteria().nameExact("Grizzly%")));
+    }
+
+    @Test
+    public void shouldFilterByColor() {
+        assertEquals(Arrays.asList("Lightning Bolt", "Ornithopter", "Forest", "Fire // Ice"),
+                cardNames(new CardCriteria().black(false).green(false).white(false).blue(false)));
+        assertEquals(Arrays.asList("Fire // Ice"),
+                cardNames(new CardCriteria().black(false).green(false).white(false).red(false).colorless(false)));
+    }
+
+    @Test
+    public void shouldSortAndLimit() {
+        assertEquals(Arrays.asList("Fire // Ice", "Forest", "Grizzly Bears"),
+                cardNames(new CardCriteria().setOrderBy("name").count(3L)));
+        assertEquals(Arrays.asList("Grizzly Bears", "Lightning Bolt"),
+                cardNames(new CardCriteria().setOrderBy("name").start(3L).count(2L)));
+        assertEquals(Arrays.asList("Lightning Bolt", "Grizzly Bears", "Serra Angel"),
+                cardNames(new CardCriteria().setCodes("M10").minCardNumber(30).maxCardNumber(200).setOrderBy("convertedManaCost")));
+    }
+
+    private List<String> cardNames(CardCriteria criteria) {
+        return criteria.filter(catalog).stream().map(CardInfo::getName).collect(Collectors.toList());
+    }
+
+    private static List<String> names(Collection<String> names) {
+        return new ArrayList<>(names);
+    }
+
+    private static CardInfo card(String name, String setCode, String cardNumber, Rarity rarity, int convertedManaCost, CardType type, String colors) {
+        CardInfo card = new CardInfo();
+        card.name = name;
+        card.setCode = setCode;
+        card.cardNumber = cardNumber;
+        card.className = "mage.cards." + setCode.toLowerCase() + '.' + name.replaceAll("[^A-Za-z]", "");
+        card.rarity = rarity;
+        card.convertedManaCost = convertedManaCost;
+        card.setTypes(EnumSet.of(type));
+        card.supertypes = "";
+        card.subtypes = "";
+        card.rules = "";
+        card.black = colors.contains("B");
+        card.blue = colors.contains("U");
+        card.green = colors.contains("G");
+        card.red = colors.contains("R");
+        card.white = colors.contains("W");
+        return card;
+    }
+
+    private static CardInfo night(CardInfo card) {
+        card.nightCard = true;
+        return card;
+    }
+}
@@ -0,0 +1,100 @@
+package mage.util;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Custom unit tests for {@link ByteArrayDelta}
+ */
+public class ByteArrayDeltaTest {
+
+    @Test
+    public void shouldRestoreUnchangedData() {
+        // given
+        byte[] base = randomBytes(10000, 1);
+
+        // when
+        byte[] delta = ByteArrayDelta.encode(base, base);
+
+        // then
+        assertArrayEquals(base, ByteArrayDelta.decode(base, delta));
+        assertTrue(delta.length < 20);
+    }
+
+    @Test
+    public void shouldRestoreChangedData() {
+        // given
+        byte[] base = randomBytes(10000, 2);
+        byte[] target = new byte[base.length + 100];
+        System.arraycopy(base, 0, target, 0, 3000);
+        System.arraycopy(randomBytes(100, 3), 0, target, 3000, 100);
+        System.arraycopy(base, 3000, target, 3100, base.length - 3000);
+        target[8000] = (byte) (target[8000] + 1);
+
+        // when
+        byte[] delta = ByteArrayDelta.encode(base, target);
+
+        // then
+        assertArrayEquals(target, ByteArrayDelta.decode(base, delta));
+        assertTrue(delta.length < 200);
+    }
+
+    @Test
+    public void shouldRestoreUnrelatedData() {
+        // given
+        byte[] base = randomBytes(500, 4);
+        byte[] target = randomBytes(700, 5);
+
+        // when
+        byte[] delta = ByteArrayDelta.encode(base, target);
+
+        // then
+        assertArrayEquals(target, ByteArrayDelta.decode(base, delta));
+    }
+
+    @Test
+    public void shouldRestoreSmallData() {
+        // given
+        byte[] base = new byte[]{1, 2, 3};
+        byte[] target = new byte[]{1, 2, 3, 4};
+
+        // when
+        byte[] delta = ByteArrayDelta.encode(base, target);
+
+        // then
+        assertArrayEquals(target, ByteArrayDelta.decode(base, delta));
+        assertArrayEquals(new byte[0], ByteArrayDelta.decode(base, ByteArrayDelta.encode(base, new byte[0])));
+    }
+
+    @Test
+    public void shouldComposeDeltas() {
+        // given
+        byte[] base = randomBytes(5000, 6);
+        byte[] middle = new byte[base.length + 50];
+        System.arraycopy(randomBytes(50, 7), 0, middle, 0, 50);
+        System.arraycopy(base, 0, middle, 50, base.length);
+        middle[2000] = (byte) (middle[2000] + 1);
+        byte[] target = new byte[middle.length - 1000];
+        System.arraycopy(middle, 0, target, 0, 1000);
+        System.arraycopy(middle, 2000, target, 1000, middle.length - 2000);
+        target[10] = (byte) (target[10] + 1);
+
+        // when
+        byte[] first = ByteArrayDelta.encode(base, middle);
+        byte[] second = ByteArrayDelta.encode(middle, target);
+        byte[] composed = ByteArrayDelta.compose(first, second);
+
+        // then
+        assertArrayEquals(target, ByteArrayDelta.decode(base, composed));
+        assertArrayEquals(target, ByteArrayDelta.decode(base, ByteArrayDelta.compose(ByteArrayDelta.encode(base, base), second)));
+        assertArrayEquals(base, ByteArrayDelta.decode(base, ByteArrayDelta.compose(first, ByteArrayDelta.encode(middle, base))));
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] data = new byte[length];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,113 @@
+package mage.util;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custom unit tests for {@link CopyOnWriteHashMap}
+ */
+public class CopyOnWriteHashMapTest {
+
+    @Test
+    public void shouldNotChangeOriginalWhenCopyChanges() {
+        // given
+        CopyOnWriteHashMap<String, Integer> original = new CopyOnWriteHashMap<>();
+        original.put("a", 1);
+        original.put("b", 2);
+
+        // when
+        CopyOnWriteHashMap<String, Integer> copy = original.copy();
+        copy.put("a", 10);
+        copy.remove("b");
+        copy.put("c", 3);
+
+        // then
+        assertEquals(Integer.valueOf(1), original.get("a"));
+        assertEquals(Integer.valueOf(2), original.get("b"));
+        assertFalse(original.containsKey("c"));
+        assertEquals(2, copy.size());
+        assertEquals(Integer.valueOf(10), copy.get("a"));
+    }
+
+    @Test
+    public void shouldNotChangeCopyWhenOriginalChanges() {
+        // given
+        CopyOnWriteHashMap<String, Integer> original = new CopyOnWriteHashMap<>();
+        original.put("a", 1);
+        CopyOnWriteHashMap<String, Integer> copy = original.copy();
+
+        // when
+        original.put("a", 10);
+        original.clear();
+
+        // then
+        assertTrue(original.isEmpty());
+        assertEquals(Integer.valueOf(1), copy.get("a"));
+    }
+
+    @Test
+    public void shouldShareUntilChanged() {
+        // given
+        CopyOnWriteHashMap<String, Integer> original = new CopyOnWriteHashMap<>();
+        original.put("a", 1);
+        assertFalse(original.isShared());
+
+        // when
+        CopyOnWriteHashMap<String, Integer> copy = original.copy();
+
+        // then
+        assertTrue(original.isShared());
+        assertTrue(copy.isShared());
+        copy.put("b", 2);
+        assertFalse(copy.isShared());
+        original.put("c", 3);
+        assertFalse(original.isShared());
+    }
+
+    @Test
+    public void shouldKeepCopiesTakenByThreadsApart() throws Exception {
+        // given
+        CopyOnWriteHashMap<Integer, Integer> original = new CopyOnWriteHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            original.put(i, i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when: every thread copies the original and changes its copy
+        List<Future<CopyOnWriteHashMap<Integer, Integer>>> results = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            int value = -t - 1;
+            results.add(executor.submit(() -> {
+                CopyOnWriteHashMap<Integer, Integer> copy = original.copy();
+                for (int i = 0; i < 1000; i++) {
+                    copy.put(i, value);
+                }
+                return copy;
+            }));
+        }
+        List<CopyOnWriteHashMap<Integer, Integer>> copies = new ArrayList<>();
+        for (Future<CopyOnWriteHashMap<Integer, Integer>> result : results) {
+            copies.add(result.get());
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        original.put(0, 100);
+
+        // then
+        for (int i = 1; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), original.get(i));
+        }
+        for (int t = 0; t < copies.size(); t++) {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(Integer.valueOf(-t - 1), copies.get(t).get(i));
+            }
+        }
+    }
+}
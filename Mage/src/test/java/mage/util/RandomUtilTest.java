@@ -0,0 +1,68 @@
+package mage.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link RandomUtil}.
+ */
+public class RandomUtilTest {
+
+    @After
+    public void tearDown() {
+        RandomUtil.clearSeed();
+    }
+
+    @Test
+    public void shouldRepeatValuesWithSameSeed() {
+        // given
+        RandomUtil.setSeed(42);
+        int[] first = nextValues();
+
+        // when
+        RandomUtil.setSeed(42);
+        int[] second = nextValues();
+
+        // then
+        Assert.assertArrayEquals(first, second);
+    }
+
+    @Test
+    public void shouldOnlySeedCurrentThread() throws InterruptedException {
+        // given
+        RandomUtil.setSeed(42);
+
+        // when
+        AtomicInteger otherRandomClass = new AtomicInteger();
+        Thread other = new Thread(() -> otherRandomClass.set(RandomUtil.getRandom() instanceof ThreadLocalRandom ? 1 : 0));
+        other.start();
+        other.join();
+
+        // then
+        Assert.assertEquals(1, otherRandomClass.get());
+        Assert.assertFalse(RandomUtil.getRandom() instanceof ThreadLocalRandom);
+    }
+
+    @Test
+    public void shouldUseThreadLocalRandomAfterClear() {
+        // given
+        RandomUtil.setSeed(42);
+
+        // when
+        RandomUtil.clearSeed();
+
+        // then
+        Assert.assertTrue(RandomUtil.getRandom() instanceof ThreadLocalRandom);
+    }
+
+    private static int[] nextValues() {
+        int[] values = new int[20];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 2 == 0 ? RandomUtil.nextInt(1000) : RandomUtil.nextInt();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,157 @@
+package mage.watchers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import mage.constants.WatcherScope;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for the event type index of {@link Watchers}.
+ */
+public class WatchersTest {
+
+    private final List<String> watched = new ArrayList<>();
+
+    @Test
+    public void shouldWatchDeclaredAndAllTypes() {
+        // given
+        Watchers watchers = new Watchers();
+        watchers.add(new TestWatcher("zone", watched, EnumSet.of(EventType.ZONE_CHANGE)));
+        watchers.add(new TestWatcher("all", watched, null));
+        watchers.add(new TestWatcher("both", watched, EnumSet.of(EventType.ZONE_CHANGE, EventType.DAMAGED_PLAYER)));
+
+        // when, then
+        assertWatched(watchers, EventType.ZONE_CHANGE, "zone", "all", "both");
+        assertWatched(watchers, EventType.DAMAGED_PLAYER, "all", "both");
+        assertWatched(watchers, EventType.UPKEEP_STEP_PRE, "all");
+    }
+
+    @Test
+    public void shouldKeepFirstWatcherOfKey() {
+        // given
+        Watchers watchers = new Watchers();
+        watchers.add(new TestWatcher("zone", watched, EnumSet.of(EventType.ZONE_CHANGE)));
+
+        // when
+        watchers.add(new TestWatcher("zone", watched, EnumSet.of(EventType.DAMAGED_PLAYER)));
+
+        // then
+        assertWatched(watchers, EventType.ZONE_CHANGE, "zone");
+        assertWatched(watchers, EventType.DAMAGED_PLAYER);
+    }
+
+    @Test
+    public void shouldReplaceWatcherOfSameKey() {
+        // given
+        Watchers watchers = new Watchers();
+        watchers.put("key", new TestWatcher("old", watched, EnumSet.of(EventType.ZONE_CHANGE)));
+
+        // when
+        watchers.put("key", new TestWatcher("new", watched, null));
+
+        // then
+        assertWatched(watchers, EventType.ZONE_CHANGE, "new");
+        Assert.assertEquals(1, watchers.size());
+    }
+
+    @Test
+    public void shouldNotWatchRemoved() {
+        // given
+        Watchers watchers = new Watchers();
+        watchers.add(new TestWatcher("zone", watched, EnumSet.of(EventType.ZONE_CHANGE)));
+        watchers.add(new TestWatcher("all", watched, null));
+
+        // when
+        watchers.remove("zone");
+        watchers.remove("all");
+
+        // then
+        assertWatched(watchers, EventType.ZONE_CHANGE);
+    }
+
+    @Test
+    public void shouldIndexCopy() {
+        // given
+        Watchers watchers = new Watchers();
+        watchers.add(new TestWatcher("zone", watched, EnumSet.of(EventType.ZONE_CHANGE)));
+        watchers.add(new TestWatcher("all", watched, null));
+
+        // when
+        Watchers copy = watchers.copy();
+        copy.remove("all");
+
+        // then
+        assertWatched(copy, EventType.ZONE_CHANGE, "zone");
+        assertWatched(watchers, EventType.ZONE_CHANGE, "zone", "all");
+    }
+
+    @Test
+    public void shouldNotWatchAfterClear() {
+        // given
+        Watchers watchers = new Watchers();
+        watchers.add(new TestWatcher("zone", watched, EnumSet.of(EventType.ZONE_CHANGE)));
+        watchers.add(new TestWatcher("all", watched, null));
+
+        // when
+        watchers.clear();
+        watchers.add(new TestWatcher("new", watched, EnumSet.of(EventType.ZONE_CHANGE)));
+
+        // then
+        assertWatched(watchers, EventType.ZONE_CHANGE, "new");
+    }
+
+    private void assertWatched(Watchers watchers, EventType eventType, String... expected) {
+        watched.clear();
+        watchers.watch(GameEvent.getEvent(eventType, UUID.randomUUID(), null), null);
+        List<String> actual = new ArrayList<>(watched);
+        Collections.sort(actual);
+        List<String> expectedList = new ArrayList<>(Arrays.asList(expected));
+        Collections.sort(expectedList);
+        Assert.assertEquals(expectedList, actual);
+    }
+
+    private static class TestWatcher extends Watcher {
+
+        private final String name;
+        private final List<String> watched;
+        private final Set<EventType> eventTypes;
+
+        TestWatcher(String name, List<String> watched, Set<EventType> eventTypes) {
+            super(name, WatcherScope.GAME);
+            this.name = name;
+            this.watched = watched;
+            this.eventTypes = eventTypes;
+        }
+
+        TestWatcher(final TestWatcher watcher) {
+            super(watcher);
+            this.name = watcher.name;
+            this.watched = watcher.watched;
+            this.eventTypes = watcher.eventTypes;
+        }
+
+        @Override
+        public Set<EventType> getWatchedEventTypes() {
+            return eventTypes;
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            watched.add(name);
+        }
+
+        @Override
+        public TestWatcher copy() {
+            return new TestWatcher(this);
+        }
+    }
+}